@@ -0,0 +1,26 @@
+package com.github.i49.hibiscus.benchmarks;
+
+import com.github.i49.hibiscus.validation.JsonValidator;
+import com.github.i49.hibiscus.validation.ValidationResult;
+
+/**
+ * Helpers shared by the benchmarks.
+ */
+final class BenchmarkValidations {
+
+	/**
+	 * Validates the document once to make sure the benchmark measures the document without problems.
+	 * @param validator the validator to be used.
+	 * @param json the document to be validated.
+	 * @exception IllegalStateException if the document has any problems.
+	 */
+	static void checkValid(JsonValidator validator, byte[] json) {
+		ValidationResult result = validator.validate(json, 0, json.length);
+		if (result.hasProblems()) {
+			throw new IllegalStateException(result.getProblems().get(0).getMessage());
+		}
+	}
+	
+	private BenchmarkValidations() {
+	}
+}
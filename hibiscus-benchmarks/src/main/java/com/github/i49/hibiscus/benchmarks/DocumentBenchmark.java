@@ -0,0 +1,70 @@
+package com.github.i49.hibiscus.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.i49.hibiscus.validation.BasicJsonValidator;
+import com.github.i49.hibiscus.validation.JsonValidator;
+import com.github.i49.hibiscus.validation.ValidationResult;
+
+/**
+ * Measures the validation of whole documents of various sizes and shapes.
+ * 
+ * <p>The documents are given both as UTF-8 bytes and as a character stream,
+ * and validated with and without building the JSON values.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DocumentBenchmark {
+
+	@Param({"SMALL", "MEDIUM", "LARGE"})
+	Documents.Size size;
+	
+	@Param({"OBJECTS", "ARRAYS"})
+	Documents.Shape shape;
+	
+	private byte[] json;
+	private JsonValidator validator;
+	private JsonValidator validationOnly;
+	
+	@Setup
+	public void setUp() {
+		this.json = Documents.generate(shape, size);
+		this.validator = new BasicJsonValidator(Documents.schemaOf(shape));
+		this.validationOnly = new BasicJsonValidator(Documents.schemaOf(shape)).validationOnly();
+		BenchmarkValidations.checkValid(this.validator, this.json);
+	}
+	
+	@Benchmark
+	public ValidationResult bytes() {
+		return validator.validate(json, 0, json.length);
+	}
+
+	@Benchmark
+	public ValidationResult reader() {
+		return validator.validate(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8));
+	}
+
+	@Benchmark
+	public ValidationResult bytesValidationOnly() {
+		return validationOnly.validate(json, 0, json.length);
+	}
+}
@@ -0,0 +1,143 @@
+package com.github.i49.hibiscus.benchmarks;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+
+import java.nio.charset.StandardCharsets;
+
+import com.github.i49.hibiscus.schema.Schema;
+
+/**
+ * Generates the JSON documents to be validated by the benchmarks and their schemas.
+ */
+public final class Documents {
+
+	/**
+	 * The number of the records for each size of the documents.
+	 */
+	public enum Size {
+		SMALL(10),
+		MEDIUM(1000),
+		LARGE(100000);
+		
+		private final int records;
+		
+		private Size(int records) {
+			this.records = records;
+		}
+		
+		int getRecords() {
+			return records;
+		}
+	}
+	
+	/**
+	 * The shapes of the documents.
+	 */
+	public enum Shape {
+		/** An array of objects, each of which has nested object and array. */
+		OBJECTS,
+		/** An object holding an array of arrays of numbers. */
+		ARRAYS
+	}
+	
+	/**
+	 * Returns the schema for the documents of the given shape.
+	 * @param shape the shape of the documents.
+	 * @return the schema.
+	 */
+	static Schema schemaOf(Shape shape) {
+		switch (shape) {
+		case OBJECTS:
+			return schema(array(object(
+					required("id", integer()),
+					required("name", string()),
+					required("active", bool()),
+					required("score", number()),
+					optional("address", object(
+							required("city", string()),
+							optional("zip", string()),
+							optional("location", array(number()))
+							)),
+					optional("tags", array(string())),
+					optional("note", string(), nil())
+					)));
+		default:
+			return schema(object(
+					required("name", string()),
+					required("rows", array(array(number(), integer())))
+					));
+		}
+	}
+	
+	/**
+	 * Generates a document.
+	 * @param shape the shape of the document.
+	 * @param size the size of the document.
+	 * @return the document encoded in UTF-8.
+	 */
+	static byte[] generate(Shape shape, Size size) {
+		String json = (shape == Shape.OBJECTS) ? objects(size.getRecords()) : arrays(size.getRecords());
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	private static String objects(int records) {
+		StringBuilder b = new StringBuilder("[\n");
+		for (int i = 0; i < records; i++) {
+			if (i > 0) {
+				b.append(",\n");
+			}
+			b.append("  {\"id\": ").append(i)
+			 .append(", \"name\": \"user").append(i).append("\"")
+			 .append(", \"active\": ").append(i % 2 == 0)
+			 .append(", \"score\": ").append(i).append(".25")
+			 .append(", \"address\": {\"city\": \"Tokyo\", \"zip\": \"100-").append(1000 + i % 9000).append("\"")
+			 .append(", \"location\": [35.68, 139.76]}")
+			 .append(", \"tags\": [\"alpha\", \"beta\", \"gamma\"]")
+			 .append(", \"note\": ").append(i % 3 == 0 ? "null" : "\"note\"")
+			 .append("}");
+		}
+		return b.append("\n]\n").toString();
+	}
+	
+	private static String arrays(int records) {
+		StringBuilder b = new StringBuilder("{\"name\": \"matrix\", \"rows\": [\n");
+		for (int i = 0; i < records; i++) {
+			if (i > 0) {
+				b.append(",\n");
+			}
+			b.append("  [");
+			for (int j = 0; j < 10; j++) {
+				if (j > 0) {
+					b.append(", ");
+				}
+				if (j % 2 == 0) {
+					b.append(i + j);
+				} else {
+					b.append(i).append('.').append(j);
+				}
+			}
+			b.append("]");
+		}
+		return b.append("\n]}\n").toString();
+	}
+	
+	/**
+	 * Generates an array of the string values.
+	 * @param values the string values to be repeated.
+	 * @param length the length of the array.
+	 * @return the document encoded in UTF-8.
+	 */
+	static byte[] stringArray(String[] values, int length) {
+		StringBuilder b = new StringBuilder("[");
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				b.append(", ");
+			}
+			b.append('"').append(values[i % values.length]).append('"');
+		}
+		return b.append("]").toString().getBytes(StandardCharsets.UTF_8);
+	}
+	
+	private Documents() {
+	}
+}
@@ -0,0 +1,112 @@
+package com.github.i49.hibiscus.benchmarks;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.i49.hibiscus.schema.Schema;
+import com.github.i49.hibiscus.validation.BasicJsonValidator;
+import com.github.i49.hibiscus.validation.JsonValidator;
+import com.github.i49.hibiscus.validation.ValidationResult;
+
+/**
+ * Measures the facets which are expected to be costly, by validating an array of the values restricted by them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FacetBenchmark {
+
+	private static final int LENGTH = 1000;
+	
+	/**
+	 * The facets to be measured.
+	 */
+	public enum Kind {
+		/** {@code PatternFacet} on strings. */
+		PATTERN,
+		/** {@code EnumerationFacet} on strings. */
+		STRING_ENUMERATION,
+		/** {@code EnumerationFacet} on integers. */
+		INTEGER_ENUMERATION,
+		/** {@code UniqueItemFacet} on the array of strings. */
+		UNIQUE,
+		/** Bounds on integers. */
+		INTEGER_RANGE,
+		/** Bounds on decimal numbers. */
+		NUMBER_RANGE
+	}
+	
+	@Param
+	Kind kind;
+	
+	private byte[] json;
+	private JsonValidator validator;
+	
+	@Setup
+	public void setUp() {
+		Schema schema;
+		switch (kind) {
+		case PATTERN:
+			schema = schema(array(string().pattern("[A-Z]{3}-\\d{4}")));
+			this.json = Documents.stringArray(new String[] {"ABC-1234", "XYZ-0001", "HIB-2016"}, LENGTH);
+			break;
+		case STRING_ENUMERATION:
+			schema = schema(array(string().enumeration("red", "green", "blue", "cyan", "magenta", "yellow", "black")));
+			this.json = Documents.stringArray(new String[] {"red", "yellow", "black"}, LENGTH);
+			break;
+		case INTEGER_ENUMERATION:
+			schema = schema(array(integer().enumeration(1, 2, 3, 5, 8, 13, 21, 34)));
+			this.json = itemArray(i -> String.valueOf(new int[] {1, 8, 34}[i % 3]));
+			break;
+		case UNIQUE:
+			schema = schema(array(string()).unique());
+			this.json = itemArray(i -> "\"item" + i + "\"");
+			break;
+		case INTEGER_RANGE:
+			schema = schema(array(integer().minInclusive(0).maxExclusive(1000000)));
+			this.json = itemArray(i -> String.valueOf(i * 997));
+			break;
+		default:
+			schema = schema(array(number().minExclusive(new BigDecimal("-1.5")).maxInclusive(new BigDecimal("10000.25"))));
+			this.json = itemArray(i -> i + ".125");
+			break;
+		}
+		this.validator = new BasicJsonValidator(schema).validationOnly();
+		BenchmarkValidations.checkValid(this.validator, this.json);
+	}
+	
+	@Benchmark
+	public ValidationResult validate() {
+		return validator.validate(json, 0, json.length);
+	}
+	
+	private static byte[] itemArray(IntFunction<String> item) {
+		StringBuilder b = new StringBuilder("[");
+		for (int i = 0; i < LENGTH; i++) {
+			if (i > 0) {
+				b.append(", ");
+			}
+			b.append(item.apply(i));
+		}
+		return b.append("]").toString().getBytes(StandardCharsets.UTF_8);
+	}
+}
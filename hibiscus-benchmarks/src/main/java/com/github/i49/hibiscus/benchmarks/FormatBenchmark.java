@@ -0,0 +1,78 @@
+package com.github.i49.hibiscus.benchmarks;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.i49.hibiscus.formats.Formats;
+import com.github.i49.hibiscus.formats.StringFormat;
+import com.github.i49.hibiscus.validation.BasicJsonValidator;
+import com.github.i49.hibiscus.validation.JsonValidator;
+import com.github.i49.hibiscus.validation.ValidationResult;
+
+/**
+ * Measures each of the built-in formats by validating an array of the strings of the format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FormatBenchmark {
+
+	private static final int LENGTH = 1000;
+	
+	/**
+	 * The built-in formats with the sample values.
+	 */
+	public enum Sample {
+		DATETIME(Formats.datetime(), "2016-11-05T12:34:56Z", "1985-04-12T23:20:50.52+09:00"),
+		EMAIL(Formats.email(), "john.smith@example.com", "info@i49.github.com"),
+		HOSTNAME(Formats.hostname(), "www.example.com", "mail.example.org"),
+		IPV4(Formats.ipv4(), "192.168.0.1", "8.8.8.8"),
+		IPV6(Formats.ipv6(), "2001:db8::1", "fe80:0:0:0:200:f8ff:fe21:67cf"),
+		HOST(Formats.host(), "www.example.com", "192.168.0.1"),
+		HOSTPORT(Formats.hostport(), "www.example.com:8080", "192.168.0.1:443"),
+		ANY_URI(Formats.anyURI(), "http://www.example.com/index.html", "../images/logo.png"),
+		ABSOLUTE_URI(Formats.absoluteURI(), "http://www.example.com/index.html", "urn:isbn:0451450523");
+		
+		private final StringFormat format;
+		private final String[] values;
+		
+		private Sample(StringFormat format, String... values) {
+			this.format = format;
+			this.values = values;
+		}
+	}
+	
+	@Param
+	Sample sample;
+	
+	private byte[] json;
+	private JsonValidator validator;
+	
+	@Setup
+	public void setUp() {
+		this.json = Documents.stringArray(sample.values, LENGTH);
+		this.validator = new BasicJsonValidator(schema(array(string().format(sample.format)))).validationOnly();
+		BenchmarkValidations.checkValid(this.validator, this.json);
+	}
+	
+	@Benchmark
+	public ValidationResult validate() {
+		return validator.validate(json, 0, json.length);
+	}
+}
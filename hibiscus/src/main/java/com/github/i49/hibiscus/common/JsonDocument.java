@@ -52,7 +52,8 @@ public class JsonDocument {
 			if (type == JsonValue.ValueType.ARRAY) {
 				if ((token instanceof Integer)) {
 					int index = ((Integer)token).intValue();
-					current = ((JsonArray)current).get(index);
+					JsonArray array = (JsonArray)current;
+					current = (index < array.size()) ? array.get(index) : null;
 				} else {
 					current = null;
 				}
@@ -2,7 +2,7 @@ package com.github.i49.hibiscus.common;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -11,12 +11,21 @@ import java.util.List;
  * JSON pointer which defines a string syntax for identifying a specific value within JSON document.
  * This object is immutable and cannot be modified one created.
  * 
+ * <p>Each JSON pointer holds only its last reference token and refers to its parent pointer for the others,
+ * therefore the pointers to the sibling values share the same parent pointer.
+ * The string and the list representations of the pointer are not constructed until they are requested.</p>
+ * 
  * @see <a href="https://tools.ietf.org/rfc/rfc6901.txt">RFC 6901: JavaScript Object Notation (JSON) Pointer</a>
  */
 public class JsonPointer implements Iterable<Object> {
 
-	private final List<Object> tokens;
-	private static final JsonPointer DOCUMENT_ROOT = new JsonPointer(Collections.emptyList());
+	private static final JsonPointer DOCUMENT_ROOT = new JsonPointer(null, null);
+
+	private final JsonPointer parent;
+	private final Object token;
+	private final int size;
+	private List<Object> tokens;
+	private String string;
 			
 	/**
 	 * Creates a builder to build an instance of this class.
@@ -35,10 +44,34 @@ public class JsonPointer implements Iterable<Object> {
 	}
 	
 	/**
-	 * Constructs this builder.
+	 * Constructs this pointer.
+	 * @param parent the parent pointer, or {@code null} if this pointer refers to the document root.
+	 * @param token the last reference token of this pointer.
+	 */
+	private JsonPointer(JsonPointer parent, Object token) {
+		this.parent = parent;
+		this.token = token;
+		this.size = (parent != null) ? parent.size + 1 : 0;
+	}
+	
+	/**
+	 * Returns the JSON pointer which refers to the item at the specified index in the array
+	 * referred by this pointer.
+	 * @param index the index of the item.
+	 * @return the JSON pointer to the item.
+	 */
+	public JsonPointer child(int index) {
+		return new JsonPointer(this, Integer.valueOf(index));
+	}
+
+	/**
+	 * Returns the JSON pointer which refers to the property of the specified name in the object
+	 * referred by this pointer.
+	 * @param name the name of the property.
+	 * @return the JSON pointer to the property.
 	 */
-	private JsonPointer(List<Object> tokens) {
-		this.tokens = tokens;
+	public JsonPointer child(String name) {
+		return new JsonPointer(this, name);
 	}
 	
 	/**
@@ -47,12 +80,17 @@ public class JsonPointer implements Iterable<Object> {
 	 */
 	@Override
 	public String toString() {
-		StringBuilder b = new StringBuilder();
-		for (Object token: tokens) {
-			b.append("/");
-			b.append(escape(token.toString()));
+		String s = this.string;
+		if (s == null) {
+			StringBuilder b = new StringBuilder();
+			for (Object token: getTokens()) {
+				b.append("/");
+				b.append(escape(token.toString()));
+			}
+			s = b.toString();
+			this.string = s;
 		}
-		return b.toString();
+		return s;
 	}
 	
 	/**
@@ -73,7 +111,28 @@ public class JsonPointer implements Iterable<Object> {
 	 */
 	@Override
 	public Iterator<Object> iterator() {
-		return this.tokens.iterator();
+		return getTokens().iterator();
+	}
+	
+	/**
+	 * Returns all reference tokens of this pointer in order from the document root.
+	 * @return the unmodifiable list of the reference tokens.
+	 */
+	private List<Object> getTokens() {
+		List<Object> list = this.tokens;
+		if (list == null) {
+			if (this.size == 0) {
+				list = Collections.emptyList();
+			} else {
+				Object[] array = new Object[this.size];
+				for (JsonPointer p = this; p.parent != null; p = p.parent) {
+					array[p.size - 1] = p.token;
+				}
+				list = Collections.unmodifiableList(Arrays.asList(array));
+			}
+			this.tokens = list;
+		}
+		return list;
 	}
 	
 	/**
@@ -82,7 +141,7 @@ public class JsonPointer implements Iterable<Object> {
 	 * @return escaped token.
 	 */
 	private static String escape(String token) {
-		return token.replaceAll("~", "~0").replaceAll("/", "~1");
+		return token.replace("~", "~0").replace("/", "~1");
 	}
 	
 	/**
@@ -90,7 +149,7 @@ public class JsonPointer implements Iterable<Object> {
 	 */
 	public static class Builder {
 	
-		private final List<Object> tokens = new ArrayList<>();
+		private JsonPointer pointer = DOCUMENT_ROOT;
 		
 		private Builder() {
 		}
@@ -101,7 +160,7 @@ public class JsonPointer implements Iterable<Object> {
 		 * @return this builder.
 		 */
 		public Builder append(int index) {
-			tokens.add(Integer.valueOf(index));
+			pointer = pointer.child(index);
 			return this;
 		}
 
@@ -111,7 +170,7 @@ public class JsonPointer implements Iterable<Object> {
 		 * @return this builder.
 		 */
 		public Builder append(String name) {
-			tokens.add(name);
+			pointer = pointer.child(name);
 			return this;
 		}
 		
@@ -120,11 +179,7 @@ public class JsonPointer implements Iterable<Object> {
 		 * @return built JSON pointer.
 		 */
 		public JsonPointer build() {
-			if (tokens.isEmpty()) {
-				return JsonPointer.getPointerToDocumentRoot();
-			} else {
-				return new JsonPointer(tokens);
-			}
+			return pointer;
 		}
 	}
 }
@@ -42,4 +42,14 @@ public class AssertionFacet<V extends JsonValue> implements Facet<V> {
 			problems.add(new AssertionFailureProblem<V>(this.describer));
 		}
 	}
+
+	/**
+	 * Returns the description of this facet in the same form as the method which declares it in the schema,
+	 * e.g. {@code maxLength(8)}.
+	 * @return the description of this facet.
+	 */
+	@Override
+	public String toString() {
+		return "assertion()";
+	}
 }
@@ -1,5 +1,6 @@
 package com.github.i49.hibiscus.facets;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -49,10 +50,35 @@ public class EnumerationFacet<V extends JsonValue, E> implements Facet<V> {
 		this.mapper = mapper;
 	}
 
+	/**
+	 * Returns the set of valid values.
+	 * @return the unmodifiable set of valid values.
+	 */
+	public Set<Object> getEnumerators() {
+		return Collections.unmodifiableSet(enumerators);
+	}
+
 	@Override
 	public void apply(V value, List<Problem> problems) {
 		if (!enumerators.contains(mapper.apply(value))) {
 			problems.add(new NoSuchEnumeratorProblem(enumerators));
 		}
 	}
+
+	/**
+	 * Returns the description of this facet in the same form as the method which declares it in the schema,
+	 * e.g. {@code maxLength(8)}.
+	 * @return the description of this facet.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder b = new StringBuilder("enumeration(");
+		for (Object enumerator: enumerators) {
+			if (b.length() > 12) {
+				b.append(", ");
+			}
+			b.append(enumerator);
+		}
+		return b.append(")").toString();
+	}
 }
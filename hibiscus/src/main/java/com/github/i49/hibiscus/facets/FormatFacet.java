@@ -46,4 +46,21 @@ public class FormatFacet<V extends JsonValue> implements Facet<V> {
 			}
 		}
 	}
+
+	/**
+	 * Returns the description of this facet in the same form as the method which declares it in the schema,
+	 * e.g. {@code maxLength(8)}.
+	 * @return the description of this facet.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder b = new StringBuilder("format(");
+		for (Format<V> format: formats) {
+			if (b.length() > 7) {
+				b.append(", ");
+			}
+			b.append(format.getName());
+		}
+		return b.append(")").toString();
+	}
 }
@@ -37,12 +37,40 @@ public class MaxLengthFacet<V extends JsonValue> implements Facet<V> {
 		this.lengthMapper = lengthMapper;
 		this.problemFactory = problemFactory;
 	}
+
+	/**
+	 * Returns the maximum length allowed for the type.
+	 * @return the maximum length.
+	 */
+	public int getMaxLength() {
+		return maxLength;
+	}
 	
 	@Override
 	public void apply(V value, List<Problem> problems) {
-		int length = lengthMapper.applyAsInt(value);
+		applyToLength(lengthMapper.applyAsInt(value), problems);
+	}
+	
+	/**
+	 * Applies this facet to the length of a value which was measured in advance.
+	 * This method allows the length to be validated without the value itself.
+	 * 
+	 * @param length the length of the value in JSON document.
+	 * @param problems the list of problems to which new problems found by this facet will be added.
+	 */
+	public void applyToLength(int length, List<Problem> problems) {
 		if (length > maxLength) {
 			problems.add(problemFactory.newProblem(length, maxLength));
 		}
 	}
+
+	/**
+	 * Returns the description of this facet in the same form as the method which declares it in the schema,
+	 * e.g. {@code maxLength(8)}.
+	 * @return the description of this facet.
+	 */
+	@Override
+	public String toString() {
+		return "maxLength(" + maxLength + ")";
+	}
 }
\ No newline at end of file
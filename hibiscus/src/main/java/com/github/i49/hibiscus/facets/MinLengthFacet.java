@@ -37,12 +37,40 @@ public class MinLengthFacet<V extends JsonValue> implements Facet<V> {
 		this.lengthMapper = lengthMapper;
 		this.problemFactory = problemFactory;
 	}
+
+	/**
+	 * Returns the minimum length allowed for the type.
+	 * @return the minimum length.
+	 */
+	public int getMinLength() {
+		return minLength;
+	}
 	
 	@Override
 	public void apply(V value, List<Problem> problems) {
-		int length = lengthMapper.applyAsInt(value);
+		applyToLength(lengthMapper.applyAsInt(value), problems);
+	}
+	
+	/**
+	 * Applies this facet to the length of a value which was measured in advance.
+	 * This method allows the length to be validated without the value itself.
+	 * 
+	 * @param length the length of the value in JSON document.
+	 * @param problems the list of problems to which new problems found by this facet will be added.
+	 */
+	public void applyToLength(int length, List<Problem> problems) {
 		if (length < minLength) {
 			problems.add(problemFactory.newProblem(length, minLength));
 		}
 	}
+
+	/**
+	 * Returns the description of this facet in the same form as the method which declares it in the schema,
+	 * e.g. {@code maxLength(8)}.
+	 * @return the description of this facet.
+	 */
+	@Override
+	public String toString() {
+		return "minLength(" + minLength + ")";
+	}
 }
\ No newline at end of file
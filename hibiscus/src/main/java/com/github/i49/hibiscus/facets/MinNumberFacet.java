@@ -35,6 +35,14 @@ public class MinNumberFacet implements Facet<JsonNumber> {
 	public MinNumberFacet(BigDecimal bound, boolean exclusive) {
 		this.bound = Bound.of(bound, exclusive);
 	}
+	
+	/**
+	 * Returns the lower bound of the valid range.
+	 * @return the lower bound of the valid range.
+	 */
+	public Bound<BigDecimal> getBound() {
+		return bound;
+	}
 
 	@Override
 	public void apply(JsonNumber value, List<Problem> problems) {
@@ -50,4 +58,14 @@ public class MinNumberFacet implements Facet<JsonNumber> {
 			}
 		}
 	}
+
+	/**
+	 * Returns the description of this facet in the same form as the method which declares it in the schema,
+	 * e.g. {@code maxLength(8)}.
+	 * @return the description of this facet.
+	 */
+	@Override
+	public String toString() {
+		return (bound.isExclusive() ? "minExclusive(" : "minInclusive(") + bound.getValue() + ")";
+	}
 }
@@ -38,6 +38,14 @@ public class PatternFacet implements Facet<JsonString> {
 	public PatternFacet(String regex) {
 		this.pattern = Pattern.compile(regex);
 	}
+
+	/**
+	 * Returns the compiled regular expression.
+	 * @return the compiled regular expression.
+	 */
+	public Pattern getPattern() {
+		return pattern;
+	}
 	
 	@Override
 	public void apply(JsonString value, List<Problem> problems) {
@@ -46,4 +54,14 @@ public class PatternFacet implements Facet<JsonString> {
 			problems.add(new StringPatternProblem());
 		}
 	}
+
+	/**
+	 * Returns the description of this facet in the same form as the method which declares it in the schema,
+	 * e.g. {@code maxLength(8)}.
+	 * @return the description of this facet.
+	 */
+	@Override
+	public String toString() {
+		return "pattern(" + pattern.pattern() + ")";
+	}
 }
\ No newline at end of file
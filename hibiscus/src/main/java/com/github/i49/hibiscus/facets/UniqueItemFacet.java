@@ -39,4 +39,14 @@ public class UniqueItemFacet implements Facet<JsonArray> {
 			index++;
 		}
 	}
+
+	/**
+	 * Returns the description of this facet in the same form as the method which declares it in the schema,
+	 * e.g. {@code maxLength(8)}.
+	 * @return the description of this facet.
+	 */
+	@Override
+	public String toString() {
+		return "unique()";
+	}
 }
@@ -16,6 +16,7 @@ abstract class AbstractProblem implements Problem {
 	private JsonLocation location;
 	private JsonPointer pointer;
 	private JsonDocument document;
+	private JsonValue causeValue;
 	
 	@Override
 	public JsonLocation getLocation() {
@@ -39,8 +40,16 @@ abstract class AbstractProblem implements Problem {
 		this.document = document;
 	}
 	
+	@Override
+	public void setCauseValue(JsonValue value) {
+		this.causeValue = value;
+	}
+	
 	@Override
 	public JsonValue getCauseValue() {
+		if (this.causeValue != null) {
+			return this.causeValue;
+		}
 		if (this.document == null || this.pointer == null) {
 			return null;
 		}
@@ -0,0 +1,40 @@
+package com.github.i49.hibiscus.problems;
+
+import java.util.Locale;
+
+import javax.json.JsonValue;
+
+/**
+ * Problem that the input of a JSON document is larger than the limit configured for the validator.
+ * 
+ * <p>This problem is not caused by any type in the schema.
+ * The validator stops reading the JSON document immediately when the input exceeded the limit,
+ * or does not read the document at all when its size is known in advance.
+ * This problem always refers to the root of the document.</p>
+ */
+public class DocumentTooLargeProblem extends TypedProblem<JsonValue> {
+
+	private final long limitSize;
+
+	/**
+	 * Constructs this problem.
+	 * @param limitSize the maximum size of the input allowed by the validator.
+	 */
+	public DocumentTooLargeProblem(long limitSize) {
+		this.limitSize = limitSize;
+	}
+
+	/**
+	 * Returns the maximum size of the input allowed by the validator,
+	 * which is measured in bytes or in characters depending on the input.
+	 * @return the maximum size of the input.
+	 */
+	public long getLimitSize() {
+		return limitSize;
+	}
+
+	@Override
+	public String buildDescription(Locale locale) {
+		return Messages.DOCUMENT_TOO_LARGE_PROBLEM(locale, getLimitSize());
+	}
+}
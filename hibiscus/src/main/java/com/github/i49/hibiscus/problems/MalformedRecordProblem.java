@@ -0,0 +1,39 @@
+package com.github.i49.hibiscus.problems;
+
+import java.util.Locale;
+
+import javax.json.JsonValue;
+
+/**
+ * Problem that a record in newline-delimited JSON input is not well-formed.
+ * 
+ * <p>This problem is not caused by any type in the schema.
+ * The validator reports this problem as the only problem of the record 
+ * and continues to validate the following records.
+ * This problem always refers to the root of the record.</p>
+ */
+public class MalformedRecordProblem extends TypedProblem<JsonValue> {
+
+	private final String reason;
+
+	/**
+	 * Constructs this problem.
+	 * @param reason the reason why the record is not well-formed, reported by the JSON parser.
+	 */
+	public MalformedRecordProblem(String reason) {
+		this.reason = reason;
+	}
+
+	/**
+	 * Returns the reason why the record is not well-formed, reported by the JSON parser.
+	 * @return the reason of this problem.
+	 */
+	public String getReason() {
+		return reason;
+	}
+
+	@Override
+	public String buildDescription(Locale locale) {
+		return Messages.MALFORMED_RECORD_PROBLEM(locale, getReason());
+	}
+}
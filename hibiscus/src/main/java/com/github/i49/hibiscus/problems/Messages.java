@@ -107,6 +107,30 @@ final class Messages {
 		return localize(locale, "INCLUSIVE_UPPER_BOUND_PROBLEM", value, upperBound);
 	}
 	
+	static String NESTING_TOO_DEEP_PROBLEM(Locale locale, int limitDepth) {
+		return localize(locale, "NESTING_TOO_DEEP_PROBLEM", limitDepth);
+	}
+
+	static String TOKEN_TOO_LONG_PROBLEM(Locale locale, int actualLength, int limitLength) {
+		return localize(locale, "TOKEN_TOO_LONG_PROBLEM", actualLength, limitLength);
+	}
+
+	static String TOO_MANY_PROPERTIES_PROBLEM(Locale locale, int limitCount) {
+		return localize(locale, "TOO_MANY_PROPERTIES_PROBLEM", limitCount);
+	}
+
+	static String TOO_MANY_ITEMS_PROBLEM(Locale locale, int limitCount) {
+		return localize(locale, "TOO_MANY_ITEMS_PROBLEM", limitCount);
+	}
+
+	static String DOCUMENT_TOO_LARGE_PROBLEM(Locale locale, long limitSize) {
+		return localize(locale, "DOCUMENT_TOO_LARGE_PROBLEM", limitSize);
+	}
+
+	static String MALFORMED_RECORD_PROBLEM(Locale locale, String reason) {
+		return localize(locale, "MALFORMED_RECORD_PROBLEM", reason);
+	}
+
 	static <V extends JsonValue> String INVALID_FORMAT_PROBLEM(Locale locale, JsonValue value, Set<Format<V>> formats) {
 		return localize(locale, "INVALID_FORMAT_PROBLEM", value, formats);
 	}
@@ -0,0 +1,38 @@
+package com.github.i49.hibiscus.problems;
+
+import java.util.Locale;
+
+import javax.json.JsonStructure;
+
+/**
+ * Problem that arrays or objects are nested more deeply than the limit configured for the validator.
+ * 
+ * <p>This problem is not caused by any type in the schema.
+ * The validator stops reading the JSON document immediately when this problem was found,
+ * therefore the array or the object which caused this problem is not available as the cause value.</p>
+ */
+public class NestingTooDeepProblem extends TypedProblem<JsonStructure> {
+
+	private final int limitDepth;
+
+	/**
+	 * Constructs this problem.
+	 * @param limitDepth the maximum depth of nesting allowed by the validator.
+	 */
+	public NestingTooDeepProblem(int limitDepth) {
+		this.limitDepth = limitDepth;
+	}
+
+	/**
+	 * Returns the maximum depth of nesting allowed by the validator.
+	 * @return the maximum depth of nesting.
+	 */
+	public int getLimitDepth() {
+		return limitDepth;
+	}
+
+	@Override
+	public String buildDescription(Locale locale) {
+		return Messages.NESTING_TOO_DEEP_PROBLEM(locale, getLimitDepth());
+	}
+}
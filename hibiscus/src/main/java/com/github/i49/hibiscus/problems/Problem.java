@@ -209,9 +209,20 @@ public interface Problem {
 	 */
 	void setPointer(JsonPointer pointer, JsonDocument document);
 	
+	/**
+	 * Assigns the actual {@link JsonValue} which caused this problem.
+	 * The value assigned by this method takes precedence over the value referred by the JSON pointer.
+	 * The default implementation does nothing.
+	 * @param value the value which caused this problem, or {@code null} if the value is not available.
+	 */
+	default void setCauseValue(JsonValue value) {
+	}
+	
 	/**
 	 * Returns the actual {@link JsonValue} which caused this problem.
-	 * @return the actual {@link JsonValue} which caused this problem.
+	 * @return the actual {@link JsonValue} which caused this problem,
+	 *         or {@code null} if the value is not available, 
+	 *         e.g. when the validator does not build the JSON values and the value was not needed by any facets.
 	 */
 	JsonValue getCauseValue();
 	
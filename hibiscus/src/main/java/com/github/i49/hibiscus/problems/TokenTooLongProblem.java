@@ -0,0 +1,50 @@
+package com.github.i49.hibiscus.problems;
+
+import java.util.Locale;
+
+import javax.json.JsonValue;
+
+/**
+ * Problem that a string, a number or a property name is longer than the limit configured for the validator.
+ * 
+ * <p>This problem is not caused by any type in the schema.
+ * The validator stops reading the JSON document immediately when this problem was found,
+ * without converting the token into a value.
+ * When the token is a property name, this problem refers to the object which has the property.</p>
+ */
+public class TokenTooLongProblem extends TypedProblem<JsonValue> {
+
+	private final int actualLength;
+	private final int limitLength;
+
+	/**
+	 * Constructs this problem.
+	 * @param actualLength the actual number of characters in the token.
+	 * @param limitLength the maximum number of characters allowed by the validator.
+	 */
+	public TokenTooLongProblem(int actualLength, int limitLength) {
+		this.actualLength = actualLength;
+		this.limitLength = limitLength;
+	}
+
+	/**
+	 * Returns the actual number of characters in the token.
+	 * @return the actual number of characters.
+	 */
+	public int getActualLength() {
+		return actualLength;
+	}
+
+	/**
+	 * Returns the maximum number of characters allowed by the validator.
+	 * @return the maximum number of characters.
+	 */
+	public int getLimitLength() {
+		return limitLength;
+	}
+
+	@Override
+	public String buildDescription(Locale locale) {
+		return Messages.TOKEN_TOO_LONG_PROBLEM(locale, getActualLength(), getLimitLength());
+	}
+}
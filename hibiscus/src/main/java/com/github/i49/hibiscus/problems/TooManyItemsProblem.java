@@ -0,0 +1,38 @@
+package com.github.i49.hibiscus.problems;
+
+import java.util.Locale;
+
+import javax.json.JsonArray;
+
+/**
+ * Problem that an array has more elements than the limit configured for the validator.
+ * 
+ * <p>This problem is not caused by any type in the schema.
+ * The validator stops reading the JSON document immediately 
+ * when the first element beyond the limit was found.</p>
+ */
+public class TooManyItemsProblem extends TypedProblem<JsonArray> {
+
+	private final int limitCount;
+
+	/**
+	 * Constructs this problem.
+	 * @param limitCount the maximum number of elements allowed by the validator.
+	 */
+	public TooManyItemsProblem(int limitCount) {
+		this.limitCount = limitCount;
+	}
+
+	/**
+	 * Returns the maximum number of elements allowed by the validator.
+	 * @return the maximum number of elements.
+	 */
+	public int getLimitCount() {
+		return limitCount;
+	}
+
+	@Override
+	public String buildDescription(Locale locale) {
+		return Messages.TOO_MANY_ITEMS_PROBLEM(locale, getLimitCount());
+	}
+}
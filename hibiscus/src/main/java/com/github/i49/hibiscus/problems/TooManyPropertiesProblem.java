@@ -0,0 +1,38 @@
+package com.github.i49.hibiscus.problems;
+
+import java.util.Locale;
+
+import javax.json.JsonObject;
+
+/**
+ * Problem that an object has more properties than the limit configured for the validator.
+ * 
+ * <p>This problem is not caused by any type in the schema.
+ * The validator stops reading the JSON document immediately 
+ * when the first property beyond the limit was found.</p>
+ */
+public class TooManyPropertiesProblem extends TypedProblem<JsonObject> {
+
+	private final int limitCount;
+
+	/**
+	 * Constructs this problem.
+	 * @param limitCount the maximum number of properties allowed by the validator.
+	 */
+	public TooManyPropertiesProblem(int limitCount) {
+		this.limitCount = limitCount;
+	}
+
+	/**
+	 * Returns the maximum number of properties allowed by the validator.
+	 * @return the maximum number of properties.
+	 */
+	public int getLimitCount() {
+		return limitCount;
+	}
+
+	@Override
+	public String buildDescription(Locale locale) {
+		return Messages.TOO_MANY_PROPERTIES_PROBLEM(locale, getLimitCount());
+	}
+}
@@ -1,10 +1,12 @@
 package com.github.i49.hibiscus.schema;
 
+import java.util.Collections;
 import java.util.List;
 
 import javax.json.JsonValue;
 
 import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.facets.Facet;
 import com.github.i49.hibiscus.problems.Problem;
 import com.github.i49.hibiscus.validation.JsonValidator;
 
@@ -31,4 +33,15 @@ public interface JsonType {
 	 */
 	default void validateInstance(JsonValue value, List<Problem> problems) {
 	}
+	
+	/**
+	 * Returns all facets added to this type in the order of declaration.
+	 * This method is for internal use only and only
+	 * {@link JsonValidator} implementations are allowed to call this method directly. 
+	 * 
+	 * @return the unmodifiable list of facets, which never be {@code null}.
+	 */
+	default List<Facet<?>> getFacets() {
+		return Collections.emptyList();
+	}
  }
@@ -1,5 +1,7 @@
 package com.github.i49.hibiscus.schema;
 
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javax.json.JsonObject;
@@ -83,6 +85,34 @@ public interface ObjectType extends CompositeType {
 	 */
 	Property getProperty(String name);
 	
+	/**
+	 * Returns all properties declared for this object type.
+	 * The properties which have determined names come first in the order of declaration,
+	 * and then the pattern properties follow in the order of declaration. 
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.
+	 * The object type which does not implement this method cannot be compiled by the validators.</p>
+	 * 
+	 * @return the unmodifiable collection of the properties, which never be {@code null}.
+	 * @exception UnsupportedOperationException if this object type does not support this operation.
+	 */
+	default Collection<Property> getProperties() {
+		throw new UnsupportedOperationException();
+	}
+	
+	/**
+	 * Returns the names of all properties which are declared as required for this object type.
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.
+	 * The object type which does not implement this method cannot be compiled by the validators.</p>
+	 * 
+	 * @return the unmodifiable set of the names of the required properties, which never be {@code null}.
+	 * @exception UnsupportedOperationException if this object type does not support this operation.
+	 */
+	default Set<String> getRequiredPropertyNames() {
+		throw new UnsupportedOperationException();
+	}
+	
 	/**
 	 * Returns {@code true} if this object allows properties not declared explicitly.
 	 * @return {@code true} if this object allows properties not declared explicitly, {@code false} otherwise.
@@ -1,6 +1,7 @@
 package com.github.i49.hibiscus.schema.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -36,6 +37,14 @@ abstract class AbstractJsonType<V extends JsonValue, T extends JsonType> impleme
 		}
 	}
 
+	@Override
+	public List<Facet<?>> getFacets() {
+		if (this.facets == null) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(this.facets);
+	}
+
 	/**
 	 * Returns a string representation of this {@link JsonType}.
 	 * @return a string representation of this {@link JsonType}. 
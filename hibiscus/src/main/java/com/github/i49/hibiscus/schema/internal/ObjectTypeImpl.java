@@ -1,8 +1,10 @@
 package com.github.i49.hibiscus.schema.internal;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,20 +13,20 @@ import java.util.function.Predicate;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
+import com.github.i49.hibiscus.problems.MissingPropertyProblem;
+import com.github.i49.hibiscus.problems.Problem;
 import com.github.i49.hibiscus.problems.ProblemDescriber;
 import com.github.i49.hibiscus.schema.NamedProperty;
 import com.github.i49.hibiscus.schema.ObjectType;
 import com.github.i49.hibiscus.schema.Property;
 import com.github.i49.hibiscus.schema.SchemaException;
-import com.github.i49.hibiscus.problems.MissingPropertyProblem;
-import com.github.i49.hibiscus.problems.Problem;
 
 /**
  * The implementation class of {@link ObjectType}.
  */
 public class ObjectTypeImpl extends AbstractJsonType<JsonObject, ObjectType> implements ObjectType {
 
-	private final Map<String, NamedProperty> properties = new HashMap<>();
+	private final Map<String, NamedProperty> properties = new LinkedHashMap<>();
 	private final Set<String> required = new HashSet<>();
 	private boolean moreProperties = false;
 	private List<Property> patternProperties;
@@ -43,6 +45,13 @@ public class ObjectTypeImpl extends AbstractJsonType<JsonObject, ObjectType> imp
 		return this;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <p>In addition to the facets, this method reports {@link MissingPropertyProblem} 
+	 * for each required property not found in the object.
+	 * The validator does not call this method, because it tracks the required properties 
+	 * while reading the object.</p>
+	 */
 	@Override
 	public void validateInstance(JsonValue value, List<Problem> problems) {
 		super.validateInstance(value, problems);
@@ -77,6 +86,20 @@ public class ObjectTypeImpl extends AbstractJsonType<JsonObject, ObjectType> imp
 		return found;
 	}
 	
+	@Override
+	public Collection<Property> getProperties() {
+		List<Property> all = new ArrayList<>(this.properties.values());
+		if (this.patternProperties != null) {
+			all.addAll(this.patternProperties);
+		}
+		return Collections.unmodifiableList(all);
+	}
+	
+	@Override
+	public Set<String> getRequiredPropertyNames() {
+		return Collections.unmodifiableSet(this.required);
+	}
+	
 	@Override
 	public boolean allowsMoreProperties() {
 		return moreProperties;
@@ -34,4 +34,13 @@ public class PredicatePatternProperty extends PatternProperty {
 	public boolean matches(String name) {
 		return this.predicate.test(name);
 	}
+
+	/**
+	 * Returns {@code *} which stands for any names accepted by the predicate.
+	 * @return {@code *} always.
+	 */
+	@Override
+	public String toString() {
+		return "*";
+	}
 }
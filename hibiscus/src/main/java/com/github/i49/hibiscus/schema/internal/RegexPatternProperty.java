@@ -37,4 +37,13 @@ public class RegexPatternProperty extends PatternProperty {
 		Matcher m = this.pattern.matcher(name);
 		return m.matches();
 	}
+
+	/**
+	 * Returns the regular expression of the name.
+	 * @return the regular expression of the name.
+	 */
+	@Override
+	public String toString() {
+		return this.pattern.pattern();
+	}
 }
@@ -8,6 +8,7 @@ import com.github.i49.hibiscus.common.JsonPointer;
 abstract class AbstractJsonContext implements JsonContext {
 
 	private JsonContext parent;
+	private JsonPointer basePointer;
 	
 	@Override
 	public JsonContext getParent() {
@@ -17,27 +18,21 @@ abstract class AbstractJsonContext implements JsonContext {
 	@Override
 	public void setParent(JsonContext parent) {
 		this.parent = parent;
+		this.basePointer = null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>The pointer is obtained from the parent context only once and shared by all values in this context.</p>
+	 */
 	@Override
 	public JsonPointer getBasePointer() {
 		if (this.parent == null) {
 			return null;
 		}
-		return this.parent.getCurrentPointer();
-	}
-
-	@Override
-	public JsonPointer getCurrentPointer() {
-		JsonPointer.Builder builder = JsonPointer.builder();
-		buildCurrentPointer(builder);
-		return builder.build();
-	}
-	
-	@Override
-	public void buildCurrentPointer(JsonPointer.Builder builder) {
-		if (this.parent != null) {
-			this.parent.buildCurrentPointer(builder);
+		if (this.basePointer == null) {
+			this.basePointer = this.parent.getCurrentPointer();
 		}
+		return this.basePointer;
 	}
 }
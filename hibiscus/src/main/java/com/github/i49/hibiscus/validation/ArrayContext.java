@@ -17,71 +17,146 @@ import com.github.i49.hibiscus.common.JsonPointer;
 class ArrayContext extends AbstractJsonContext {
 
 	private final TransientValueProvider valueProvider;
+	private CompiledArrayType type;
+	private boolean building;
+	private ProjectionNode projection;
+	private ProjectionNode currentProjection;
 	private JsonArrayBuilder builder;
 	private int currentIndex;
-	private JsonArray result;
+	private JsonPointer currentPointer;
 	
 	/**
 	 * Constructs this context.
+	 * The context constructed must be reset by {@link #reset(CompiledArrayType, JsonBuilderFactory, ProjectionNode)} before use.
 	 * @param valueProvider the transient {@link JsonValue} provider.
-	 * @param factory the factory to be used to build {@link JsonArray}.
 	 */
-	ArrayContext(TransientValueProvider valueProvider, JsonBuilderFactory factory) {
+	ArrayContext(TransientValueProvider valueProvider) {
 		this.valueProvider = valueProvider;
-		this.builder = factory.createArrayBuilder();
+	}
+	
+	/**
+	 * Resets this context to read a new array.
+	 * @param type the type of the array to be read.
+	 * @param factory the factory to be used to build {@link JsonArray}, 
+	 *                or {@code null} if the array is not to be built.
+	 * @param projection the projection which selects the contents of the array to be built.
+	 */
+	void reset(CompiledArrayType type, JsonBuilderFactory factory, ProjectionNode projection) {
+		this.type = type;
+		this.building = (factory != null);
+		this.builder = this.building ? factory.createArrayBuilder() : null;
+		this.projection = this.building ? projection : null;
+		this.currentProjection = null;
 		this.currentIndex = -1;
+		this.currentPointer = null;
 	}
 	
 	/**
-	 * Moves to the next item in this array.
+	 * Returns the type of the array read by this context.
+	 * @return the type of the array.
+	 */
+	CompiledArrayType getType() {
+		return type;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>All items in this array share the same type candidates.</p>
 	 */
-	void nextItem() {
+	@Override
+	public CompiledTypeSet nextValue() {
 		this.currentIndex++;
+		this.currentPointer = null;
+		if (this.projection != null) {
+			this.currentProjection = this.projection.getChild(this.currentIndex);
+		}
+		return this.type.getItemTypes();
 	}
 	
 	@Override
 	public JsonNumber add(int value) {
-		builder.add(value);
+		if (isBuilding()) {
+			builder.add(value);
+		}
 		return valueProvider.getNumber(value);
 	}
 
 	@Override
 	public JsonNumber add(long value) {
-		builder.add(value);
+		if (isBuilding()) {
+			builder.add(value);
+		}
 		return valueProvider.getNumber(value);
 	}
 
 	@Override
 	public JsonNumber add(BigDecimal value) {
-		builder.add(value);
+		if (isBuilding()) {
+			builder.add(value);
+		}
 		return valueProvider.getNumber(value);
 	}
 
 	@Override
 	public JsonString add(String value) {
-		builder.add(value);
+		if (isBuilding()) {
+			builder.add(value);
+		}
 		return valueProvider.getString(value);
 	}
 
 	@Override
 	public JsonValue add(JsonValue value) {
-		builder.add(value);
+		if (currentProjection != null && currentProjection.selects(value)) {
+			builder.add(value);
+		}
 		return value;
 	}
 
+	@Override
+	public boolean isBuilding() {
+		return currentProjection == ProjectionNode.ALL;
+	}
+
+	@Override
+	public ProjectionNode getCurrentProjection() {
+		return currentProjection;
+	}
+
+	/**
+	 * Returns the number of elements found in this array so far.
+	 * @return the number of elements.
+	 */
+	int getLength() {
+		return this.currentIndex + 1;
+	}
+
+	/**
+	 * Returns whether the {@link JsonArray} built by this context contains all of its elements.
+	 * @return {@code true} if the array is built without any elements left out by the projection.
+	 */
+	boolean isEntire() {
+		return this.building && this.projection == ProjectionNode.ALL;
+	}
+
 	/**
 	 * Builds the {@link JsonArray} which is composed of all added elements.
-	 * @return the built {@link JsonArray}.
+	 * @return the built {@link JsonArray}, or {@code null} if this context does not build the array.
 	 */
 	JsonArray getArray() {
-		this.result = this.builder.build();
+		if (!this.building) {
+			return null;
+		}
+		JsonArray result = this.builder.build();
 		this.builder = null;
-		return this.result;
+		return result;
 	}
 
 	@Override
-	public void buildCurrentPointer(JsonPointer.Builder builder) {
-		super.buildCurrentPointer(builder);
-		builder.append(this.currentIndex);
+	public JsonPointer getCurrentPointer() {
+		if (this.currentPointer == null) {
+			this.currentPointer = getBasePointer().child(this.currentIndex);
+		}
+		return this.currentPointer;
 	}
 }
@@ -1,17 +1,49 @@
 package com.github.i49.hibiscus.validation;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
 import javax.json.JsonBuilderFactory;
+import javax.json.JsonException;
 import javax.json.JsonValue;
+import javax.json.stream.JsonLocation;
 import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParserFactory;
+import javax.json.stream.JsonParsingException;
 
+import com.github.i49.hibiscus.common.JsonDocument;
+import com.github.i49.hibiscus.common.JsonPointer;
+import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.problems.DocumentTooLargeProblem;
+import com.github.i49.hibiscus.problems.MalformedRecordProblem;
+import com.github.i49.hibiscus.problems.NestingTooDeepProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TokenTooLongProblem;
+import com.github.i49.hibiscus.problems.TooManyItemsProblem;
+import com.github.i49.hibiscus.problems.TooManyPropertiesProblem;
 import com.github.i49.hibiscus.schema.Schema;
 import com.github.i49.hibiscus.schema.SchemaComponents;
 
@@ -58,13 +90,32 @@ import com.github.i49.hibiscus.schema.SchemaComponents;
 public class BasicJsonValidator implements JsonValidator {
 
 	private final Schema schema;
+	private final CompiledSchema compiledSchema;
 	
 	private final JsonParserFactory parserFactory;
 	private final JsonBuilderFactory builderFactory;
 	
+	private boolean validationOnly;
+	private ProjectionNode projection = ProjectionNode.ALL;
+	private int maxProblems = Integer.MAX_VALUE;
+	private int maxDepth = Integer.MAX_VALUE;
+	private int maxTokenLength = Integer.MAX_VALUE;
+	private int maxProperties = Integer.MAX_VALUE;
+	private int maxItems = Integer.MAX_VALUE;
+	private long maxInputSize = Long.MAX_VALUE;
+	private ValidationListener listener;
+	private FacetProfiler profiler;
+	private boolean shortCircuitFacets;
+	
+	private volatile int revision;
+	private final ThreadLocal<CachedReader> readers = new ThreadLocal<>();
+	
 	/**
 	 * Constructs this validator.
 	 * 
+	 * <p>The schema is compiled into the internal form only once in this constructor,
+	 * which is reused in every validation of JSON documents.</p>
+	 * 
 	 * @param schema the schema to be used by this validator to validate JSON documents.
 	 *               Should not be modified once passed to this constructor. 
 	 * 
@@ -76,6 +127,7 @@ public class BasicJsonValidator implements JsonValidator {
 			throw new IllegalArgumentException("schema is null.");
 		}
 		this.schema = schema;
+		this.compiledSchema = SchemaCompiler.compile(schema);
 		this.parserFactory = createParserFactory();
 		if (this.parserFactory == null) {
 			throw new IllegalStateException("Failed to create a JsonParserFactory object.");
@@ -90,13 +142,409 @@ public class BasicJsonValidator implements JsonValidator {
 	public Schema getSchema() {
 		return schema;
 	}
+	
+	/**
+	 * Makes this validator only validate JSON documents without building any JSON values.
+	 * 
+	 * <p>After invoking this method, {@link ValidationResult#getValue()} of the validation results
+	 * will always return {@code null} and the problems found will not be able to provide 
+	 * the values which caused them.
+	 * This mode is suitable for applications which need only the verdict of the validation
+	 * and the problems detected, because it saves the memory and the time consumed to build the values.
+	 * Note that the arrays and the objects which have any facets are still built temporarily 
+	 * because such facets need their whole values to be evaluated.
+	 * </p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @return this validator.
+	 */
+	public BasicJsonValidator validationOnly() {
+		this.validationOnly = true;
+		return this;
+	}
+	
+	/**
+	 * Makes this validator build only the JSON values referred by the specified JSON pointers.
+	 * 
+	 * <p>The whole JSON document is still validated against the schema,
+	 * but {@link ValidationResult#getValue()} of the validation results will contain only the selected values
+	 * and the arrays and the objects enclosing them.
+	 * The other values are not built, which saves the memory and the time consumed to build them.
+	 * Note that the arrays on the path keep only the selected elements, 
+	 * so the indexes of the elements are not preserved in the values built.
+	 * The arrays and the objects which have any facets are built as a whole 
+	 * because such facets need their whole values to be evaluated.
+	 * </p>
+	 * <p>This method has no effect if {@link #validationOnly()} was invoked.
+	 * This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @param pointers the JSON pointers which refer to the values to be built.
+	 * @return this validator.
+	 * @exception IllegalArgumentException if pointers or any of them is {@code null}.
+	 * @see #projection(Collection)
+	 */
+	public BasicJsonValidator projection(JsonPointer... pointers) {
+		if (pointers == null) {
+			throw new IllegalArgumentException("pointers is null.");
+		}
+		return projection(Arrays.asList(pointers));
+	}
+	
+	/**
+	 * Makes this validator build only the JSON values referred by the specified JSON pointers.
+	 * 
+	 * <p>See {@link #projection(JsonPointer...)} for details.</p>
+	 * 
+	 * @param pointers the JSON pointers which refer to the values to be built.
+	 * @return this validator.
+	 * @exception IllegalArgumentException if pointers or any of them is {@code null}.
+	 * @see #projection(JsonPointer...)
+	 */
+	public BasicJsonValidator projection(Collection<JsonPointer> pointers) {
+		if (pointers == null) {
+			throw new IllegalArgumentException("pointers is null.");
+		}
+		for (JsonPointer pointer: pointers) {
+			if (pointer == null) {
+				throw new IllegalArgumentException("pointer is null.");
+			}
+		}
+		this.projection = ProjectionNode.compile(pointers);
+		return this;
+	}
+	
+	/**
+	 * Makes this validator stop the validation immediately when it found the first problem.
+	 * 
+	 * <p>Calling this method is equivalent to call {@code maxProblems(1)}.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @return this validator.
+	 * @see #maxProblems(int)
+	 */
+	public BasicJsonValidator failFast() {
+		return maxProblems(1);
+	}
+	
+	/**
+	 * Makes this validator apply the facets of each value in ascending order of cost,
+	 * and stop applying the rest of the facets once the value failed any of them.
+	 * 
+	 * <p>The facets comparing the lengths or the bounds are applied first, 
+	 * followed by the enumerations, the uniqueness of array items, the patterns and the formats,
+	 * and the assertions and the other facets are applied last.
+	 * The facets of the same cost are applied in the order of declaration.
+	 * As a result, at most one problem is reported by the facets for each value,
+	 * and the expensive facets such as regular expressions are never applied to the values already rejected.
+	 * By default all facets are applied in the order of declaration and all of their problems are reported.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @return this validator.
+	 */
+	public BasicJsonValidator shortCircuitFacets() {
+		this.shortCircuitFacets = true;
+		reconfigure();
+		return this;
+	}
+	
+	/**
+	 * Returns whether this validator stops applying the facets of each value at the first failure or not.
+	 * @return {@code true} if the facets are short-circuited, {@code false} otherwise.
+	 * @see #shortCircuitFacets()
+	 */
+	public boolean isShortCircuitingFacets() {
+		return shortCircuitFacets;
+	}
+	
+	/**
+	 * Specifies the maximum number of problems to be detected per JSON document.
+	 * 
+	 * <p>When the number of problems detected reaches the specified limit,
+	 * this validator stops reading the JSON document immediately,
+	 * and the returned {@link ValidationResult} is marked as truncated.
+	 * By default the number of problems is unlimited.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @param maxProblems the maximum number of problems, which must be positive.
+	 * @return this validator.
+	 * @exception IllegalArgumentException if specified limit is zero or negative.
+	 * @see ValidationResult#isTruncated()
+	 */
+	public BasicJsonValidator maxProblems(int maxProblems) {
+		if (maxProblems <= 0) {
+			throw new IllegalArgumentException("maxProblems must be positive.");
+		}
+		this.maxProblems = maxProblems;
+		return this;
+	}
+	
+	/**
+	 * Returns the maximum number of problems to be detected per JSON document.
+	 * @return the maximum number of problems.
+	 * @see #maxProblems(int)
+	 */
+	public int getMaxProblems() {
+		return maxProblems;
+	}
+	
+	/**
+	 * Specifies the maximum depth of nesting of arrays and objects in JSON documents.
+	 * 
+	 * <p>The array or the object at the root of a JSON document is at the depth of one,
+	 * and each array or object contained in it is one level deeper.
+	 * When an array or an object deeper than the specified limit is found,
+	 * this validator reports {@link NestingTooDeepProblem} and stops reading the JSON document immediately,
+	 * and the returned {@link ValidationResult} is marked as truncated.
+	 * The arrays and the objects which need neither validation nor building are skipped 
+	 * without being counted against this limit.
+	 * By default the depth of nesting is unlimited.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @param maxDepth the maximum depth of nesting, which must be positive.
+	 * @return this validator.
+	 * @exception IllegalArgumentException if specified limit is zero or negative.
+	 * @see ValidationResult#isTruncated()
+	 */
+	public BasicJsonValidator maxDepth(int maxDepth) {
+		if (maxDepth <= 0) {
+			throw new IllegalArgumentException("maxDepth must be positive.");
+		}
+		this.maxDepth = maxDepth;
+		reconfigure();
+		return this;
+	}
+	
+	/**
+	 * Returns the maximum depth of nesting of arrays and objects in JSON documents.
+	 * @return the maximum depth of nesting.
+	 * @see #maxDepth(int)
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+	
+	/**
+	 * Specifies the maximum number of characters in a string, a number or a property name in JSON documents.
+	 * 
+	 * <p>The length of each token is checked before it is converted into a value,
+	 * and the number of characters is counted in UTF-16 code units after the escapes were resolved.
+	 * When a token longer than the specified limit is found,
+	 * this validator reports {@link TokenTooLongProblem} and stops reading the JSON document immediately,
+	 * and the returned {@link ValidationResult} is marked as truncated.
+	 * The tokens in the arrays and the objects which need neither validation nor building 
+	 * are not checked.
+	 * By default the length of tokens is unlimited.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @param maxTokenLength the maximum number of characters in a token, which must be positive.
+	 * @return this validator.
+	 * @exception IllegalArgumentException if specified limit is zero or negative.
+	 * @see ValidationResult#isTruncated()
+	 */
+	public BasicJsonValidator maxTokenLength(int maxTokenLength) {
+		if (maxTokenLength <= 0) {
+			throw new IllegalArgumentException("maxTokenLength must be positive.");
+		}
+		this.maxTokenLength = maxTokenLength;
+		reconfigure();
+		return this;
+	}
+	
+	/**
+	 * Returns the maximum number of characters in a string, a number or a property name in JSON documents.
+	 * @return the maximum number of characters in a token.
+	 * @see #maxTokenLength(int)
+	 */
+	public int getMaxTokenLength() {
+		return maxTokenLength;
+	}
+	
+	/**
+	 * Specifies the maximum number of properties in an object in JSON documents.
+	 * 
+	 * <p>When a property beyond the specified limit is found in an object,
+	 * this validator reports {@link TooManyPropertiesProblem} and stops reading the JSON document immediately,
+	 * and the returned {@link ValidationResult} is marked as truncated.
+	 * The objects which need neither validation nor building are not checked.
+	 * By default the number of properties is unlimited.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @param maxProperties the maximum number of properties in an object, which must not be negative.
+	 * @return this validator.
+	 * @exception IllegalArgumentException if specified limit is negative.
+	 * @see ValidationResult#isTruncated()
+	 */
+	public BasicJsonValidator maxProperties(int maxProperties) {
+		if (maxProperties < 0) {
+			throw new IllegalArgumentException("maxProperties must not be negative.");
+		}
+		this.maxProperties = maxProperties;
+		reconfigure();
+		return this;
+	}
+	
+	/**
+	 * Returns the maximum number of properties in an object in JSON documents.
+	 * @return the maximum number of properties.
+	 * @see #maxProperties(int)
+	 */
+	public int getMaxProperties() {
+		return maxProperties;
+	}
+	
+	/**
+	 * Specifies the maximum number of elements in an array in JSON documents.
+	 * 
+	 * <p>When an element beyond the specified limit is found in an array,
+	 * this validator reports {@link TooManyItemsProblem} and stops reading the JSON document immediately,
+	 * and the returned {@link ValidationResult} is marked as truncated.
+	 * The arrays which need neither validation nor building are not checked.
+	 * The elements of the array at the root of the document are not counted
+	 * when they are validated one by one or in parallel, because each of them is read as a separate value.
+	 * By default the number of elements is unlimited.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @param maxItems the maximum number of elements in an array, which must not be negative.
+	 * @return this validator.
+	 * @exception IllegalArgumentException if specified limit is negative.
+	 * @see ValidationResult#isTruncated()
+	 */
+	public BasicJsonValidator maxItems(int maxItems) {
+		if (maxItems < 0) {
+			throw new IllegalArgumentException("maxItems must not be negative.");
+		}
+		this.maxItems = maxItems;
+		reconfigure();
+		return this;
+	}
+	
+	/**
+	 * Returns the maximum number of elements in an array in JSON documents.
+	 * @return the maximum number of elements.
+	 * @see #maxItems(int)
+	 */
+	public int getMaxItems() {
+		return maxItems;
+	}
+	
+	/**
+	 * Specifies the maximum size of the input of a JSON document.
+	 * 
+	 * <p>The size is measured in characters when the document is read from {@link Reader},
+	 * or in bytes otherwise.
+	 * When the input exceeds the specified limit,
+	 * this validator reports {@link DocumentTooLargeProblem} and stops reading the JSON document immediately,
+	 * and the returned {@link ValidationResult} is marked as truncated.
+	 * The document whose size is known in advance, such as a file or a byte array, is not read at all.
+	 * The parsers created by {@link #createParser(Reader)} and {@link #createParser(InputStream)} 
+	 * throw {@link JsonException} instead when the input exceeded the limit.
+	 * This limit does not apply to the JSON Lines, whose records are read line by line.
+	 * By default the size of the input is unlimited.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @param maxInputSize the maximum size of the input, which must be positive.
+	 * @return this validator.
+	 * @exception IllegalArgumentException if specified limit is zero or negative.
+	 * @see ValidationResult#isTruncated()
+	 */
+	public BasicJsonValidator maxInputSize(long maxInputSize) {
+		if (maxInputSize <= 0) {
+			throw new IllegalArgumentException("maxInputSize must be positive.");
+		}
+		this.maxInputSize = maxInputSize;
+		return this;
+	}
+	
+	/**
+	 * Returns the maximum size of the input of a JSON document.
+	 * @return the maximum size of the input.
+	 * @see #maxInputSize(long)
+	 */
+	public long getMaxInputSize() {
+		return maxInputSize;
+	}
+	
+	/**
+	 * Registers the listener to be notified while this validator validates JSON documents.
+	 * 
+	 * <p>The listener receives the notifications of the documents, the types matched, 
+	 * the facets evaluated with the time spent on them, and the problems found.
+	 * When no listener is registered, which is the default, 
+	 * this validator does not measure or prepare anything for the notifications.
+	 * Only one listener can be registered, and the listener given later replaces the former one.</p>
+	 * <p>Independently of the listener registered by this method, 
+	 * this validator emits the events of JDK Flight Recorder named 
+	 * {@code com.github.i49.hibiscus.ValidationDocument} and {@code com.github.i49.hibiscus.ValidationFacet}
+	 * when they are enabled in the running recordings. These events are disabled by default.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @param listener the listener to be registered, or {@code null} to remove the listener.
+	 * @return this validator.
+	 * @see ValidationListener
+	 */
+	public BasicJsonValidator listener(ValidationListener listener) {
+		this.listener = listener;
+		reconfigure();
+		return this;
+	}
+	
+	/**
+	 * Returns the listener registered to this validator.
+	 * @return the listener registered, or {@code null} if no listener is registered.
+	 * @see #listener(ValidationListener)
+	 */
+	public ValidationListener getListener() {
+		return listener;
+	}
+	
+	/**
+	 * Enables the profiling of the facets.
+	 * 
+	 * <p>While the profiling is enabled, this validator counts the evaluations and the failures 
+	 * and measures the cumulative time for every facet of every type in the schema,
+	 * and for the lookups of the properties in every object type.
+	 * The profile collected is obtained by {@link #getFacetProfile()},
+	 * which maps the numbers to the paths in the schema.
+	 * The bounds on integers which are evaluated at once without applying the facets are not counted.
+	 * The profiling is disabled by default because measuring each facet slows down the validation.</p>
+	 * <p>This method should be invoked before this validator validates any JSON documents.</p>
+	 * 
+	 * @return this validator.
+	 * @see FacetProfile
+	 */
+	public BasicJsonValidator profileFacets() {
+		if (this.profiler == null) {
+			this.profiler = new FacetProfiler(this.compiledSchema);
+			reconfigure();
+		}
+		return this;
+	}
+	
+	/**
+	 * Returns the profile of the facets collected so far.
+	 * The profile includes the documents whose validation already completed.
+	 * @return the snapshot of the profile, or {@code null} if the profiling is not enabled.
+	 * @see #profileFacets()
+	 */
+	public FacetProfile getFacetProfile() {
+		return (this.profiler != null) ? this.profiler.snapshot() : null;
+	}
+	
+	/**
+	 * Returns whether this validator only validates JSON documents without building any JSON values.
+	 * @return {@code true} if this validator does not build JSON values, {@code false} otherwise.
+	 * @see #validationOnly()
+	 */
+	public boolean isValidationOnly() {
+		return validationOnly;
+	}
 
 	@Override
 	public ValidationResult validate(Reader reader) {
 		if (reader == null) {
 			throw new IllegalArgumentException("reader is null.");
 		}
-		try (JsonParser parser = this.parserFactory.createParser(reader)) {
+		try (JsonParser parser = this.parserFactory.createParser(limit(reader))) {
 			return parse(parser);
 		}
 	}
@@ -106,7 +554,7 @@ public class BasicJsonValidator implements JsonValidator {
 		if (stream == null) {
 			throw new IllegalArgumentException("stream is null.");
 		}
-		try (JsonParser parser = this.parserFactory.createParser(stream)) {
+		try (JsonParser parser = this.parserFactory.createParser(limit(stream))) {
 			return parse(parser);
 		}
 	}
@@ -119,8 +567,225 @@ public class BasicJsonValidator implements JsonValidator {
 		if (charset == null) {
 			throw new IllegalArgumentException("charset is null.");
 		}
-		try (JsonParser parser = this.parserFactory.createParser(stream, charset)) {
+		try (JsonParser parser = this.parserFactory.createParser(limit(stream), charset)) {
+			return parse(parser);
+		}
+	}
+	
+	@Override
+	public ValidationResult validate(Path path) {
+		if (path == null) {
+			throw new IllegalArgumentException("path is null.");
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > this.maxInputSize) {
+				return rejectInput();
+			} else if (size > Integer.MAX_VALUE) {
+				// Too large to be mapped at once.
+				return validate(Channels.newInputStream(channel), StandardCharsets.UTF_8);
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			return validate(buffer);
+		} catch (IOException e) {
+			throw new JsonException(e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public ValidationResult validate(ByteBuffer buffer) {
+		if (buffer == null) {
+			throw new IllegalArgumentException("buffer is null.");
+		}
+		if (buffer.remaining() > this.maxInputSize) {
+			return rejectInput();
+		}
+		return parse(new Utf8JsonParser(buffer));
+	}
+	
+	@Override
+	public ValidationResult validate(byte[] bytes, int offset, int length) {
+		if (bytes == null) {
+			throw new IllegalArgumentException("bytes is null.");
+		}
+		if (length > this.maxInputSize) {
+			return rejectInput();
+		}
+		return parse(new Utf8JsonParser(ByteBuffer.wrap(bytes, offset, length)));
+	}
+	
+	@Override
+	public ValidationResult validate(JsonValue value) {
+		if (value == null) {
+			throw new IllegalArgumentException("value is null.");
+		}
+		JsonValidatingReader reader = getReader();
+		reader.readAll(new JsonValueParser(value), this.compiledSchema, null, this.maxProblems);
+		return new ValidationResultImpl(value, reader.getProblems(), reader.isTruncated());
+	}
+	
+	@Override
+	public long validateLines(Reader reader, Consumer<? super RecordResult> handler) {
+		if (reader == null) {
+			throw new IllegalArgumentException("reader is null.");
+		}
+		if (handler == null) {
+			throw new IllegalArgumentException("handler is null.");
+		}
+		return parseLines(new LineReader(reader, false), handler);
+	}
+
+	@Override
+	public long validateLines(InputStream stream, Consumer<? super RecordResult> handler) {
+		if (stream == null) {
+			throw new IllegalArgumentException("stream is null.");
+		}
+		if (handler == null) {
+			throw new IllegalArgumentException("handler is null.");
+		}
+		Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+		return parseLines(new LineReader(reader, true), handler);
+	}
+	
+	@Override
+	public long validateLinesInParallel(Path path, Consumer<? super RecordResult> handler) {
+		return validateLinesInParallel(path, ForkJoinPool.commonPool(), handler);
+	}
+
+	@Override
+	public long validateLinesInParallel(Path path, ForkJoinPool pool, Consumer<? super RecordResult> handler) {
+		if (path == null) {
+			throw new IllegalArgumentException("path is null.");
+		}
+		if (pool == null) {
+			throw new IllegalArgumentException("pool is null.");
+		}
+		if (handler == null) {
+			throw new IllegalArgumentException("handler is null.");
+		}
+		try {
+			return new ParallelLineValidation(this, pool, handler, ParallelLineValidation.DEFAULT_CHUNK_SIZE).run(path);
+		} catch (IOException e) {
+			throw new JsonException(e.getMessage(), e);
+		}
+	}
+	
+	@Override
+	public ValidationResult validateInParallel(Path path) {
+		return validateInParallel(path, ForkJoinPool.commonPool());
+	}
+
+	@Override
+	public ValidationResult validateInParallel(Path path, ForkJoinPool pool) {
+		if (path == null) {
+			throw new IllegalArgumentException("path is null.");
+		}
+		if (pool == null) {
+			throw new IllegalArgumentException("pool is null.");
+		}
+		ValidationResult result;
+		try {
+			if (Files.size(path) > this.maxInputSize) {
+				return rejectInput();
+			}
+			result = new ParallelArrayValidation(this, pool, ParallelArrayValidation.DEFAULT_CHUNK_SIZE, this.builderFactory).run(path);
+		} catch (IOException e) {
+			throw new JsonException(e.getMessage(), e);
+		}
+		return (result != null) ? result : validate(path);
+	}
+	
+	@Override
+	public ValidationResult validateElements(Reader reader, Consumer<? super ElementResult> handler) {
+		if (reader == null) {
+			throw new IllegalArgumentException("reader is null.");
+		}
+		if (handler == null) {
+			throw new IllegalArgumentException("handler is null.");
+		}
+		try (JsonParser parser = this.parserFactory.createParser(limit(reader))) {
+			return parseElements(parser, handler);
+		}
+	}
+
+	@Override
+	public ValidationResult validateElements(InputStream stream, Consumer<? super ElementResult> handler) {
+		if (stream == null) {
+			throw new IllegalArgumentException("stream is null.");
+		}
+		if (handler == null) {
+			throw new IllegalArgumentException("handler is null.");
+		}
+		try (JsonParser parser = this.parserFactory.createParser(limit(stream))) {
+			return parseElements(parser, handler);
+		}
+	}
+	
+	@Override
+	public ValidatingJsonParser createParser(Reader reader) {
+		if (reader == null) {
+			throw new IllegalArgumentException("reader is null.");
+		}
+		return createParser(this.parserFactory.createParser(limit(reader)));
+	}
+
+	@Override
+	public ValidatingJsonParser createParser(InputStream stream) {
+		if (stream == null) {
+			throw new IllegalArgumentException("stream is null.");
+		}
+		return createParser(this.parserFactory.createParser(limit(stream)));
+	}
+
+	@Override
+	public ValidatingJsonParser createParser(JsonParser parser) {
+		if (parser == null) {
+			throw new IllegalArgumentException("parser is null.");
+		}
+		return new ValidatingJsonParser(parser, createReader(), this.compiledSchema, this.maxProblems);
+	}
+	
+	@Override
+	public PushValidator createPushValidator() {
+		return new PushValidator(createReader(), this.compiledSchema, getProjection(), this.maxProblems, this.maxInputSize);
+	}
+	
+	/**
+	 * Parses each line of the input as a JSON document and produces the validation results.
+	 * A line which is not well-formed produces a result with {@link MalformedRecordProblem}.
+	 * @param lines the reader of the lines.
+	 * @param handler the handler which receives the validation results.
+	 * @return the number of records validated.
+	 */
+	long parseLines(LineReader lines, Consumer<? super RecordResultImpl> handler) {
+		long recordIndex = 0;
+		try {
+			while (lines.nextLine()) {
+				if (lines.isBlankLine()) {
+					continue;
+				}
+				ValidationResult result = null;
+				result = parseRecord(lines);
+				RecordResultImpl.relocateProblems(result.getProblems(), lines.getLineNumber() - 1, lines.getCharOffset());
+				handler.accept(new RecordResultImpl(result, recordIndex++, lines.getLineNumber(), lines.getOffset()));
+			}
+		} catch (IOException e) {
+			throw new JsonException(e.getMessage(), e);
+		}
+		return recordIndex;
+	}
+	
+	/**
+	 * Parses a record of newline-delimited JSON and produces the validation result.
+	 * The record which is not a valid JSON document is reported as {@link MalformedRecordProblem}.
+	 * @param record the reader which provides the content of the record.
+	 * @return the result of the validation, whose locations are relative to the record.
+	 */
+	ValidationResult parseRecord(Reader record) {
+		try (JsonParser parser = this.parserFactory.createParser(record)) {
 			return parse(parser);
+		} catch (JsonParsingException e) {
+			return malformedRecord(e);
 		}
 	}
 	
@@ -129,10 +794,235 @@ public class BasicJsonValidator implements JsonValidator {
 	 * @param parser the parser to be used to parse the JSON document.
 	 * @return the result of the validation.
 	 */
-	private ValidationResult parse(JsonParser parser) {
-		JsonValidatingReader reader = new JsonValidatingReader(parser, this.builderFactory);
-		JsonValue value = reader.readAll(getSchema());
-		return new ValidationResultImpl(value, reader.getProblems());
+	ValidationResult parse(JsonParser parser) {
+		JsonValidatingReader reader = getReader();
+		try {
+			JsonValue value = reader.readAll(parser, this.compiledSchema, getProjection(), this.maxProblems);
+			return new ValidationResultImpl(value, reader.getProblems(), reader.isTruncated());
+		} catch (InputTooLargeException e) {
+			return inputTooLarge(e.getLimitSize(), reader.getProblems(), parser.getLocation());
+		}
+	}
+	
+	/**
+	 * Parses the JSON document with specified parser and validates each element of the root array.
+	 * @param parser the parser to be used to parse the JSON document.
+	 * @param handler the handler which receives the validation results of the elements.
+	 * @return the result of the validation of the root value.
+	 */
+	private ValidationResult parseElements(JsonParser parser, Consumer<? super ElementResult> handler) {
+		try {
+			return parseElementsWithinLimit(parser, handler);
+		} catch (InputTooLargeException e) {
+			return inputTooLarge(e.getLimitSize(), Collections.emptyList(), parser.getLocation());
+		}
+	}
+	
+	/**
+	 * Parses the JSON document with specified parser and validates each element of the root array,
+	 * while the input does not exceed the maximum size.
+	 * @param parser the parser to be used to parse the JSON document.
+	 * @param handler the handler which receives the validation results of the elements.
+	 * @return the result of the validation of the root value.
+	 * @exception InputTooLargeException if the input exceeded the maximum size.
+	 */
+	private ValidationResult parseElementsWithinLimit(JsonParser parser, Consumer<? super ElementResult> handler) {
+		JsonParser.Event event = parser.next();
+		CompiledArrayType arrayType = (event == JsonParser.Event.START_ARRAY) ? getRootArrayType() : null;
+		if (arrayType == null) {
+			JsonValidatingReader reader = getReader();
+			JsonValue value = reader.readValue(parser, event, this.compiledSchema.getRootTypes(), -1, getProjection(), this.maxProblems);
+			return new ValidationResultImpl(value, reader.getProblems(), reader.isTruncated());
+		}
+		ProjectionNode projection = getProjection();
+		JsonArrayBuilder builder = arrayType.needsInstance() ? this.builderFactory.createArrayBuilder() : null;
+		int length = readElements(parser, arrayType.getItemTypes(), 0, Integer.MAX_VALUE, projection, builder != null, result -> {
+			if (builder != null && result.getValue() != null) {
+				builder.add(result.getValue());
+				if (projection == null) {
+					// Built only for the facets of the root array.
+					handler.accept(new ElementResultImpl(result.getIndex(), null, result.getProblems(), result.isTruncated()));
+					return;
+				}
+			}
+			handler.accept(result);
+		});
+		JsonArray array = (builder != null) ? builder.build() : null;
+		return validateRootArray(arrayType, length, array, parser.getLocation());
+	}
+	
+	/**
+	 * Validates the elements of the root array one by one.
+	 * The elements are read until the specified number of elements were read or the end of the array was found.
+	 * @param parser the parser positioned before the first element to be validated.
+	 * @param itemTypes the type candidates of the elements.
+	 * @param index the index of the first element to be validated.
+	 * @param count the maximum number of the elements to be validated.
+	 * @param projection the projection of the whole document, or {@code null} if the elements are not built.
+	 * @param entire {@code true} if the elements are to be built entirely regardless of the projection.
+	 * @param handler the handler which receives the validation results of the elements.
+	 * @return the index following the last element validated.
+	 */
+	int readElements(JsonParser parser, CompiledTypeSet itemTypes, int index, int count, 
+			ProjectionNode projection, boolean entire, Consumer<? super ElementResultImpl> handler) {
+		JsonValidatingReader reader = getReader();
+		for (int i = 0; i < count; i++) {
+			JsonParser.Event event = parser.next();
+			if (event == JsonParser.Event.END_ARRAY) {
+				break;
+			}
+			ProjectionNode elementProjection = entire ? ProjectionNode.ALL : 
+				(projection != null) ? projection.getChild(index) : null;
+			JsonValue value = reader.readValue(parser, event, itemTypes, index, elementProjection, this.maxProblems);
+			handler.accept(new ElementResultImpl(index++, value, reader.getProblems(), reader.isTruncated()));
+		}
+		return index;
+	}
+	
+	/**
+	 * Validates the root array itself after all of its elements were validated.
+	 * @param arrayType the type of the root array.
+	 * @param length the number of the elements in the root array.
+	 * @param array the root array built, or {@code null} if the array type does not need the whole array.
+	 * @param location the location of the end of the root array.
+	 * @return the result of the validation of the root array, whose value is always {@code null}.
+	 */
+	ValidationResult validateRootArray(CompiledArrayType arrayType, int length, JsonArray array, JsonLocation location) {
+		List<Problem> problems = new ArrayList<>();
+		JsonDocument document = new JsonDocument();
+		if (array != null) {
+			document.setRootValue(array);
+			if (this.shortCircuitFacets) {
+				arrayType.validateInstanceByCost(array, problems);
+			} else {
+				arrayType.validateInstance(array, problems);
+			}
+		} else if (arrayType.hasFacets()) {
+			if (this.shortCircuitFacets) {
+				arrayType.validateLengthByCost(length, problems);
+			} else {
+				arrayType.validateLength(length, problems);
+			}
+		}
+		for (Problem problem: problems) {
+			problem.setPointer(JsonPointer.getPointerToDocumentRoot(), document);
+			problem.setLocation(location);
+		}
+		return new ValidationResultImpl(null, problems, false);
+	}
+	
+	/**
+	 * Returns the type of the array allowed at the root of JSON documents.
+	 * @return the type of the root array, or {@code null} if the root value cannot be an array.
+	 */
+	CompiledArrayType getRootArrayType() {
+		CompiledTypeSet rootTypes = this.compiledSchema.getRootTypes();
+		return (rootTypes != null) ? (CompiledArrayType)rootTypes.getType(TypeId.ARRAY) : null;
+	}
+	
+	/**
+	 * Creates the result of the validation of the record which is not well-formed.
+	 * @param e the exception thrown by the parser.
+	 * @return the result of the validation, which is truncated.
+	 */
+	private static ValidationResult malformedRecord(JsonParsingException e) {
+		Problem problem = new MalformedRecordProblem(e.getMessage());
+		problem.setPointer(JsonPointer.getPointerToDocumentRoot(), new JsonDocument());
+		JsonLocation location = e.getLocation();
+		problem.setLocation((location != null) ? location : new Utf8JsonParser.Location(1, 1, 0));
+		List<Problem> problems = new ArrayList<>();
+		problems.add(problem);
+		return new ValidationResultImpl(null, problems, true);
+	}
+	
+	/**
+	 * Creates the result of the validation of the document whose size is known to exceed the limit in advance.
+	 * @return the result of the validation, which is truncated.
+	 */
+	private ValidationResult rejectInput() {
+		return inputTooLarge(this.maxInputSize, Collections.emptyList(), new Utf8JsonParser.Location(1, 1, 0));
+	}
+	
+	/**
+	 * Creates the result of the validation which was stopped because the input exceeded the maximum size.
+	 * @param limitSize the maximum size of the input.
+	 * @param problems the problems found before the input exceeded the limit.
+	 * @param location the location where the input exceeded the limit.
+	 * @return the result of the validation, which is truncated.
+	 */
+	static ValidationResult inputTooLarge(long limitSize, List<Problem> problems, JsonLocation location) {
+		Problem problem = new DocumentTooLargeProblem(limitSize);
+		problem.setPointer(JsonPointer.getPointerToDocumentRoot(), new JsonDocument());
+		problem.setLocation(location);
+		List<Problem> all = new ArrayList<>(problems);
+		all.add(problem);
+		return new ValidationResultImpl(null, all, true);
+	}
+	
+	/**
+	 * Wraps the reader to limit the size of the input.
+	 * @param reader the reader to be wrapped.
+	 * @return the reader limited, or the given reader if the size is unlimited.
+	 */
+	private Reader limit(Reader reader) {
+		return (this.maxInputSize < Long.MAX_VALUE) ? new LimitedReader(reader, this.maxInputSize) : reader;
+	}
+	
+	/**
+	 * Wraps the stream to limit the size of the input.
+	 * @param stream the stream to be wrapped.
+	 * @return the stream limited, or the given stream if the size is unlimited.
+	 */
+	private InputStream limit(InputStream stream) {
+		return (this.maxInputSize < Long.MAX_VALUE) ? new LimitedInputStream(stream, this.maxInputSize) : stream;
+	}
+	
+	/**
+	 * Returns the projection which selects the values to be built.
+	 * @return the projection, or {@code null} if this validator does not build any values.
+	 */
+	private ProjectionNode getProjection() {
+		return this.validationOnly ? null : this.projection;
+	}
+	
+	/**
+	 * Returns the reader to be used by the current thread.
+	 * @return the reader which is not reading any document now.
+	 */
+	private JsonValidatingReader getReader() {
+		CachedReader cached = this.readers.get();
+		int revision = this.revision;
+		if (cached == null || cached.revision != revision) {
+			// The reader is created for the first time or the settings were changed since created.
+			cached = new CachedReader(createReader(), revision);
+			this.readers.set(cached);
+		}
+		JsonValidatingReader reader = cached.reader;
+		if (reader.isReading()) {
+			// This validator was invoked recursively, e.g. from an assertion.
+			reader = createReader();
+		}
+		return reader;
+	}
+	
+	/**
+	 * Discards the readers created with the old settings.
+	 * Each thread creates a new reader on its next validation.
+	 */
+	private void reconfigure() {
+		this.revision++;
+	}
+	
+	/**
+	 * Creates a new reader which reads JSON documents and validates them.
+	 * The reader created is reused by the same thread for the subsequent validations.
+	 * @return created reader.
+	 */
+	private JsonValidatingReader createReader() {
+		return new JsonValidatingReader(this.builderFactory, 
+				new ReadingLimits(this.maxDepth, this.maxTokenLength, this.maxProperties, this.maxItems), 
+				FlightRecording.attach(this.listener, getClass().getName()),
+				(this.profiler != null) ? this.profiler.createRecorder() : null, this.shortCircuitFacets);
 	}
 	
 	/**
@@ -156,4 +1046,18 @@ public class BasicJsonValidator implements JsonValidator {
 		Map<String, ?> config = new HashMap<>();
 		return Json.createBuilderFactory(config);
 	}
+	
+	/**
+	 * A reader cached per thread with the revision of the settings from which the reader was created.
+	 */
+	private static class CachedReader {
+		
+		final JsonValidatingReader reader;
+		final int revision;
+		
+		CachedReader(JsonValidatingReader reader, int revision) {
+			this.reader = reader;
+			this.revision = revision;
+		}
+	}
 }
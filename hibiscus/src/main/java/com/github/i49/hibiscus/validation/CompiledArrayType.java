@@ -0,0 +1,158 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.List;
+
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.facets.LengthFacet;
+import com.github.i49.hibiscus.facets.MaxLengthFacet;
+import com.github.i49.hibiscus.facets.MinLengthFacet;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.ArrayType;
+
+/**
+ * A node of the {@link CompiledSchema} which corresponds to an {@link ArrayType}.
+ */
+class CompiledArrayType extends CompiledType {
+
+	/**
+	 * The node which represents the unknown array found during validation.
+	 * This node has no item types and no facets.
+	 */
+	static final CompiledArrayType UNKNOWN = new CompiledArrayType(-1, UnknownArrayType.INSTANCE);
+
+	private final LengthCheck[] lengthChecks;
+	private CompiledTypeSet itemTypes;
+
+	/**
+	 * Constructs this node.
+	 * @param index the index of this node in the node table.
+	 * @param type the array type from which this node was compiled.
+	 */
+	CompiledArrayType(int index, ArrayType type) {
+		super(index, type);
+		this.lengthChecks = toLengthChecks(type.getFacets());
+	}
+	
+	/**
+	 * Returns whether the facets of this array need the whole value of the array to be evaluated.
+	 * The arrays which have only the facets on their lengths can be validated 
+	 * without building the values.
+	 * @return {@code true} if the array value is required by the facets, {@code false} otherwise.
+	 */
+	boolean needsInstance() {
+		return hasFacets() && lengthChecks == null;
+	}
+	
+	/**
+	 * Applies all facets of this array to the number of elements.
+	 * This method is available only when {@link #needsInstance()} returns {@code false}.
+	 * @param length the number of elements in the array.
+	 * @param problems the list to which detected problems to be added.
+	 */
+	void validateLength(int length, List<Problem> problems) {
+		for (LengthCheck check: this.lengthChecks) {
+			check.apply(length, problems);
+		}
+	}
+
+	/**
+	 * Applies the facets of this array to the number of elements, until the array fails any of the facets.
+	 * All facets on the length have the same cost, so they are applied in the order of declaration.
+	 * This method is available only when {@link #needsInstance()} returns {@code false}.
+	 * @param length the number of elements in the array.
+	 * @param problems the list to which detected problems to be added.
+	 */
+	void validateLengthByCost(int length, List<Problem> problems) {
+		final int found = problems.size();
+		for (LengthCheck check: this.lengthChecks) {
+			check.apply(length, problems);
+			if (problems.size() > found) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Applies the facets of this array to the number of elements, measuring the time spent on each facet.
+	 * This method is available only when {@link #needsInstance()} returns {@code false}.
+	 * @param length the number of elements in the array.
+	 * @param problems the list to which detected problems to be added.
+	 * @param listener the listener to be notified of each facet evaluated, may be {@code null}.
+	 * @param recorder the recorder of the profile of the facets, may be {@code null}.
+	 * @param byCost {@code true} if the facets are applied until the array fails any of them,
+	 *               {@code false} if all facets are applied.
+	 */
+	void validateLength(int length, List<Problem> problems, 
+			ValidationListener listener, FacetProfiler.Recorder recorder, boolean byCost) {
+		List<Facet<?>> facets = getType().getFacets();
+		for (int i = 0; i < this.lengthChecks.length; i++) {
+			int found = problems.size();
+			long start = System.nanoTime();
+			this.lengthChecks[i].apply(length, problems);
+			long nanos = System.nanoTime() - start;
+			boolean passed = problems.size() == found;
+			if (listener != null) {
+				listener.facetEvaluated(facets.get(i), passed, nanos);
+			}
+			if (recorder != null) {
+				recorder.facetEvaluated(this, i, passed, nanos);
+			}
+			if (byCost && !passed) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the types allowed for elements of this array.
+	 * @return the types allowed for elements, or {@code null} if the elements are not validated.
+	 */
+	CompiledTypeSet getItemTypes() {
+		return itemTypes;
+	}
+
+	/**
+	 * Assigns the types allowed for elements of this array.
+	 * This method is called only by {@link SchemaCompiler}.
+	 * @param itemTypes the types allowed for elements.
+	 */
+	void setItemTypes(CompiledTypeSet itemTypes) {
+		this.itemTypes = itemTypes;
+	}
+	
+	/**
+	 * Converts the facets into the checks to be applied to the number of elements instead of the array value.
+	 * @param facets all facets of the array type.
+	 * @return the checks converted, or {@code null} if any of the facets needs the array value.
+	 */
+	private static LengthCheck[] toLengthChecks(List<Facet<?>> facets) {
+		LengthCheck[] checks = new LengthCheck[facets.size()];
+		int i = 0;
+		for (Facet<?> facet: facets) {
+			if (facet instanceof LengthFacet) {
+				checks[i++] = ((LengthFacet<?>)facet)::applyToLength;
+			} else if (facet instanceof MinLengthFacet) {
+				checks[i++] = ((MinLengthFacet<?>)facet)::applyToLength;
+			} else if (facet instanceof MaxLengthFacet) {
+				checks[i++] = ((MaxLengthFacet<?>)facet)::applyToLength;
+			} else {
+				return null;
+			}
+		}
+		return checks;
+	}
+	
+	/**
+	 * A check to be applied to the number of elements in the array.
+	 */
+	@FunctionalInterface
+	private static interface LengthCheck {
+		
+		/**
+		 * Applies this check to the number of elements.
+		 * @param length the number of elements in the array.
+		 * @param problems the list to which detected problems to be added.
+		 */
+		void apply(int length, List<Problem> problems);
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.github.i49.hibiscus.schema.ObjectType;
+
+/**
+ * A node of the {@link CompiledSchema} which corresponds to an {@link ObjectType}.
+ */
+class CompiledObjectType extends CompiledType {
+
+	private static final CompiledProperty[] NO_PROPERTIES = {};
+	private static final String[] NO_NAMES = {};
+
+	/**
+	 * The node which represents the unknown object found during validation.
+	 * This node accepts any properties.
+	 */
+	static final CompiledObjectType UNKNOWN = new CompiledObjectType(-1, UnknownObjectType.INSTANCE);
+
+	private final boolean moreProperties;
+	private Map<String, CompiledProperty> namedProperties = Collections.emptyMap();
+	private CompiledProperty[] patternProperties = NO_PROPERTIES;
+	private String[] requiredNames = NO_NAMES;
+
+	/**
+	 * Constructs this node.
+	 * @param index the index of this node in the node table.
+	 * @param type the object type from which this node was compiled.
+	 */
+	CompiledObjectType(int index, ObjectType type) {
+		super(index, type);
+		this.moreProperties = type.allowsMoreProperties();
+	}
+
+	/**
+	 * Returns the property which has the specified name.
+	 * The properties which have determined names take precedence over the pattern properties.
+	 * @param name the name of the property.
+	 * @return the property found, or {@code null} if this object does not have such a property.
+	 */
+	CompiledProperty getProperty(String name) {
+		CompiledProperty found = namedProperties.get(name);
+		if (found != null) {
+			return found;
+		}
+		for (CompiledProperty p: patternProperties) {
+			if (p.matches(name)) {
+				return p;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the names of all required properties.
+	 * The index of each name is the ordinal of the required property.
+	 * @return the array of the names of required properties.
+	 * @see CompiledProperty#getOrdinal()
+	 */
+	String[] getRequiredNames() {
+		return requiredNames;
+	}
+
+	/**
+	 * Returns {@code true} if this object allows properties not declared explicitly.
+	 * @return {@code true} if this object allows properties not declared explicitly, {@code false} otherwise.
+	 */
+	boolean allowsMoreProperties() {
+		return moreProperties;
+	}
+
+	/**
+	 * Assigns the property table of this object.
+	 * This method is called only by {@link SchemaCompiler}.
+	 * @param namedProperties the properties which have determined names.
+	 * @param patternProperties the pattern properties in the order of declaration.
+	 * @param requiredNames the names of required properties in the order of their ordinals.
+	 */
+	void setProperties(Map<String, CompiledProperty> namedProperties, CompiledProperty[] patternProperties, String[] requiredNames) {
+		this.namedProperties = namedProperties;
+		this.patternProperties = patternProperties;
+		this.requiredNames = requiredNames;
+	}
+}
@@ -0,0 +1,60 @@
+package com.github.i49.hibiscus.validation;
+
+import com.github.i49.hibiscus.schema.Property;
+
+/**
+ * An entry of the property table of {@link CompiledObjectType}.
+ */
+class CompiledProperty {
+
+	private final Property property;
+	private final int ordinal;
+	private final CompiledTypeSet typeSet;
+
+	/**
+	 * Constructs this property.
+	 * @param property the property from which this entry was compiled.
+	 * @param ordinal the ordinal of this property among the required properties of the object, 
+	 *                or -1 if this property is not required.
+	 * @param typeSet the compiled types allowed for this property.
+	 */
+	CompiledProperty(Property property, int ordinal, CompiledTypeSet typeSet) {
+		this.property = property;
+		this.ordinal = ordinal;
+		this.typeSet = typeSet;
+	}
+
+	/**
+	 * Returns whether this property is required or not.
+	 * @return {@code true} if this property is required, {@code false} otherwise.
+	 */
+	boolean isRequired() {
+		return ordinal >= 0;
+	}
+
+	/**
+	 * Returns the ordinal of this property among the required properties of the object,
+	 * which is the index of the name in {@link CompiledObjectType#getRequiredNames()}.
+	 * @return the ordinal of this property, or -1 if this property is not required.
+	 */
+	int getOrdinal() {
+		return ordinal;
+	}
+
+	/**
+	 * Returns the types allowed for this property.
+	 * @return the types allowed for this property.
+	 */
+	CompiledTypeSet getTypeSet() {
+		return typeSet;
+	}
+
+	/**
+	 * Matches the given name to this property.
+	 * @param name the name of the property.
+	 * @return {@code true} if the name given matched this property, {@code false} otherwise.
+	 */
+	boolean matches(String name) {
+		return property.matches(name);
+	}
+}
@@ -0,0 +1,51 @@
+package com.github.i49.hibiscus.validation;
+
+import com.github.i49.hibiscus.schema.Schema;
+
+/**
+ * An executable validation plan which was compiled from a {@link Schema} by {@link SchemaCompiler}.
+ *
+ * <p>The plan is composed of a flat node table which contains every distinct type in the schema,
+ * and the compiled type sets which refer to the nodes.
+ * The instance of this class is immutable and can be shared by multiple threads.</p>
+ */
+class CompiledSchema {
+
+	private final CompiledTypeSet rootTypes;
+	private final CompiledType[] nodes;
+
+	/**
+	 * Constructs this plan.
+	 * @param rootTypes the types allowed at the root of JSON documents.
+	 * @param nodes the table of all nodes in this plan.
+	 */
+	CompiledSchema(CompiledTypeSet rootTypes, CompiledType[] nodes) {
+		this.rootTypes = rootTypes;
+		this.nodes = nodes;
+	}
+
+	/**
+	 * Returns the types allowed at the root of JSON documents.
+	 * @return the types allowed at the root.
+	 */
+	CompiledTypeSet getRootTypes() {
+		return rootTypes;
+	}
+
+	/**
+	 * Returns the number of nodes in this plan.
+	 * @return the number of nodes.
+	 */
+	int getNumberOfNodes() {
+		return nodes.length;
+	}
+
+	/**
+	 * Returns the node at the specified index in the node table.
+	 * @param index the index of the node.
+	 * @return the node found.
+	 */
+	CompiledType getNode(int index) {
+		return nodes[index];
+	}
+}
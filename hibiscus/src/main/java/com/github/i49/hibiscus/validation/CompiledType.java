@@ -0,0 +1,220 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.json.JsonValue;
+
+import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.JsonType;
+
+/**
+ * A node of the {@link CompiledSchema} which corresponds to a {@link JsonType} declared in the schema.
+ *
+ * <p>The instance of this class is created only by {@link SchemaCompiler}
+ * and never modified after the compilation completed.</p>
+ */
+class CompiledType {
+
+	private static final Facet<JsonValue>[] NO_FACETS = newFacetArray(0);
+
+	private final int index;
+	private final JsonType type;
+	private final Facet<JsonValue>[] facets;
+	private final int[] costOrder;
+	private final IntegerRange integerRange;
+	private final Predicate<JsonValue> predicate;
+	private String path;
+
+	/**
+	 * Constructs this node.
+	 * @param index the index of this node in the node table of the compiled schema,
+	 *              or -1 if this node is not a member of any schema.
+	 * @param type the type in the schema from which this node was compiled.
+	 */
+	CompiledType(int index, JsonType type) {
+		this.index = index;
+		this.type = type;
+		this.facets = toFacetArray(type.getFacets());
+		this.costOrder = orderByCost(this.facets);
+		this.integerRange = isNumeric(type.getTypeId()) ? IntegerRange.of(type.getFacets()) : null;
+		this.predicate = FacetPredicates.compile(type.getTypeId(), type.getFacets());
+	}
+
+	/**
+	 * Returns the index of this node in the node table of the compiled schema.
+	 * @return the index of this node, or -1 if this node is not a member of any schema.
+	 */
+	int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns the type in the schema from which this node was compiled.
+	 * @return the original type in the schema.
+	 */
+	JsonType getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the path in the schema where this node was found first,
+	 * which consists of the names of the properties and {@code *} for the array items.
+	 * @return the path in the schema, or {@code null} if this node is not a member of any schema.
+	 */
+	String getPath() {
+		return path;
+	}
+
+	/**
+	 * Assigns the path in the schema where this node was found first.
+	 * This method is called only by {@link SchemaCompiler}.
+	 * @param path the path in the schema.
+	 */
+	void setPath(String path) {
+		this.path = path;
+	}
+
+	/**
+	 * Returns the type identifier of this node.
+	 * @return the type identifier.
+	 */
+	TypeId getTypeId() {
+		return type.getTypeId();
+	}
+
+	/**
+	 * Returns whether this node has any facets or not.
+	 * @return {@code true} if this node has one or more facets, {@code false} otherwise.
+	 */
+	boolean hasFacets() {
+		return facets.length > 0;
+	}
+
+	/**
+	 * Returns whether the given integral value is surely valid against all facets of this node.
+	 * This method allows the value to skip the facets 
+	 * when they are only numeric bounds which were converted to {@link IntegerRange}.
+	 * @param value the integral value to be tested.
+	 * @return {@code true} if the value is valid, 
+	 *         {@code false} if the value needs to be validated by the facets.
+	 */
+	boolean acceptsInteger(long value) {
+		return integerRange != null && integerRange.contains(value);
+	}
+
+	/**
+	 * Returns whether the given value is surely valid against all facets of this node.
+	 * This method tests the value with the predicate compiled by {@link FacetPredicates}
+	 * instead of applying each facet.
+	 * @param value the value to be tested.
+	 * @return {@code true} if the value is valid, 
+	 *         {@code false} if the value needs to be validated by the facets.
+	 */
+	boolean accepts(JsonValue value) {
+		return predicate != null && predicate.test(value);
+	}
+
+	/**
+	 * Applies all facets of this node to the given value.
+	 * @param value the value to be validated.
+	 * @param problems the list to which detected problems to be added.
+	 */
+	void validateInstance(JsonValue value, List<Problem> problems) {
+		for (Facet<JsonValue> facet: this.facets) {
+			facet.apply(value, problems);
+		}
+	}
+
+	/**
+	 * Applies the facets of this node to the given value in ascending order of cost,
+	 * until the value fails any of the facets.
+	 * @param value the value to be validated.
+	 * @param problems the list to which detected problems to be added.
+	 * @see FacetCost
+	 */
+	void validateInstanceByCost(JsonValue value, List<Problem> problems) {
+		final int found = problems.size();
+		for (int i: this.costOrder) {
+			this.facets[i].apply(value, problems);
+			if (problems.size() > found) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Applies the facets of this node to the given value, measuring the time spent on each facet.
+	 * @param value the value to be validated.
+	 * @param problems the list to which detected problems to be added.
+	 * @param listener the listener to be notified of each facet evaluated, may be {@code null}.
+	 * @param recorder the recorder of the profile of the facets, may be {@code null}.
+	 * @param byCost {@code true} if the facets are applied in ascending order of cost until the value fails any of them,
+	 *               {@code false} if all facets are applied in the order of declaration.
+	 */
+	void validateInstance(JsonValue value, List<Problem> problems, 
+			ValidationListener listener, FacetProfiler.Recorder recorder, boolean byCost) {
+		final Facet<JsonValue>[] facets = this.facets;
+		final int[] order = this.costOrder;
+		for (int k = 0; k < facets.length; k++) {
+			int i = byCost ? order[k] : k;
+			int found = problems.size();
+			long start = System.nanoTime();
+			facets[i].apply(value, problems);
+			long nanos = System.nanoTime() - start;
+			boolean passed = problems.size() == found;
+			if (listener != null) {
+				listener.facetEvaluated(facets[i], passed, nanos);
+			}
+			if (recorder != null) {
+				recorder.facetEvaluated(this, i, passed, nanos);
+			}
+			if (byCost && !passed) {
+				return;
+			}
+		}
+	}
+
+	private static boolean isNumeric(TypeId typeId) {
+		return typeId == TypeId.INTEGER || typeId == TypeId.NUMBER;
+	}
+
+	/**
+	 * Sorts the indices of the facets in ascending order of cost.
+	 * The facets of the same cost keep the order of declaration.
+	 * @param facets the facets in the order of declaration.
+	 * @return the indices of the facets sorted.
+	 */
+	private static int[] orderByCost(Facet<JsonValue>[] facets) {
+		int[] order = new int[facets.length];
+		int k = 0;
+		for (int cost = FacetCost.COMPARISON; cost <= FacetCost.UNKNOWN; cost++) {
+			for (int i = 0; i < facets.length; i++) {
+				if (FacetCost.of(facets[i]) == cost) {
+					order[k++] = i;
+				}
+			}
+		}
+		return order;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Facet<JsonValue>[] toFacetArray(List<Facet<?>> facets) {
+		if (facets.isEmpty()) {
+			return NO_FACETS;
+		}
+		Facet<JsonValue>[] array = newFacetArray(facets.size());
+		int i = 0;
+		for (Facet<?> facet: facets) {
+			array[i++] = (Facet<JsonValue>)facet;
+		}
+		return array;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Facet<JsonValue>[] newFacetArray(int length) {
+		return (Facet<JsonValue>[])new Facet<?>[length];
+	}
+}
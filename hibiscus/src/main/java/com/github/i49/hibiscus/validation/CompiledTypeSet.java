@@ -0,0 +1,47 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.Set;
+
+import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.schema.TypeSet;
+
+/**
+ * A compiled form of {@link TypeSet},
+ * which holds the candidate types in the slots indexed by the ordinals of {@link TypeId}.
+ *
+ * <p>The slot for {@link TypeId#INTEGER} already refers to the number type
+ * when the original set has number type but not integer type,
+ * so the lookup of the type never requires any fallbacks at the time of validation.</p>
+ */
+class CompiledTypeSet {
+
+	private final CompiledType[] slots;
+	private final Set<TypeId> typeIds;
+
+	/**
+	 * Constructs this set.
+	 * @param slots the types indexed by the ordinals of {@link TypeId}.
+	 * @param typeIds the type identifiers declared in the original set.
+	 */
+	CompiledTypeSet(CompiledType[] slots, Set<TypeId> typeIds) {
+		this.slots = slots;
+		this.typeIds = typeIds;
+	}
+
+	/**
+	 * Returns the type which is to be applied to the value of the specified type identifier.
+	 * @param typeId the type identifier of the actual value.
+	 * @return the type found, or {@code null} if this set does not have such a type.
+	 */
+	CompiledType getType(TypeId typeId) {
+		return slots[typeId.ordinal()];
+	}
+
+	/**
+	 * Returns all type identifiers declared in the original set.
+	 * @return a set of type identifiers.
+	 */
+	Set<TypeId> getTypeIds() {
+		return typeIds;
+	}
+}
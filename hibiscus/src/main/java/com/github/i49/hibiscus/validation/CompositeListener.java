@@ -0,0 +1,96 @@
+package com.github.i49.hibiscus.validation;
+
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.JsonType;
+
+/**
+ * A listener which forwards all notifications to two listeners.
+ * 
+ * <p>Each listener is notified of a document only if the listener itself was active 
+ * when {@link #isActive()} was invoked for the document.</p>
+ */
+class CompositeListener implements InputSizeListener {
+
+	private final ValidationListener first;
+	private final ValidationListener second;
+	private boolean firstActive;
+	private boolean secondActive;
+	
+	/**
+	 * Constructs this listener.
+	 * @param first the listener to be notified first.
+	 * @param second the listener to be notified second.
+	 */
+	CompositeListener(ValidationListener first, ValidationListener second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	@Override
+	public boolean isActive() {
+		this.firstActive = first.isActive();
+		this.secondActive = second.isActive();
+		return this.firstActive || this.secondActive;
+	}
+
+	@Override
+	public void documentStarted() {
+		if (this.firstActive) {
+			first.documentStarted();
+		}
+		if (this.secondActive) {
+			second.documentStarted();
+		}
+	}
+
+	@Override
+	public void documentEnded() {
+		if (this.firstActive) {
+			first.documentEnded();
+		}
+		if (this.secondActive) {
+			second.documentEnded();
+		}
+	}
+
+	@Override
+	public void typeMatched(JsonType type) {
+		if (this.firstActive) {
+			first.typeMatched(type);
+		}
+		if (this.secondActive) {
+			second.typeMatched(type);
+		}
+	}
+
+	@Override
+	public void facetEvaluated(Facet<?> facet, boolean passed, long nanos) {
+		if (this.firstActive) {
+			first.facetEvaluated(facet, passed, nanos);
+		}
+		if (this.secondActive) {
+			second.facetEvaluated(facet, passed, nanos);
+		}
+	}
+
+	@Override
+	public void problemReported(Problem problem) {
+		if (this.firstActive) {
+			first.problemReported(problem);
+		}
+		if (this.secondActive) {
+			second.problemReported(problem);
+		}
+	}
+
+	@Override
+	public void inputRead(long size) {
+		if (this.firstActive && first instanceof InputSizeListener) {
+			((InputSizeListener)first).inputRead(size);
+		}
+		if (this.secondActive && second instanceof InputSizeListener) {
+			((InputSizeListener)second).inputRead(size);
+		}
+	}
+}
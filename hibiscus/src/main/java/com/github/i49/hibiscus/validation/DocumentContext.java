@@ -8,24 +8,56 @@ import javax.json.JsonNumber;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 
+import com.github.i49.hibiscus.common.JsonPointer;
+
 /**
  * A context class which will be created per a JSON document.
  */
 class DocumentContext extends AbstractJsonContext {
 	
-	private final JsonBuilderFactory factory;
+	private final TransientValueProvider valueProvider;
+	private CompiledTypeSet rootTypes;
+	private JsonPointer rootPointer;
+	private JsonBuilderFactory factory;
+	private ProjectionNode projection;
 	private JsonValue rootValue;
 
 	/**
 	 * Constructs this context.
-	 * @param factory the factory to be used to build the JSON document.
+	 * The context constructed must be reset by {@link #reset(CompiledTypeSet, JsonPointer, JsonBuilderFactory, ProjectionNode)} before use.
+	 * @param valueProvider the transient {@link JsonValue} provider.
+	 */
+	DocumentContext(TransientValueProvider valueProvider) {
+		this.valueProvider = valueProvider;
+	}
+	
+	/**
+	 * Resets this context to read a new JSON document.
+	 * @param rootTypes the type candidates of the root value.
+	 * @param rootPointer the JSON pointer of the root value, 
+	 *                    which refers to an element when the elements of the root array are read one by one.
+	 * @param factory the factory to be used to build the JSON document,
+	 *                or {@code null} if the document is not to be built.
+	 * @param projection the projection which selects the contents of the document to be built.
 	 */
-	DocumentContext(JsonBuilderFactory factory) {
+	void reset(CompiledTypeSet rootTypes, JsonPointer rootPointer, JsonBuilderFactory factory, ProjectionNode projection) {
+		this.rootTypes = rootTypes;
+		this.rootPointer = rootPointer;
 		this.factory = factory;
+		this.projection = (factory != null) ? projection : null;
+		this.rootValue = null;
+	}
+	
+	@Override
+	public CompiledTypeSet nextValue() {
+		return rootTypes;
 	}
 	
 	@Override
 	public JsonNumber add(int value) {
+		if (!isBuilding()) {
+			return valueProvider.getNumber(value);
+		}
 		JsonNumber number = builder().add(value).build().getJsonNumber(0);
 		setRootValue(number);
 		return number;
@@ -33,6 +65,9 @@ class DocumentContext extends AbstractJsonContext {
 
 	@Override
 	public JsonNumber add(long value) {
+		if (!isBuilding()) {
+			return valueProvider.getNumber(value);
+		}
 		JsonNumber number = builder().add(value).build().getJsonNumber(0); 
 		setRootValue(number);
 		return number;
@@ -40,6 +75,9 @@ class DocumentContext extends AbstractJsonContext {
 
 	@Override
 	public JsonNumber add(BigDecimal value) {
+		if (!isBuilding()) {
+			return valueProvider.getNumber(value);
+		}
 		JsonNumber number = builder().add(value).build().getJsonNumber(0); 
 		setRootValue(number);
 		return number;
@@ -47,6 +85,9 @@ class DocumentContext extends AbstractJsonContext {
 
 	@Override
 	public JsonString add(String value) {
+		if (!isBuilding()) {
+			return valueProvider.getString(value);
+		}
 		JsonString string = builder().add(value).build().getJsonString(0); 
 		setRootValue(string);
 		return string;
@@ -54,13 +95,30 @@ class DocumentContext extends AbstractJsonContext {
 
 	@Override
 	public JsonValue add(JsonValue value) {
-		setRootValue(value);
+		if (projection != null && projection.selects(value)) {
+			setRootValue(value);
+		}
 		return value;
 	}
 	
+	@Override
+	public boolean isBuilding() {
+		return projection == ProjectionNode.ALL;
+	}
+
+	@Override
+	public ProjectionNode getCurrentProjection() {
+		return projection;
+	}
+	
+	@Override
+	public JsonPointer getCurrentPointer() {
+		return rootPointer;
+	}
+	
 	/**
 	 * Return the value at the root of the JSON document.
-	 * @return the root value.
+	 * @return the root value, or {@code null} if this context does not build the document.
 	 */
 	public JsonValue getRootValue() {
 		return rootValue;
@@ -0,0 +1,23 @@
+package com.github.i49.hibiscus.validation;
+
+/**
+ * A result of the validation of a single element in the array at the root of a JSON document.
+ *
+ * <p>In addition to the result of the validation,
+ * this interface provides the index of the element in the root array.
+ * The JSON pointers of the problems in this result refer to the values in the whole document,
+ * and {@link #getValue()} returns the element itself.</p>
+ *
+ * @see JsonValidator#validateElements(java.io.Reader, java.util.function.Consumer)
+ * @see JsonValidator#validateElements(java.io.InputStream, java.util.function.Consumer)
+ */
+public interface ElementResult extends ValidationResult {
+
+	/**
+	 * Returns the index of the element in the root array.
+	 * The index of the first element is zero.
+	 *
+	 * @return the index of the element.
+	 */
+	int getIndex();
+}
@@ -0,0 +1,33 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.List;
+
+import javax.json.JsonValue;
+
+import com.github.i49.hibiscus.problems.Problem;
+
+/**
+ * An implementation class of {@link ElementResult} interface.
+ * This class is used internally by {@link BasicJsonValidator}.
+ */
+class ElementResultImpl extends ValidationResultImpl implements ElementResult {
+
+	private final int index;
+
+	/**
+	 * Constructs this result.
+	 * @param index the index of the element in the root array.
+	 * @param value the element, or {@code null} if the element was not built.
+	 * @param problems the problems detected in the element.
+	 * @param truncated {@code true} if the validation of the element was stopped before reaching its end.
+	 */
+	ElementResultImpl(int index, JsonValue value, List<Problem> problems, boolean truncated) {
+		super(value, problems, truncated);
+		this.index = index;
+	}
+
+	@Override
+	public int getIndex() {
+		return index;
+	}
+}
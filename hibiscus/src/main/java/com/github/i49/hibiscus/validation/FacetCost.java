@@ -0,0 +1,52 @@
+package com.github.i49.hibiscus.validation;
+
+import com.github.i49.hibiscus.facets.EnumerationFacet;
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.facets.FormatFacet;
+import com.github.i49.hibiscus.facets.LengthFacet;
+import com.github.i49.hibiscus.facets.MaxLengthFacet;
+import com.github.i49.hibiscus.facets.MaxNumberFacet;
+import com.github.i49.hibiscus.facets.MinLengthFacet;
+import com.github.i49.hibiscus.facets.MinNumberFacet;
+import com.github.i49.hibiscus.facets.PatternFacet;
+import com.github.i49.hibiscus.facets.UniqueItemFacet;
+
+/**
+ * The declared costs of the built-in facets, 
+ * which determine the order of the facets when they are evaluated in ascending order of cost.
+ */
+final class FacetCost {
+
+	/** The cost of the facets which compare a length or a bound. */
+	static final int COMPARISON = 0;
+	/** The cost of the facets which look up a set. */
+	static final int LOOKUP = 1;
+	/** The cost of the facets which visit every item of an array. */
+	static final int ITEMS = 2;
+	/** The cost of the facets which scan the characters of a string. */
+	static final int SCAN = 3;
+	/** The cost of the facets whose cost is unknown, including the assertions given by the user. */
+	static final int UNKNOWN = 4;
+	
+	/**
+	 * Returns the declared cost of the given facet.
+	 * @param facet the facet.
+	 * @return the cost of the facet, the smaller is the cheaper.
+	 */
+	static int of(Facet<?> facet) {
+		if (facet instanceof LengthFacet || facet instanceof MinLengthFacet || facet instanceof MaxLengthFacet ||
+			facet instanceof MinNumberFacet || facet instanceof MaxNumberFacet) {
+			return COMPARISON;
+		} else if (facet instanceof EnumerationFacet) {
+			return LOOKUP;
+		} else if (facet instanceof UniqueItemFacet) {
+			return ITEMS;
+		} else if (facet instanceof PatternFacet || facet instanceof FormatFacet) {
+			return SCAN;
+		}
+		return UNKNOWN;
+	}
+	
+	private FacetCost() {
+	}
+}
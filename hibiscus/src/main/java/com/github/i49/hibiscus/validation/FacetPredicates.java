@@ -0,0 +1,169 @@
+package com.github.i49.hibiscus.validation;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.json.JsonNumber;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import com.github.i49.hibiscus.common.Bound;
+import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.facets.EnumerationFacet;
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.facets.LengthFacet;
+import com.github.i49.hibiscus.facets.MaxLengthFacet;
+import com.github.i49.hibiscus.facets.MaxNumberFacet;
+import com.github.i49.hibiscus.facets.MinLengthFacet;
+import com.github.i49.hibiscus.facets.MinNumberFacet;
+import com.github.i49.hibiscus.facets.PatternFacet;
+
+/**
+ * A compiler of the facets of a type into a single predicate,
+ * which is composed of the primitive checks against the constants taken from the facets.
+ *
+ * <p>The predicate tells whether a value is surely valid against all facets of the type,
+ * without creating any problems nor dispatching to each facet.
+ * The value is converted to the Java value only once for all checks,
+ * and the lengths of the strings are compared with a single range
+ * merged from all length facets of the type.
+ * When the predicate rejects a value, the value must be validated by the facets again
+ * to report the problems.</p>
+ *
+ * <p>The predicate is available only when all facets of the type are known to this class.
+ * The types which have other facets, such as {@code assertion} and {@code format},
+ * are always validated by the facets.</p>
+ */
+final class FacetPredicates {
+
+	/**
+	 * Compiles all facets of a type into a predicate.
+	 * @param typeId the type identifier of the type.
+	 * @param facets all facets of the type.
+	 * @return the predicate compiled, or {@code null} if the type has no facets
+	 *         or any of the facets cannot be compiled.
+	 */
+	static Predicate<JsonValue> compile(TypeId typeId, List<Facet<?>> facets) {
+		if (facets.isEmpty()) {
+			return null;
+		}
+		switch (typeId) {
+		case BOOLEAN:
+			return compileBoolean(facets);
+		case INTEGER:
+		case NUMBER:
+			return compileNumber(facets);
+		case STRING:
+			return compileString(facets);
+		default:
+			return null;
+		}
+	}
+
+	private static Predicate<JsonValue> compileBoolean(List<Facet<?>> facets) {
+		Predicate<Boolean> predicate = null;
+		for (Facet<?> facet: facets) {
+			if (facet instanceof EnumerationFacet) {
+				predicate = and(predicate, contains(((EnumerationFacet<?, ?>)facet).getEnumerators()));
+			} else {
+				return null;
+			}
+		}
+		final Predicate<Boolean> composed = predicate;
+		return value->composed.test(value == JsonValue.TRUE);
+	}
+
+	private static Predicate<JsonValue> compileNumber(List<Facet<?>> facets) {
+		Predicate<BigDecimal> predicate = null;
+		for (Facet<?> facet: facets) {
+			if (facet instanceof MinNumberFacet) {
+				predicate = and(predicate, above(((MinNumberFacet)facet).getBound()));
+			} else if (facet instanceof MaxNumberFacet) {
+				predicate = and(predicate, below(((MaxNumberFacet)facet).getBound()));
+			} else if (facet instanceof EnumerationFacet) {
+				predicate = and(predicate, contains(((EnumerationFacet<?, ?>)facet).getEnumerators()));
+			} else {
+				return null;
+			}
+		}
+		final Predicate<BigDecimal> composed = predicate;
+		return value->composed.test(((JsonNumber)value).bigDecimalValue());
+	}
+
+	private static Predicate<JsonValue> compileString(List<Facet<?>> facets) {
+		int minLength = 0;
+		int maxLength = Integer.MAX_VALUE;
+		boolean hasLength = false;
+		Predicate<String> predicate = null;
+		for (Facet<?> facet: facets) {
+			if (facet instanceof LengthFacet) {
+				int length = ((LengthFacet<?>)facet).getLength();
+				minLength = Math.max(minLength, length);
+				maxLength = Math.min(maxLength, length);
+				hasLength = true;
+			} else if (facet instanceof MinLengthFacet) {
+				minLength = Math.max(minLength, ((MinLengthFacet<?>)facet).getMinLength());
+				hasLength = true;
+			} else if (facet instanceof MaxLengthFacet) {
+				maxLength = Math.min(maxLength, ((MaxLengthFacet<?>)facet).getMaxLength());
+				hasLength = true;
+			} else if (facet instanceof EnumerationFacet) {
+				predicate = and(predicate, contains(((EnumerationFacet<?, ?>)facet).getEnumerators()));
+			} else if (facet instanceof PatternFacet) {
+				predicate = and(predicate, matches(((PatternFacet)facet).getPattern()));
+			} else {
+				return null;
+			}
+		}
+		if (hasLength) {
+			// The lengths are checked first because they are the cheapest.
+			Predicate<String> length = lengthBetween(minLength, maxLength);
+			predicate = (predicate != null) ? length.and(predicate) : length;
+		}
+		final Predicate<String> composed = predicate;
+		return value->composed.test(((JsonString)value).getString());
+	}
+
+	private static <T> Predicate<T> and(Predicate<T> first, Predicate<T> second) {
+		return (first != null) ? first.and(second) : second;
+	}
+
+	private static <T> Predicate<T> contains(Set<Object> enumerators) {
+		return enumerators::contains;
+	}
+
+	private static Predicate<BigDecimal> above(Bound<BigDecimal> bound) {
+		final BigDecimal limit = bound.getValue();
+		if (bound.isExclusive()) {
+			return value->value.compareTo(limit) > 0;
+		} else {
+			return value->value.compareTo(limit) >= 0;
+		}
+	}
+
+	private static Predicate<BigDecimal> below(Bound<BigDecimal> bound) {
+		final BigDecimal limit = bound.getValue();
+		if (bound.isExclusive()) {
+			return value->value.compareTo(limit) < 0;
+		} else {
+			return value->value.compareTo(limit) <= 0;
+		}
+	}
+
+	private static Predicate<String> lengthBetween(int minLength, int maxLength) {
+		return value->{
+			int length = value.length();
+			return minLength <= length && length <= maxLength;
+		};
+	}
+
+	private static Predicate<String> matches(Pattern pattern) {
+		return value->pattern.matcher(value).matches();
+	}
+
+	private FacetPredicates() {
+	}
+}
@@ -0,0 +1,87 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.List;
+
+import com.github.i49.hibiscus.common.TypeId;
+
+/**
+ * A profile of the cost spent on the facets while JSON documents were validated.
+ *
+ * <p>The profile is collected only when it was enabled by {@link BasicJsonValidator#profileFacets()},
+ * and obtained by {@link BasicJsonValidator#getFacetProfile()}.
+ * Each entry of the profile corresponds to a facet of a type in the schema, 
+ * or to the lookups of the properties in an object type.
+ * The entries are identified by the paths in the schema, 
+ * which consist of the names of the properties and {@code *} for the array items,
+ * e.g. {@code /items/*}{@code /email}.
+ * When a type is shared by multiple places in the schema, the path where it was found first is used.</p>
+ *
+ * <p>The profile is a snapshot which is not modified by the subsequent validations.</p>
+ */
+public interface FacetProfile {
+
+	/**
+	 * Returns all entries of this profile which were evaluated at least once,
+	 * in descending order of the time spent.
+	 * @return the list of the entries, never be {@code null}.
+	 */
+	List<Entry> getEntries();
+
+	/**
+	 * Returns the total time spent on all entries of this profile.
+	 * @return the total time in nanoseconds.
+	 */
+	long getTotalNanos();
+
+	/**
+	 * Returns the report of this profile, which has a line for each entry, e.g.
+	 * <pre>/items/*&#47;email format(email): 1.2M evals, 3 failures, 38.0% of time</pre>
+	 * @return the report of this profile.
+	 */
+	String getReport();
+
+	/**
+	 * An entry of {@link FacetProfile}.
+	 */
+	interface Entry {
+
+		/**
+		 * Returns the path of the type in the schema.
+		 * The path of the types at the root is an empty string.
+		 * @return the path of the type.
+		 */
+		String getPath();
+
+		/**
+		 * Returns the identifier of the type.
+		 * @return the type identifier.
+		 */
+		TypeId getTypeId();
+
+		/**
+		 * Returns the description of the facet, e.g. {@code maxLength(8)},
+		 * or {@code properties} for the lookups of the properties in an object.
+		 * @return the description of the facet.
+		 */
+		String getFacet();
+
+		/**
+		 * Returns the number of the times the facet was evaluated.
+		 * @return the number of the evaluations.
+		 */
+		long getEvaluations();
+
+		/**
+		 * Returns the number of the times the value failed the facet,
+		 * or the names were not found in the object for the lookups of the properties.
+		 * @return the number of the failures.
+		 */
+		long getFailures();
+
+		/**
+		 * Returns the time spent on the evaluations.
+		 * @return the cumulative time in nanoseconds.
+		 */
+		long getNanos();
+	}
+}
@@ -0,0 +1,120 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import com.github.i49.hibiscus.common.TypeId;
+
+/**
+ * An implementation class of {@link FacetProfile} interface.
+ * This class is used internally by {@link FacetProfiler}.
+ */
+class FacetProfileImpl implements FacetProfile {
+
+	private final List<Entry> entries;
+	private final long totalNanos;
+
+	/**
+	 * Constructs this profile.
+	 * @param entries the entries sorted in descending order of the time.
+	 * @param totalNanos the total time of the entries.
+	 */
+	FacetProfileImpl(List<Entry> entries, long totalNanos) {
+		this.entries = Collections.unmodifiableList(entries);
+		this.totalNanos = totalNanos;
+	}
+
+	@Override
+	public List<Entry> getEntries() {
+		return entries;
+	}
+
+	@Override
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	@Override
+	public String getReport() {
+		StringBuilder b = new StringBuilder();
+		for (Entry entry: this.entries) {
+			String path = entry.getPath();
+			b.append(path.isEmpty() ? "/" : path).append(' ').append(entry.getFacet()).append(": ");
+			b.append(formatCount(entry.getEvaluations())).append(" evals, ");
+			b.append(formatCount(entry.getFailures())).append(" failures, ");
+			double share = (this.totalNanos > 0) ? entry.getNanos() * 100.0 / this.totalNanos : 0.0;
+			b.append(String.format(Locale.ROOT, "%.1f%% of time", share));
+			b.append(System.lineSeparator());
+		}
+		return b.toString();
+	}
+
+	@Override
+	public String toString() {
+		return getReport();
+	}
+
+	private static String formatCount(long count) {
+		if (count < 1000) {
+			return Long.toString(count);
+		} else if (count < 1000000) {
+			return String.format(Locale.ROOT, "%.1fK", count / 1e3);
+		} else if (count < 1000000000) {
+			return String.format(Locale.ROOT, "%.1fM", count / 1e6);
+		}
+		return String.format(Locale.ROOT, "%.1fG", count / 1e9);
+	}
+
+	/**
+	 * An implementation class of {@link FacetProfile.Entry} interface.
+	 */
+	static class EntryImpl implements Entry {
+
+		private final String path;
+		private final TypeId typeId;
+		private final String facet;
+		private final long evaluations;
+		private final long failures;
+		private final long nanos;
+
+		EntryImpl(String path, TypeId typeId, String facet, long evaluations, long failures, long nanos) {
+			this.path = path;
+			this.typeId = typeId;
+			this.facet = facet;
+			this.evaluations = evaluations;
+			this.failures = failures;
+			this.nanos = nanos;
+		}
+
+		@Override
+		public String getPath() {
+			return path;
+		}
+
+		@Override
+		public TypeId getTypeId() {
+			return typeId;
+		}
+
+		@Override
+		public String getFacet() {
+			return facet;
+		}
+
+		@Override
+		public long getEvaluations() {
+			return evaluations;
+		}
+
+		@Override
+		public long getFailures() {
+			return failures;
+		}
+
+		@Override
+		public long getNanos() {
+			return nanos;
+		}
+	}
+}
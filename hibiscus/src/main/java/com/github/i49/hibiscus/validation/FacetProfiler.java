@@ -0,0 +1,163 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.i49.hibiscus.facets.Facet;
+
+/**
+ * A profiler which accumulates the cost spent on the facets of the compiled schema.
+ *
+ * <p>Each facet of each node in the schema, and the lookups of the properties of each object node,
+ * are assigned to the slots of the flat tables, which hold the numbers of the evaluations and the failures
+ * and the cumulative time. 
+ * Each reader records into its own {@link Recorder} without any synchronization,
+ * and the recorder is merged into this profiler when a document was read.</p>
+ */
+class FacetProfiler {
+
+	private static final String PROPERTIES = "properties";
+	
+	private final CompiledSchema schema;
+	private final int[] offsets;
+	private final long[] evaluations;
+	private final long[] failures;
+	private final long[] nanos;
+	
+	/**
+	 * Constructs this profiler.
+	 * @param schema the compiled schema to be profiled.
+	 */
+	FacetProfiler(CompiledSchema schema) {
+		this.schema = schema;
+		int nodes = schema.getNumberOfNodes();
+		this.offsets = new int[nodes];
+		int slots = 0;
+		for (int i = 0; i < nodes; i++) {
+			this.offsets[i] = slots;
+			// The first slot of each node is for the lookups of the properties.
+			slots += 1 + schema.getNode(i).getType().getFacets().size();
+		}
+		this.evaluations = new long[slots];
+		this.failures = new long[slots];
+		this.nanos = new long[slots];
+	}
+	
+	/**
+	 * Creates a new recorder to be used by a reader.
+	 * @return created recorder.
+	 */
+	Recorder createRecorder() {
+		return new Recorder(this);
+	}
+	
+	/**
+	 * Takes the snapshot of the profile accumulated so far.
+	 * @return the snapshot of the profile.
+	 */
+	synchronized FacetProfile snapshot() {
+		List<FacetProfile.Entry> entries = new ArrayList<>();
+		long total = 0;
+		for (int i = 0; i < this.offsets.length; i++) {
+			CompiledType node = this.schema.getNode(i);
+			List<Facet<?>> facets = node.getType().getFacets();
+			int base = this.offsets[i];
+			for (int j = 0; j <= facets.size(); j++) {
+				int slot = base + j;
+				if (this.evaluations[slot] == 0) {
+					continue;
+				}
+				String facet = (j == 0) ? PROPERTIES : facets.get(j - 1).toString();
+				entries.add(new FacetProfileImpl.EntryImpl(node.getPath(), node.getTypeId(), facet,
+						this.evaluations[slot], this.failures[slot], this.nanos[slot]));
+				total += this.nanos[slot];
+			}
+		}
+		entries.sort((a, b) -> Long.compare(b.getNanos(), a.getNanos()));
+		return new FacetProfileImpl(entries, total);
+	}
+	
+	private synchronized void merge(Recorder recorder) {
+		for (int k = 0; k < recorder.touchedCount; k++) {
+			int slot = recorder.touched[k];
+			this.evaluations[slot] += recorder.evaluations[slot];
+			this.failures[slot] += recorder.failures[slot];
+			this.nanos[slot] += recorder.nanos[slot];
+			recorder.evaluations[slot] = 0;
+			recorder.failures[slot] = 0;
+			recorder.nanos[slot] = 0;
+		}
+		recorder.touchedCount = 0;
+	}
+
+	/**
+	 * A recorder which accumulates the cost in a reader.
+	 * All methods of this object are intended to be invoked from the same thread.
+	 */
+	static class Recorder {
+		
+		private final FacetProfiler profiler;
+		private final int[] offsets;
+		private final long[] evaluations;
+		private final long[] failures;
+		private final long[] nanos;
+		private final int[] touched;
+		private int touchedCount;
+		
+		private Recorder(FacetProfiler profiler) {
+			this.profiler = profiler;
+			this.offsets = profiler.offsets;
+			int slots = profiler.evaluations.length;
+			this.evaluations = new long[slots];
+			this.failures = new long[slots];
+			this.nanos = new long[slots];
+			this.touched = new int[slots];
+		}
+		
+		/**
+		 * Records an evaluation of a facet.
+		 * @param node the node which has the facet.
+		 * @param index the index of the facet in the node.
+		 * @param passed {@code true} if the value satisfied the facet, {@code false} otherwise.
+		 * @param nanos the time spent in nanoseconds.
+		 */
+		void facetEvaluated(CompiledType node, int index, boolean passed, long nanos) {
+			int nodeIndex = node.getIndex();
+			if (nodeIndex >= 0) {
+				record(this.offsets[nodeIndex] + 1 + index, passed, nanos);
+			}
+		}
+
+		/**
+		 * Records a lookup of a property.
+		 * @param node the object node in which the property was looked up.
+		 * @param found {@code true} if the property was found, {@code false} otherwise.
+		 * @param nanos the time spent in nanoseconds.
+		 */
+		void propertyLookedUp(CompiledObjectType node, boolean found, long nanos) {
+			int nodeIndex = node.getIndex();
+			if (nodeIndex >= 0) {
+				record(this.offsets[nodeIndex], found, nanos);
+			}
+		}
+		
+		/**
+		 * Merges the cost recorded so far into the profiler and clears this recorder.
+		 */
+		void flush() {
+			if (this.touchedCount > 0) {
+				this.profiler.merge(this);
+			}
+		}
+		
+		private void record(int slot, boolean passed, long nanos) {
+			if (this.evaluations[slot]++ == 0) {
+				this.touched[this.touchedCount++] = slot;
+			}
+			if (!passed) {
+				this.failures[slot]++;
+			}
+			this.nanos[slot] += nanos;
+		}
+	}
+}
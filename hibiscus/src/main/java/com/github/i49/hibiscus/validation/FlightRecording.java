@@ -0,0 +1,52 @@
+package com.github.i49.hibiscus.validation;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * The support of JDK Flight Recorder.
+ * 
+ * <p>The validator emits the events named {@value ValidationDocumentEvent#NAME} 
+ * and {@value ValidationFacetEvent#NAME}, which are disabled by default.
+ * When the API of JDK Flight Recorder is not available in the running JVM, 
+ * no events are emitted.</p>
+ * <p>The classes referring to the API are placed in the separate source directory {@code src/main/java11}
+ * and compiled for Java 11, while the rest of the library keeps Java 8 as its baseline.</p>
+ */
+final class FlightRecording {
+
+	private static final Constructor<? extends ValidationListener> listenerConstructor = findListenerConstructor();
+	
+	/**
+	 * Attaches the listener which emits the events of JDK Flight Recorder to the given listener.
+	 * @param listener the listener registered by the user, may be {@code null}.
+	 * @param schema the name which identifies the schema in the events recorded.
+	 * @return the listener to be passed to a reader, may be {@code null}.
+	 */
+	static ValidationListener attach(ValidationListener listener, String schema) {
+		if (listenerConstructor == null) {
+			return listener;
+		}
+		ValidationListener recorder;
+		try {
+			recorder = listenerConstructor.newInstance(schema);
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return listener;
+		}
+		return (listener != null) ? new CompositeListener(listener, recorder) : recorder;
+	}
+	
+	private static Constructor<? extends ValidationListener> findListenerConstructor() {
+		try {
+			Class.forName("jdk.jfr.Event", false, FlightRecording.class.getClassLoader());
+			Class<? extends ValidationListener> listenerClass = 
+					Class.forName("com.github.i49.hibiscus.validation.FlightRecorderListener")
+					.asSubclass(ValidationListener.class);
+			return listenerClass.getConstructor(String.class);
+		} catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+			return null;
+		}
+	}
+	
+	private FlightRecording() {
+	}
+}
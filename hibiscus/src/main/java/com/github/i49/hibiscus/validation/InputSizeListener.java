@@ -0,0 +1,15 @@
+package com.github.i49.hibiscus.validation;
+
+/**
+ * A listener which is also notified of the size of the input read for each JSON document.
+ * This interface is used only internally.
+ */
+interface InputSizeListener extends ValidationListener {
+
+	/**
+	 * Invoked just before {@link #documentEnded()} when the size of the input read is known.
+	 * @param size the size of the input read for the document, 
+	 *             in bytes for UTF-8 input and in characters otherwise.
+	 */
+	void inputRead(long size);
+}
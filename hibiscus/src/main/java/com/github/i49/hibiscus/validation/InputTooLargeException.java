@@ -0,0 +1,36 @@
+package com.github.i49.hibiscus.validation;
+
+import javax.json.JsonException;
+
+import com.github.i49.hibiscus.problems.DocumentTooLargeProblem;
+
+/**
+ * An exception thrown by the limited input when the input exceeded the maximum size.
+ * 
+ * <p>This exception passes through the JSON parser reading the input,
+ * and is converted into {@link DocumentTooLargeProblem} by the validator.
+ * When the document is read by {@link ValidatingJsonParser}, 
+ * this exception is thrown to the caller of the parser as it is.</p>
+ */
+@SuppressWarnings("serial")
+class InputTooLargeException extends JsonException {
+
+	private final long limitSize;
+
+	/**
+	 * Constructs this exception.
+	 * @param limitSize the maximum size of the input.
+	 */
+	InputTooLargeException(long limitSize) {
+		super("The input exceeds the maximum size of " + limitSize + ".");
+		this.limitSize = limitSize;
+	}
+
+	/**
+	 * Returns the maximum size of the input.
+	 * @return the maximum size of the input.
+	 */
+	long getLimitSize() {
+		return limitSize;
+	}
+}
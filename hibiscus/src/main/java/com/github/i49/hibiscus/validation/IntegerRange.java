@@ -0,0 +1,96 @@
+package com.github.i49.hibiscus.validation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import com.github.i49.hibiscus.common.Bound;
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.facets.MaxNumberFacet;
+import com.github.i49.hibiscus.facets.MinNumberFacet;
+
+/**
+ * A range of {@code long} values which is equivalent to
+ * a combination of {@link MinNumberFacet} and {@link MaxNumberFacet}.
+ *
+ * <p>The bounds of the facets are converted into the {@code long} values in advance,
+ * which allows the integral values in JSON document to be validated
+ * without any conversion to {@link BigDecimal}.
+ * </p>
+ */
+class IntegerRange {
+
+	private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+	private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+	private final long min;
+	private final long max;
+
+	/**
+	 * Creates a range equivalent to the specified facets.
+	 * @param facets the facets of the type.
+	 * @return the range created, or {@code null} if any of the facets cannot be converted to the range
+	 *         or no {@code long} value can satisfy the facets.
+	 */
+	static IntegerRange of(List<Facet<?>> facets) {
+		if (facets.isEmpty()) {
+			return null;
+		}
+		BigDecimal min = LONG_MIN;
+		BigDecimal max = LONG_MAX;
+		for (Facet<?> facet: facets) {
+			if (facet instanceof MinNumberFacet) {
+				min = min.max(lowest(((MinNumberFacet)facet).getBound()));
+			} else if (facet instanceof MaxNumberFacet) {
+				max = max.min(highest(((MaxNumberFacet)facet).getBound()));
+			} else {
+				return null;
+			}
+		}
+		if (min.compareTo(max) > 0) {
+			// Every value will be reported by the facets.
+			return null;
+		}
+		return new IntegerRange(min.longValueExact(), max.longValueExact());
+	}
+
+	private IntegerRange(long min, long max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	/**
+	 * Returns whether the specified value is included in this range or not.
+	 * @param value the value to be tested.
+	 * @return {@code true} if the value is included in this range, {@code false} otherwise.
+	 */
+	boolean contains(long value) {
+		return min <= value && value <= max;
+	}
+
+	/**
+	 * Returns the lowest integral value allowed by the lower bound.
+	 * @param bound the lower bound.
+	 * @return the lowest value allowed.
+	 */
+	private static BigDecimal lowest(Bound<BigDecimal> bound) {
+		if (bound.isExclusive()) {
+			return bound.getValue().setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE);
+		} else {
+			return bound.getValue().setScale(0, RoundingMode.CEILING);
+		}
+	}
+
+	/**
+	 * Returns the highest integral value allowed by the upper bound.
+	 * @param bound the upper bound.
+	 * @return the highest value allowed.
+	 */
+	private static BigDecimal highest(Bound<BigDecimal> bound) {
+		if (bound.isExclusive()) {
+			return bound.getValue().setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE);
+		} else {
+			return bound.getValue().setScale(0, RoundingMode.FLOOR);
+		}
+	}
+}
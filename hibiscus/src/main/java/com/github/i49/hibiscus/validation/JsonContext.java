@@ -26,6 +26,13 @@ interface JsonContext {
 	 */
 	void setParent(JsonContext parent);
 
+	/**
+	 * Moves to the next value in this context.
+	 * @return the type candidates of the next value declared in the schema,
+	 *         or {@code null} if the value is not to be validated.
+	 */
+	CompiledTypeSet nextValue();
+
 	/**
 	 * Adds an integer value to this context.
 	 * @param value the value to be added.
@@ -61,6 +68,18 @@ interface JsonContext {
 	 */
 	JsonValue add(JsonValue value);
 	
+	/**
+	 * Returns whether the current value in this context is to be built as a whole or not.
+	 * @return {@code true} if the current value is to be built as a whole, {@code false} otherwise.
+	 */
+	boolean isBuilding();
+
+	/**
+	 * Returns the projection which selects the contents of the current value to be built.
+	 * @return the projection of the current value, or {@code null} if the value is not to be built.
+	 */
+	ProjectionNode getCurrentProjection();
+	
 	/**
 	 * Returns the JSON pointer of the value which owns this context.
 	 * @return the JSON pointer of the value which owns this context.
@@ -72,10 +91,4 @@ interface JsonContext {
 	 * @return the JSON pointer of the current active value.
 	 */
 	JsonPointer getCurrentPointer();
-
-	/**
-	 * Builds the JSON pointer of the current active value.
-	 * @param builder the builder of the JSON pointer.
-	 */
-	void buildCurrentPointer(JsonPointer.Builder builder);
 }
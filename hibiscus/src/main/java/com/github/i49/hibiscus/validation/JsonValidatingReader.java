@@ -1,6 +1,9 @@
 package com.github.i49.hibiscus.validation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import javax.json.JsonArray;
@@ -8,64 +11,359 @@ import javax.json.JsonBuilderFactory;
 import javax.json.JsonException;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
+import javax.json.stream.JsonLocation;
 import javax.json.stream.JsonParser;
 
 import com.github.i49.hibiscus.common.JsonDocument;
 import com.github.i49.hibiscus.common.JsonPointer;
 import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.problems.MissingPropertyProblem;
+import com.github.i49.hibiscus.problems.NestingTooDeepProblem;
 import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TokenTooLongProblem;
+import com.github.i49.hibiscus.problems.TooManyItemsProblem;
+import com.github.i49.hibiscus.problems.TooManyPropertiesProblem;
 import com.github.i49.hibiscus.problems.TypeMismatchProblem;
 import com.github.i49.hibiscus.problems.UnknownPropertyProblem;
-import com.github.i49.hibiscus.schema.ArrayType;
-import com.github.i49.hibiscus.schema.JsonType;
-import com.github.i49.hibiscus.schema.ObjectType;
-import com.github.i49.hibiscus.schema.Property;
-import com.github.i49.hibiscus.schema.Schema;
-import com.github.i49.hibiscus.schema.TypeSet;
 
 /**
  * An internal class to be used to parse and validate JSON documents against specified schema.
- * The object of this class should be instantiated on every reading of a new JSON document.
+ * 
+ * <p>This reader is driven by the events emitted by {@link JsonParser}.
+ * {@link #readAll(JsonParser, CompiledSchema, ProjectionNode, int)} pulls all events of a document from the parser,
+ * while the other users such as {@link ValidatingJsonParser} can feed the events one by one
+ * to {@link #handleEvent(JsonParser.Event)}.
+ * When the events are emitted by {@link JsonValueParser} walking the values already built,
+ * the arrays and objects are taken from the parser instead of being built again.</p>
+ * 
+ * <p>The values to be built are selected by {@link ProjectionNode}.
+ * The arrays and objects whose facets need their whole values are always built entirely,
+ * and they are included in the result as a whole when they are on the path of the projection.</p>
+ * 
+ * <p>The arrays and objects which need neither validation nor building are skipped.
+ * When the parser implements {@link SkippableParser}, the contents of them are skipped by the parser itself, 
+ * otherwise the events for them are just counted to find the end.</p>
+ * 
+ * <p>This reader never recurses into the nested values.
+ * The contexts of the arrays and the objects being read form an explicit stack, 
+ * which is limited by the maximum depth of nesting given by {@link ReadingLimits}.
+ * The other limits on the length of the tokens and the number of properties and elements
+ * are also enforced while reading, before the values exceeding them are converted or stored.
+ * When any of the limits is exceeded, this reader reports the problem dedicated to the limit
+ * such as {@link NestingTooDeepProblem} and stops reading immediately.
+ * The contents of the containers skipped are not counted against the limits.
+ * The limit on the size of the input is enforced by the input itself, see {@link InputTooLargeException}.</p>
+ * 
+ * <p>The object of this class can be reused to read multiple JSON documents one after another.
+ * The contexts of arrays and objects are recycled per depth of nesting,
+ * and the document and the list of problems are allocated only when any problems are found.</p>
  * 
  * <p>All methods of this object are intended to be invoked from the same thread.</p>
  */
 class JsonValidatingReader {
 
-	private final JsonParser parser;
+	private static final int INITIAL_DEPTH = 8;
+
 	private final JsonBuilderFactory builderFactory;
+	private final int maxDepth;
+	private final int maxTokenLength;
+	private final int maxProperties;
+	private final int maxItems;
+	private final ValidationListener listener;
+	private final FacetProfiler.Recorder recorder;
+	private final boolean shortCircuitFacets;
+	private ValidationListener activeListener;
+	private long startOffset;
 	private final TransientValueProvider transientValueProvider = new TransientValueProvider();
-	private final List<Problem> problems = new ArrayList<>();
+	private final DocumentContext documentContext = new DocumentContext(transientValueProvider);
 	private final List<Problem> valueProblems = new ArrayList<>();
-	private JsonDocument document = new JsonDocument();
+	private ArrayContext[] arrayContexts = new ArrayContext[INITIAL_DEPTH];
+	private ObjectContext[] objectContexts = new ObjectContext[INITIAL_DEPTH];
+	private JsonParser parser;
+	private JsonValueParser valueParser;
+	private SkippableParser skippableParser;
+	private Utf8JsonParser utf8Parser;
+	private int maxProblems;
+	private List<Problem> problems;
+	private JsonDocument document;
+	private boolean bindsCauseValues;
+	private int elementIndex;
+	private int baseDepth;
 	private JsonContext currentContext;
+	private int depth;
+	private int skippedDepth;
+	private boolean complete;
+	private boolean truncated;
+	private boolean reading;
 	
 	/**
 	 * Constructs this reader.
-	 * @param parser the JSON parser which conforms to Java API for JSON Processing.
 	 * @param builderFactory the JSON builder which conforms to Java API for JSON Processing.
+	 * @param limits the limits on the resources consumed by reading JSON documents.
+	 * @param listener the listener to be notified while reading, or {@code null} if no listener is registered.
+	 * @param recorder the recorder of the profile of the facets, or {@code null} if the facets are not profiled.
+	 * @param shortCircuitFacets {@code true} if the facets are applied in ascending order of cost 
+	 *                           until each value fails any of them.
 	 */
-	public JsonValidatingReader(JsonParser parser, JsonBuilderFactory builderFactory) {
-		this.parser = parser;
+	public JsonValidatingReader(JsonBuilderFactory builderFactory, ReadingLimits limits, 
+			ValidationListener listener, FacetProfiler.Recorder recorder, boolean shortCircuitFacets) {
 		this.builderFactory = builderFactory;
+		this.maxDepth = limits.getMaxDepth();
+		this.maxTokenLength = limits.getMaxTokenLength();
+		this.maxProperties = limits.getMaxProperties();
+		this.maxItems = limits.getMaxItems();
+		this.listener = listener;
+		this.recorder = recorder;
+		this.shortCircuitFacets = shortCircuitFacets;
 	}
 	
 	/**
 	 * Reads all contents of the JSON document.
-	 * @param schema the schema against which this reader validates the JSON document.
-	 * @return the JSON value found at the root of the JSON document.
-	 */
-	public JsonValue readAll(Schema schema) {
-		if (parser.hasNext()) {
-			DocumentContext context = new DocumentContext(this.builderFactory);
-			pushContext(context);
-			readValue(parser.next(), schema.getTypeSet());
-			popContext();
-			JsonValue rootValue = context.getRootValue();
-			this.document.setRootValue(rootValue);
-			return rootValue;
-		} else {
+	 * The problems found and the truncation of the document are available 
+	 * until this method is invoked next time.
+	 * @param parser the JSON parser which conforms to Java API for JSON Processing.
+	 * @param schema the compiled schema against which this reader validates the JSON document.
+	 * @param projection the projection which selects the JSON values to be built,
+	 *                   or {@code null} if this reader only validates the JSON document without building the JSON values.
+	 * @param maxProblems the maximum number of problems to be detected before this reader stops reading. 
+	 * @return the JSON value found at the root of the JSON document, 
+	 *         or {@code null} if this reader does not build the JSON values.
+	 */
+	public JsonValue readAll(JsonParser parser, CompiledSchema schema, ProjectionNode projection, int maxProblems) {
+		begin(parser, schema, projection, maxProblems);
+		try {
+			while (parser.hasNext()) {
+				handleEvent(parser.next());
+				if (this.truncated) {
+					return null;
+				} else if (this.complete) {
+					return endDocument();
+				}
+			}
+			if (getContext() != this.documentContext) {
+				throw internalError();
+			}
 			return null;
+		} finally {
+			release();
+		}
+	}
+	
+	/**
+	 * Begins to read a new JSON document.
+	 * The events of the document are to be given by {@link #handleEvent(JsonParser.Event)}
+	 * and {@link #release()} must be invoked after the last event.
+	 * @param parser the JSON parser which emits the events of the document.
+	 * @param schema the compiled schema against which this reader validates the JSON document.
+	 * @param projection the projection which selects the JSON values to be built,
+	 *                   or {@code null} if this reader only validates the JSON document without building the JSON values.
+	 * @param maxProblems the maximum number of problems to be detected before this reader stops reading. 
+	 */
+	void begin(JsonParser parser, CompiledSchema schema, ProjectionNode projection, int maxProblems) {
+		begin(parser, schema.getRootTypes(), -1, projection, maxProblems);
+	}
+
+	/**
+	 * Reads a value whose first event was already pulled from the parser.
+	 * The value is either the root of the JSON document or an element of the array at the root.
+	 * The parser is left at the end of the value
+	 * even when this reader stopped reading the value because of too many problems.
+	 * @param parser the JSON parser which emits the events of the document.
+	 * @param event the first event of the value.
+	 * @param types the type candidates of the value.
+	 * @param index the index of the element in the root array, or -1 if the value is the root of the document.
+	 * @param projection the projection which selects the JSON values to be built,
+	 *                   or {@code null} if this reader only validates the value without building the JSON values.
+	 * @param maxProblems the maximum number of problems to be detected before this reader stops reading the value. 
+	 * @return the JSON value read, or {@code null} if this reader does not build the JSON values.
+	 */
+	JsonValue readValue(JsonParser parser, JsonParser.Event event, CompiledTypeSet types, int index, ProjectionNode projection, int maxProblems) {
+		begin(parser, types, index, projection, maxProblems);
+		try {
+			int nesting = 0;
+			for (;;) {
+				nesting += nestingOf(event);
+				handleEvent(event);
+				if (this.complete) {
+					return endDocument();
+				} else if (this.truncated) {
+					while (nesting > 0) {
+						nesting += nestingOf(parser.next());
+					}
+					return null;
+				} else if (!parser.hasNext()) {
+					throw internalError();
+				}
+				event = parser.next();
+			}
+		} finally {
+			release();
+		}
+	}
+
+	/**
+	 * Begins to read a new value at the root of the JSON document or at the root array.
+	 * @param parser the JSON parser which emits the events of the document.
+	 * @param types the type candidates of the value.
+	 * @param index the index of the element in the root array, or -1 if the value is the root of the document.
+	 * @param projection the projection which selects the JSON values to be built, or {@code null} if not built.
+	 * @param maxProblems the maximum number of problems to be detected before this reader stops reading. 
+	 */
+	private void begin(JsonParser parser, CompiledTypeSet types, int index, ProjectionNode projection, int maxProblems) {
+		reset(parser);
+		this.elementIndex = index;
+		this.baseDepth = (index >= 0) ? 1 : 0;
+		this.maxProblems = maxProblems;
+		this.reading = true;
+		// The values are not resolved by the JSON pointers when the document is not built entirely,
+		// because the indices of the elements are shifted in the arrays partially built.
+		this.bindsCauseValues = (projection != ProjectionNode.ALL && this.valueParser == null);
+		JsonPointer pointer = JsonPointer.getPointerToDocumentRoot();
+		if (index >= 0) {
+			pointer = pointer.child(index);
+		}
+		DocumentContext context = this.documentContext;
+		context.reset(types, pointer, (projection != null) ? this.builderFactory : null, projection);
+		pushContext(context);
+		if (this.listener != null && this.listener.isActive()) {
+			this.activeListener = this.listener;
+			this.startOffset = streamOffsetOf(parser);
+			this.listener.documentStarted();
+		} else {
+			this.activeListener = null;
+		}
+	}
+
+	/**
+	 * Returns the offset in the input where the parser is now.
+	 * @param parser the JSON parser.
+	 * @return the offset in the input, or -1 if the offset is not available.
+	 */
+	private static long streamOffsetOf(JsonParser parser) {
+		JsonLocation location = (parser != null) ? parser.getLocation() : null;
+		return (location != null) ? location.getStreamOffset() : -1;
+	}
+
+	private static int nestingOf(JsonParser.Event event) {
+		if (event == JsonParser.Event.START_ARRAY || event == JsonParser.Event.START_OBJECT) {
+			return 1;
+		} else if (event == JsonParser.Event.END_ARRAY || event == JsonParser.Event.END_OBJECT) {
+			return -1;
+		}
+		return 0;
+	}
+	
+	/**
+	 * Handles an event emitted by the JSON parser.
+	 * The events given after the end of the root value or after the reading was aborted are ignored.
+	 * @param event the event emitted by the JSON parser.
+	 */
+	void handleEvent(JsonParser.Event event) {
+		if (this.complete || this.truncated) {
+			return;
+		} else if (this.skippedDepth > 0) {
+			skipEvent(event);
+			this.complete = (this.skippedDepth == 0 && getContext() == this.documentContext);
+			return;
+		}
+		try {
+			switch (event) {
+			case START_ARRAY:
+				startArray(nextValue());
+				break;
+			case START_OBJECT:
+				startObject(nextValue());
+				break;
+			case END_ARRAY:
+				endArray();
+				break;
+			case END_OBJECT:
+				endObject();
+				break;
+			case KEY_NAME:
+				readProperty();
+				break;
+			default:
+				readAtomicValue(event, nextValue());
+				break;
+			}
+		} catch (ReadingAbortedException e) {
+			this.truncated = true;
+			return;
+		}
+		this.complete = (this.skippedDepth == 0 && getContext() == this.documentContext);
+	}
+	
+	/**
+	 * Ends reading the JSON document whose root value was completed.
+	 * @return the JSON value found at the root of the JSON document, 
+	 *         or {@code null} if this reader does not build the JSON values.
+	 */
+	JsonValue endDocument() {
+		JsonValue rootValue = (this.valueParser != null) ? 
+				this.valueParser.getRootValue() : this.documentContext.getRootValue();
+		if (this.document != null && !this.bindsCauseValues) {
+			this.document.setRootValue(rootValue);
 		}
+		return rootValue;
+	}
+	
+	/**
+	 * Releases the resources held by this reader after reading a JSON document.
+	 * The contexts left in the middle of reading are also reset 
+	 * not to retain the values partially built.
+	 */
+	void release() {
+		ValidationListener listener = this.activeListener;
+		if (listener != null && this.reading) {
+			if (listener instanceof InputSizeListener) {
+				long endOffset = streamOffsetOf(this.parser);
+				if (this.startOffset >= 0 && endOffset >= this.startOffset) {
+					((InputSizeListener)listener).inputRead(endOffset - this.startOffset);
+				}
+			}
+			listener.documentEnded();
+			this.activeListener = null;
+		}
+		if (this.recorder != null) {
+			this.recorder.flush();
+		}
+		if (this.depth > 1) {
+			for (ArrayContext context: this.arrayContexts) {
+				if (context != null) {
+					context.reset(null, null, null);
+				}
+			}
+			for (ObjectContext context: this.objectContexts) {
+				if (context != null) {
+					context.reset(null, null, null);
+				}
+			}
+		}
+		this.documentContext.reset(null, null, null, null);
+		this.parser = null;
+		this.valueParser = null;
+		this.skippableParser = null;
+		this.utf8Parser = null;
+		this.currentContext = null;
+		this.depth = 0;
+		this.reading = false;
+	}
+	
+	/**
+	 * Returns whether this reader is now reading a JSON document or not.
+	 * @return {@code true} if this reader is reading a JSON document, {@code false} otherwise.
+	 */
+	public boolean isReading() {
+		return reading;
+	}
+	
+	/**
+	 * Returns whether the root value of the JSON document was read to its end or not.
+	 * @return {@code true} if the root value was completed, {@code false} otherwise.
+	 */
+	public boolean isComplete() {
+		return complete;
 	}
 	
 	/**
@@ -73,89 +371,246 @@ class JsonValidatingReader {
 	 * @return all problems found.
 	 */
 	public List<Problem> getProblems() {
+		if (this.problems == null) {
+			return Collections.emptyList();
+		}
 		return problems;
 	}
+	
+	/**
+	 * Returns whether this reader stopped reading before the end of the JSON document or not.
+	 * @return {@code true} if this reader stopped reading because of too many problems or exceeding the limits, 
+	 *         {@code false} otherwise.
+	 */
+	public boolean isTruncated() {
+		return truncated;
+	}
+	
+	/**
+	 * Resets the state of this reader to read a new JSON document.
+	 * @param parser the JSON parser for the new document.
+	 */
+	private void reset(JsonParser parser) {
+		this.parser = parser;
+		this.valueParser = (parser instanceof JsonValueParser) ? ((JsonValueParser)parser) : null;
+		this.utf8Parser = (parser instanceof Utf8JsonParser) ? ((Utf8JsonParser)parser) : null;
+		this.skippableParser = (parser instanceof SkippableParser) ? ((SkippableParser)parser) : null;
+		this.problems = null;
+		this.document = null;
+		this.currentContext = null;
+		this.depth = 0;
+		this.skippedDepth = 0;
+		this.complete = false;
+		this.truncated = false;
+		this.valueProblems.clear();
+	}
 
 	/**
-	 * Reads JSON array, object, or other values.
-	 * @param event the event which {@link JsonParser} emits.
-	 * @param candidates the type candidates of the value to be read. 
+	 * Starts to read an array.
+	 * @param expected the type candidates of the array.
 	 */
-	private void readValue(JsonParser.Event event, TypeSet candidates) {
-		if (event == JsonParser.Event.START_ARRAY) {
-			readArray(candidates);
-		} else if (event == JsonParser.Event.START_OBJECT) {
-			readObject(candidates);
-		} else {
-			readAtomicValue(event, candidates);
+	private void startArray(CompiledTypeSet expected) {
+		if (expected == null && getContext().getCurrentProjection() == null) {
+			skipContainer();
+			return;
 		}
+		checkDepth();
+		CompiledType type = matchType(TypeId.ARRAY, expected);
+		CompiledArrayType arrayType = (type != null) ? ((CompiledArrayType)type) : CompiledArrayType.UNKNOWN;
+		pushContext(newArrayContext(arrayType, getProjection(arrayType)));
 	}
 	
-	private void readArray(TypeSet expected) {
-		JsonType type = matchType(TypeId.ARRAY, expected);
-		ArrayType arrayType = (type != null) ? ((ArrayType)type) : UnknownArrayType.INSTANCE;
-		JsonArray value = buildArray(arrayType);
-		getContext().add(value);
-		validateValue(arrayType, value);
+	/**
+	 * Ends reading the current array and validates it.
+	 */
+	private void endArray() {
+		JsonContext current = getContext();
+		if (!(current instanceof ArrayContext)) {
+			throw internalError();
+		}
+		ArrayContext context = (ArrayContext)current;
+		popContext();
+		CompiledArrayType arrayType = context.getType();
+		JsonArray value = context.getArray();
+		if (this.valueParser != null) {
+			value = (JsonArray)this.valueParser.getValue();
+		}
+		if (value != null) {
+			getContext().add(value);
+		}
+		if (value != null && (this.valueParser != null || context.isEntire())) {
+			validateValue(arrayType, value);
+		} else if (arrayType.hasFacets()) {
+			validateArrayLength(arrayType, context.getLength());
+		}
 	}
 	
-	private JsonArray buildArray(ArrayType type) {
-		ArrayContext context = new ArrayContext(this.transientValueProvider, this.builderFactory);
-		pushContext(context);
-		TypeSet itemTypes = type.getItemTypes();
-		while (parser.hasNext()) {
-			JsonParser.Event event = parser.next();
-			if (event == JsonParser.Event.END_ARRAY) {
-				popContext();
-				return context.getArray();
-			} else {
-				context.nextItem();
-				readValue(event, itemTypes);
-			}
+	/**
+	 * Starts to read an object.
+	 * @param expected the type candidates of the object.
+	 */
+	private void startObject(CompiledTypeSet expected) {
+		if (expected == null && getContext().getCurrentProjection() == null) {
+			skipContainer();
+			return;
 		}
-		throw internalError();
+		checkDepth();
+		CompiledType type = matchType(TypeId.OBJECT, expected);
+		CompiledObjectType objectType = (type != null) ? ((CompiledObjectType)type) : CompiledObjectType.UNKNOWN;
+		pushContext(newObjectContext(objectType, getProjection(objectType)));
 	}
 	
-	private void readObject(TypeSet expected) {
-		JsonType type = matchType(TypeId.OBJECT, expected);
-		ObjectType objectType = (type != null) ? ((ObjectType)type) : UnknownObjectType.INSTANCE;
-		JsonObject value = buildObject(objectType);
-		getContext().add(value);
-		validateValue(objectType, value);
+	/**
+	 * Ends reading the current object and validates it.
+	 */
+	private void endObject() {
+		JsonContext current = getContext();
+		if (!(current instanceof ObjectContext)) {
+			throw internalError();
+		}
+		ObjectContext context = (ObjectContext)current;
+		popContext();
+		CompiledObjectType objectType = context.getType();
+		JsonObject value = context.getObject();
+		if (this.valueParser != null) {
+			value = (JsonObject)this.valueParser.getValue();
+		}
+		if (value != null) {
+			getContext().add(value);
+			validateValue(objectType, value);
+		}
+		validateRequiredProperties(objectType, context);
 	}
 	
-	private JsonObject buildObject(ObjectType objectType) {
-		ObjectContext context = new ObjectContext(this.transientValueProvider, this.builderFactory);
-		pushContext(context);
-		while (parser.hasNext()) {
-			JsonParser.Event e = parser.next();
-			if (e == JsonParser.Event.END_OBJECT) {
-				popContext();
-				return context.getObject();
-			} else if (e == JsonParser.Event.KEY_NAME) {
-				readProperty(objectType, context);
-			} else {
-				throw internalError();
+	/**
+	 * Checks the depth of the array or the object just started.
+	 * The array or the object at the root of the document is at the depth of one.
+	 */
+	private void checkDepth() {
+		if (this.depth + this.baseDepth > this.maxDepth) {
+			abort(new NestingTooDeepProblem(this.maxDepth), getContext().getCurrentPointer());
+		}
+	}
+
+	/**
+	 * Moves to the next value in the current context.
+	 * The number of the elements is checked when the current context is an array.
+	 * @return the type candidates of the next value, or {@code null} if the value is not to be validated.
+	 */
+	private CompiledTypeSet nextValue() {
+		JsonContext context = getContext();
+		CompiledTypeSet types = context.nextValue();
+		if (this.maxItems < Integer.MAX_VALUE && context instanceof ArrayContext) {
+			if (((ArrayContext)context).getLength() > this.maxItems) {
+				abort(new TooManyItemsProblem(this.maxItems), context.getBasePointer());
 			}
 		}
-		throw internalError();
+		return types;
+	}
+
+	/**
+	 * Checks the length of the current string, number or property name before it is converted.
+	 * @param context the current context.
+	 * @param name {@code true} if the token is a property name, {@code false} if it is a value.
+	 */
+	private void checkTokenLength(JsonContext context, boolean name) {
+		if (this.maxTokenLength == Integer.MAX_VALUE) {
+			return;
+		}
+		int length = (this.utf8Parser != null) ? this.utf8Parser.getTokenLength() : this.parser.getString().length();
+		if (length > this.maxTokenLength) {
+			JsonPointer pointer = name ? context.getBasePointer() : context.getCurrentPointer();
+			abort(new TokenTooLongProblem(length, this.maxTokenLength), pointer);
+		}
+	}
+
+	/**
+	 * Skips the array or the object just started, which needs neither validation nor building.
+	 * No contexts are allocated for the container skipped.
+	 */
+	private void skipContainer() {
+		if (this.skippableParser != null) {
+			this.skippableParser.skipContainer();
+		} else {
+			this.skippedDepth = 1;
+		}
+	}
+	
+	/**
+	 * Handles an event in the container being skipped.
+	 * @param event the event emitted by the JSON parser.
+	 */
+	private void skipEvent(JsonParser.Event event) {
+		if (event == JsonParser.Event.START_ARRAY || event == JsonParser.Event.START_OBJECT) {
+			this.skippedDepth++;
+		} else if (event == JsonParser.Event.END_ARRAY || event == JsonParser.Event.END_OBJECT) {
+			this.skippedDepth--;
+		}
 	}
 	
 	/**
-	 * Reads a property of the object. 
-	 * @param object the object type which has the property.
-	 * @param context the context of the current object.
+	 * Returns the projection which selects the contents to be built of the container of the specified type.
+	 * The container is built when it is selected by the projection of the current container or 
+	 * when the type has any facets which need the whole value of the container to be evaluated.
+	 * The container is never built when it is available from {@link JsonValueParser}.
+	 * @param type the type of the container, which is array or object.
+	 * @return the projection of the container, or {@code null} if the container is not built.
 	 */
-	private void readProperty(ObjectType object, ObjectContext context) {
+	private ProjectionNode getProjection(CompiledType type) {
+		if (this.valueParser != null) {
+			return null;
+		} else if (needsInstance(type)) {
+			return ProjectionNode.ALL;
+		}
+		return getContext().getCurrentProjection();
+	}
+	
+	/**
+	 * Returns whether the container of the specified type must be built to be validated or not.
+	 * @param type the type of the container.
+	 * @return {@code true} if the container must be built, {@code false} otherwise.
+	 */
+	private static boolean needsInstance(CompiledType type) {
+		if (type instanceof CompiledArrayType) {
+			return ((CompiledArrayType)type).needsInstance();
+		}
+		return type.hasFacets();
+	}
+	
+	/**
+	 * Reads a name of the property in the current object. 
+	 */
+	private void readProperty() {
+		JsonContext current = getContext();
+		if (!(current instanceof ObjectContext)) {
+			throw internalError();
+		}
+		ObjectContext context = (ObjectContext)current;
+		if (context.getPropertyCount() >= this.maxProperties) {
+			abort(new TooManyPropertiesProblem(this.maxProperties), context.getBasePointer());
+		}
+		checkTokenLength(context, true);
+		CompiledObjectType object = context.getType();
 		String name = parser.getString();
-		TypeSet typeCandidates = findPropertyType(object, name);
-		if (typeCandidates == null) {
+		CompiledProperty property;
+		if (this.recorder != null) {
+			long start = System.nanoTime();
+			property = object.getProperty(name);
+			this.recorder.propertyLookedUp(object, property != null, System.nanoTime() - start);
+		} else {
+			property = object.getProperty(name);
+		}
+		if (property != null) {
+			context.nextName(name, property.getTypeSet());
+			if (property.isRequired()) {
+				context.foundRequiredProperty(property.getOrdinal());
+			}
+		} else {
+			context.nextName(name, null);
 			if (!object.allowsMoreProperties()) {
 				addProblem(new UnknownPropertyProblem(name), context.getBasePointer());
 			}
 		}
-		context.nextName(name);
-		readValue(parser.next(), typeCandidates);
 	}
 	
 	/**
@@ -164,29 +619,43 @@ class JsonValidatingReader {
 	 * @param candidates the type candidates declared in the schema.
 	 * @return {@link JsonValue} found in the JSON document.
 	 */
-	private void readAtomicValue(JsonParser.Event event, TypeSet candidates) {
+	private void readAtomicValue(JsonParser.Event event, CompiledTypeSet candidates) {
 		
 		JsonContext context = getContext();
-		JsonType type = null;
+		CompiledType type = null;
 		JsonValue value = null;
 
 		switch (event) {
 		case VALUE_NUMBER:
+			checkTokenLength(context, false);
 			if (parser.isIntegralNumber()) {
 				type = matchType(TypeId.INTEGER, candidates);
+				if (!needsValue(context, type)) {
+					return;
+				}
 				long longValue = parser.getLong();
 				if (Integer.MIN_VALUE <= longValue && longValue <= Integer.MAX_VALUE) {
 					value = context.add(Math.toIntExact(longValue));
 				} else {
 					value = context.add(longValue);
 				}
+				if (type != null && type.acceptsInteger(longValue)) {
+					return;
+				}
 			} else {
 				type = matchType(TypeId.NUMBER, candidates);
+				if (!needsValue(context, type)) {
+					return;
+				}
 				value = context.add(parser.getBigDecimal());
 			}
 			break;
 		case VALUE_STRING:
+			checkTokenLength(context, false);
 			type = matchType(TypeId.STRING, candidates);
+			if (!needsValue(context, type)) {
+				return;
+			}
 			value = context.add(parser.getString());
 			break;
 		case VALUE_TRUE:
@@ -208,14 +677,28 @@ class JsonValidatingReader {
 		validateValue(type, value);
 	}
 	
-	private JsonType matchType(TypeId actual, TypeSet candidates) {
+	/**
+	 * Returns whether the value of the current event needs to be converted from the input or not.
+	 * The value is not needed when it is neither built nor evaluated by any facets, 
+	 * which allows the parser to skip decoding the strings and numbers.
+	 * @param context the current context.
+	 * @param type the type of the value, or {@code null} if the value is not validated.
+	 * @return {@code true} if the value is needed, {@code false} otherwise.
+	 */
+	private static boolean needsValue(JsonContext context, CompiledType type) {
+		return context.isBuilding() || (type != null && type.hasFacets());
+	}
+	
+	private CompiledType matchType(TypeId actual, CompiledTypeSet candidates) {
 		if (candidates == null) {
 			return null;
 		}
-		JsonType type = candidates.getType(actual);
+		CompiledType type = candidates.getType(actual);
 		if (type == null) {
 			JsonContext context = getContext();
 			addProblem(new TypeMismatchProblem(actual, candidates.getTypeIds()), context.getCurrentPointer());
+		} else if (this.activeListener != null) {
+			this.activeListener.typeMatched(type.getType());
 		}
 		return type;
 	}
@@ -225,25 +708,71 @@ class JsonValidatingReader {
 	 * @param type the type of JSON value.
 	 * @param value the value to be validated.
 	 */
-	private void validateValue(JsonType type, JsonValue value) {
-		if (type == null) {
+	private void validateValue(CompiledType type, JsonValue value) {
+		if (type == null || !type.hasFacets()) {
 			return;
 		}
 		List<Problem> problems = this.valueProblems;
-		type.validateInstance(value, problems);
+		if (this.activeListener != null || this.recorder != null) {
+			type.validateInstance(value, problems, this.activeListener, this.recorder, this.shortCircuitFacets);
+		} else if (type.accepts(value)) {
+			return;
+		} else if (this.shortCircuitFacets) {
+			type.validateInstanceByCost(value, problems);
+		} else {
+			type.validateInstance(value, problems);
+		}
 		if (!problems.isEmpty()) {
 			JsonContext context = getContext();
 			JsonPointer pointer = context.getCurrentPointer();
+			JsonValue cause = this.bindsCauseValues ? this.transientValueProvider.persist(value) : null;
 			for (Problem p: problems) {
+				p.setCauseValue(cause);
 				addProblem(p, pointer);
 			}
 			problems.clear();
 		}
 	}
 	
-	private TypeSet findPropertyType(ObjectType objectType, String propertyName) {
-		Property property = objectType.getProperty(propertyName);
-		return (property == null) ? null : property.getTypeSet();
+	/**
+	 * Validates the number of elements in the array which was not built.
+	 * @param type the type of the array.
+	 * @param length the number of elements in the array.
+	 */
+	private void validateArrayLength(CompiledArrayType type, int length) {
+		List<Problem> problems = this.valueProblems;
+		if (this.activeListener != null || this.recorder != null) {
+			type.validateLength(length, problems, this.activeListener, this.recorder, this.shortCircuitFacets);
+		} else if (this.shortCircuitFacets) {
+			type.validateLengthByCost(length, problems);
+		} else {
+			type.validateLength(length, problems);
+		}
+		if (!problems.isEmpty()) {
+			JsonPointer pointer = getContext().getCurrentPointer();
+			for (Problem p: problems) {
+				addProblem(p, pointer);
+			}
+			problems.clear();
+		}
+	}
+	
+	/**
+	 * Validates that all required properties were found in the object.
+	 * @param type the type of the object.
+	 * @param context the context of the object which was read.
+	 */
+	private void validateRequiredProperties(CompiledObjectType type, ObjectContext context) {
+		int ordinal = context.nextMissingRequiredProperty(0);
+		if (ordinal < 0) {
+			return;
+		}
+		String[] names = type.getRequiredNames();
+		JsonPointer pointer = getContext().getCurrentPointer();
+		do {
+			addProblem(new MissingPropertyProblem(names[ordinal]), pointer);
+			ordinal = context.nextMissingRequiredProperty(ordinal + 1);
+		} while (ordinal >= 0);
 	}
 
 	/**
@@ -252,18 +781,80 @@ class JsonValidatingReader {
 	 * @param pointer the JSON pointer which refers to the value that caused the problem.
 	 */
 	private void addProblem(Problem problem, JsonPointer pointer) {
+		if (this.problems == null) {
+			this.problems = new ArrayList<>();
+			this.document = (this.elementIndex < 0) ? new JsonDocument() : new ElementDocument(this.elementIndex);
+		}
 		problem.setPointer(pointer, this.document);
 		problem.setLocation(parser.getLocation());
 		this.problems.add(problem);
+		if (this.activeListener != null) {
+			this.activeListener.problemReported(problem);
+		}
+		if (this.problems.size() >= this.maxProblems) {
+			throw ReadingAbortedException.INSTANCE;
+		}
+	}
+	
+	/**
+	 * Adds a problem of exceeding one of the limits and stops reading.
+	 * @param problem the problem found.
+	 * @param pointer the JSON pointer which refers to the value that caused the problem.
+	 */
+	private void abort(Problem problem, JsonPointer pointer) {
+		addProblem(problem, pointer);
+		throw ReadingAbortedException.INSTANCE;
+	}
+
+	/**
+	 * Returns the recycled context for the array to be read at the current depth.
+	 * @param type the type of the array.
+	 * @param projection the projection which selects the contents of the array to be built, or {@code null} if not built.
+	 * @return the context for the array.
+	 */
+	private ArrayContext newArrayContext(CompiledArrayType type, ProjectionNode projection) {
+		int index = this.depth;
+		if (index >= this.arrayContexts.length) {
+			this.arrayContexts = Arrays.copyOf(this.arrayContexts, index * 2);
+		}
+		ArrayContext context = this.arrayContexts[index];
+		if (context == null) {
+			context = new ArrayContext(this.transientValueProvider);
+			this.arrayContexts[index] = context;
+		}
+		context.reset(type, (projection != null) ? this.builderFactory : null, projection);
+		return context;
+	}
+	
+	/**
+	 * Returns the recycled context for the object to be read at the current depth.
+	 * @param type the type of the object.
+	 * @param projection the projection which selects the contents of the object to be built, or {@code null} if not built.
+	 * @return the context for the object.
+	 */
+	private ObjectContext newObjectContext(CompiledObjectType type, ProjectionNode projection) {
+		int index = this.depth;
+		if (index >= this.objectContexts.length) {
+			this.objectContexts = Arrays.copyOf(this.objectContexts, index * 2);
+		}
+		ObjectContext context = this.objectContexts[index];
+		if (context == null) {
+			context = new ObjectContext(this.transientValueProvider);
+			this.objectContexts[index] = context;
+		}
+		context.reset(type, (projection != null) ? this.builderFactory : null, projection);
+		return context;
 	}
 	
 	private void pushContext(JsonContext context) {
 		context.setParent(this.currentContext);
 		this.currentContext = context;
+		this.depth++;
 	}
 	
 	private void popContext() {
 		this.currentContext = this.currentContext.getParent();
+		this.depth--;
 	}
 	
 	private JsonContext getContext() {
@@ -277,4 +868,53 @@ class JsonValidatingReader {
 	private static JsonException internalError() {
 		return new JsonException("Internal Error");
 	}
+	
+	/**
+	 * A JSON document which has an element of the root array as its root value.
+	 * The JSON pointers given are resolved against the element after removing the index of the element.
+	 */
+	private static class ElementDocument extends JsonDocument {
+
+		private final int index;
+
+		ElementDocument(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public JsonValue getValueByPointer(JsonPointer pointer) {
+			if (pointer == null) {
+				throw new IllegalArgumentException();
+			}
+			Iterator<Object> tokens = pointer.iterator();
+			if (!tokens.hasNext() || !Integer.valueOf(this.index).equals(tokens.next())) {
+				return null;
+			}
+			JsonPointer.Builder builder = JsonPointer.builder();
+			while (tokens.hasNext()) {
+				Object token = tokens.next();
+				if (token instanceof Integer) {
+					builder.append(((Integer)token).intValue());
+				} else {
+					builder.append((String)token);
+				}
+			}
+			return super.getValueByPointer(builder.build());
+		}
+	}
+
+	/**
+	 * An exception thrown to unwind the reading when the number of problems reached the limit 
+	 * or any of the reading limits was exceeded.
+	 * This exception never escapes from this reader.
+	 */
+	@SuppressWarnings("serial")
+	private static class ReadingAbortedException extends RuntimeException {
+
+		static final ReadingAbortedException INSTANCE = new ReadingAbortedException();
+		
+		private ReadingAbortedException() {
+			super(null, null, false, false);
+		}
+	}
 }
@@ -1,10 +1,21 @@
 package com.github.i49.hibiscus.validation;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import javax.json.JsonException;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParsingException;
 
 import com.github.i49.hibiscus.schema.Schema;
@@ -49,6 +60,23 @@ import com.github.i49.hibiscus.schema.Schema;
  * returned from the validation methods.
  * </p>
  * 
+ * <p>In addition, this interface provides the methods to validate newline-delimited JSON input,
+ * which is also known as <i>JSON Lines</i>, 
+ * where each line of the input is a separate JSON document to be validated against the same schema.
+ * The result of each record is passed to the handler given by the caller
+ * as soon as the record is validated, therefore the input of any size can be validated 
+ * without consuming memory proportional to the size.</p>
+ * <blockquote><pre><code>
+ * JsonValidator validator = ...;
+ * try (InputStream stream = Files.newInputStream(Paths.get("people.jsonl")) {
+ *   validator.validateLines(stream, result -&gt; {
+ *     if (result.hasProblems()) {
+ *       System.out.println("Record " + result.getRecordIndex() + " is invalid.");
+ *     }
+ *   });
+ * }
+ * </code></pre></blockquote>
+ * 
  * @see BasicJsonValidator
  * @see ValidationResult
  */
@@ -105,4 +133,383 @@ public interface JsonValidator {
 	 * @exception JsonParsingException if JSON document is not well-formed.
 	 */
 	ValidationResult validate(InputStream stream, Charset charset);
+	
+	/**
+	 * Validates a JSON document which is to be read from the file of the specified path.
+	 * The file must be encoded in UTF-8.
+	 * 
+	 * <p>The file is mapped into memory and tokenized directly from its bytes
+	 * without decoding the whole content into characters.
+	 * The stream offsets of the locations of the problems are measured in bytes.</p>
+	 * 
+	 * <p>The default implementation reads the file through {@link #validate(InputStream, Charset)}.</p>
+	 * 
+	 * @param path the path to the file from which the JSON document is to be read.
+	 * @return the validation result containing the JSON values and the problems detected
+	 * in the process of the validation.
+	 * 
+	 * @exception IllegalArgumentException if path is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the document.
+	 * @exception JsonParsingException if JSON document is not well-formed.
+	 */
+	default ValidationResult validate(Path path) {
+		if (path == null) {
+			throw new IllegalArgumentException("path is null.");
+		}
+		try (InputStream stream = Files.newInputStream(path)) {
+			return validate(stream, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new JsonException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * Validates a JSON document which is to be read from the file of the specified path
+	 * on multiple threads of the common pool.
+	 * See {@link #validateInParallel(Path, ForkJoinPool)} for details.
+	 * 
+	 * @param path the path to the file from which the JSON document is to be read.
+	 * @return the validation result containing the problems detected in the process of the validation.
+	 * 
+	 * @exception IllegalArgumentException if path is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the document.
+	 * @exception JsonParsingException if JSON document is not well-formed.
+	 * @see ForkJoinPool#commonPool()
+	 */
+	default ValidationResult validateInParallel(Path path) {
+		return validateInParallel(path, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Validates a JSON document which is to be read from the file of the specified path
+	 * on multiple threads of the specified pool.
+	 * The file must be encoded in UTF-8.
+	 * 
+	 * <p>This method is intended for the document which consists of a large array at its root.
+	 * The elements of the root array are split into chunks by scanning the structure of the file,
+	 * and the chunks are validated in parallel against the item types of the array.
+	 * The problems are reported in the order of the input, 
+	 * followed by the problems of the root array itself.
+	 * The JSON values are not built and the value of the validation result is always {@code null}.
+	 * Note that the elements are retained until the end of the array 
+	 * if the root array has any facets which need the whole array to be evaluated, such as uniqueness.</p>
+	 * 
+	 * <p>When the root value is not an array of the type declared in the schema,
+	 * the document is validated on the calling thread as {@link #validate(Path)} does.</p>
+	 * 
+	 * <p>The default implementation validates the document on the calling thread by {@link #validate(Path)}.</p>
+	 * 
+	 * @param path the path to the file from which the JSON document is to be read.
+	 * @param pool the pool on which the elements are to be validated.
+	 * @return the validation result containing the problems detected in the process of the validation.
+	 * 
+	 * @exception IllegalArgumentException if one of arguments is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the document.
+	 * @exception JsonParsingException if JSON document is not well-formed.
+	 */
+	default ValidationResult validateInParallel(Path path, ForkJoinPool pool) {
+		if (pool == null) {
+			throw new IllegalArgumentException("pool is null.");
+		}
+		return validate(path);
+	}
+	
+	/**
+	 * Validates a JSON document which is contained in {@link ByteBuffer}.
+	 * The document must be encoded in UTF-8 and is read from the position to the limit of the buffer.
+	 * The position of the buffer is not changed by this method.
+	 * 
+	 * <p>The document is tokenized directly from the bytes in the buffer
+	 * without decoding the whole content into characters.
+	 * The stream offsets of the locations of the problems are measured in bytes from the position of the buffer.</p>
+	 * 
+	 * <p>The default implementation copies the bytes and validates them by {@link #validate(byte[], int, int)}.</p>
+	 * 
+	 * @param buffer the buffer which contains the JSON document.
+	 * @return the validation result containing the JSON values and the problems detected
+	 * in the process of the validation.
+	 * 
+	 * @exception IllegalArgumentException if buffer is {@code null}.
+	 * @exception JsonParsingException if JSON document is not well-formed.
+	 */
+	default ValidationResult validate(ByteBuffer buffer) {
+		if (buffer == null) {
+			throw new IllegalArgumentException("buffer is null.");
+		}
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return validate(bytes, 0, bytes.length);
+	}
+	
+	/**
+	 * Validates a JSON document which is contained in a part of the byte array.
+	 * The document must be encoded in UTF-8.
+	 * 
+	 * <p>The document is tokenized in place without copying the bytes.
+	 * The stream offsets of the locations of the problems are measured in bytes from the specified offset.</p>
+	 * 
+	 * <p>The default implementation reads the bytes through {@link #validate(InputStream, Charset)}.</p>
+	 * 
+	 * @param bytes the byte array which contains the JSON document.
+	 * @param offset the offset of the first byte of the document in the array.
+	 * @param length the number of bytes of the document.
+	 * @return the validation result containing the JSON values and the problems detected
+	 * in the process of the validation.
+	 * 
+	 * @exception IllegalArgumentException if bytes is {@code null}.
+	 * @exception IndexOutOfBoundsException if offset or length is out of the range of the array.
+	 * @exception JsonParsingException if JSON document is not well-formed.
+	 */
+	default ValidationResult validate(byte[] bytes, int offset, int length) {
+		if (bytes == null) {
+			throw new IllegalArgumentException("bytes is null.");
+		}
+		if (offset < 0 || length < 0 || offset > bytes.length - length) {
+			throw new IndexOutOfBoundsException();
+		}
+		return validate(new ByteArrayInputStream(bytes, offset, length), StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Validates a JSON value which was already built in memory.
+	 * The value is validated as the root of a JSON document without being serialized into text.
+	 * 
+	 * <p>The validation result returns the given value as its value,
+	 * even if this validator was configured to only validate JSON documents.
+	 * The problems found have JSON pointers, but their locations are {@code null}
+	 * because there is no input text.</p>
+	 * 
+	 * <p>The default implementation serializes the value into text and validates it by {@link #validate(Reader)},
+	 * therefore the problems found have their locations in the text.</p>
+	 * 
+	 * @param value the JSON value to be validated.
+	 * @return the validation result containing the given value and the problems detected
+	 * in the process of the validation.
+	 * 
+	 * @exception IllegalArgumentException if value is {@code null}.
+	 */
+	default ValidationResult validate(JsonValue value) {
+		if (value == null) {
+			throw new IllegalArgumentException("value is null.");
+		}
+		return validate(new StringReader(value.toString()));
+	}
+	
+	/**
+	 * Validates each record in newline-delimited JSON input which is to be read from {@link java.io.Reader}.
+	 * Each line of the input must contain exactly one JSON document, and blank lines are ignored.
+	 * A line which is not well-formed is reported as a record with 
+	 * {@link com.github.i49.hibiscus.problems.MalformedRecordProblem} and does not stop the validation.
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.</p>
+	 * 
+	 * @param reader the reader from which the records are to be read.
+	 * @param handler the handler which receives the validation result of each record in the order of the input.
+	 * @return the number of records validated.
+	 * 
+	 * @exception IllegalArgumentException if one of arguments is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the input.
+	 * @exception UnsupportedOperationException if this validator does not support this operation.
+	 */
+	default long validateLines(Reader reader, Consumer<? super RecordResult> handler) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Validates each record in newline-delimited JSON input which is to be read from {@link java.io.InputStream}.
+	 * The input must be encoded in UTF-8.
+	 * Each line of the input must contain exactly one JSON document, and blank lines are ignored.
+	 * A line which is not well-formed is reported as a record with 
+	 * {@link com.github.i49.hibiscus.problems.MalformedRecordProblem} and does not stop the validation.
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.</p>
+	 * 
+	 * @param stream the byte stream from which the records are to be read.
+	 * @param handler the handler which receives the validation result of each record in the order of the input.
+	 * @return the number of records validated.
+	 * 
+	 * @exception IllegalArgumentException if one of arguments is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the input.
+	 * @exception UnsupportedOperationException if this validator does not support this operation.
+	 */
+	default long validateLines(InputStream stream, Consumer<? super RecordResult> handler) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Validates each record in newline-delimited JSON file on multiple threads.
+	 * The file must be encoded in UTF-8.
+	 * Each line of the file must contain exactly one JSON document, and blank lines are ignored.
+	 * A line which is not well-formed is reported as a record with 
+	 * {@link com.github.i49.hibiscus.problems.MalformedRecordProblem} and does not stop the validation.
+	 * 
+	 * <p>The file is split into chunks at the line boundaries and the chunks are validated
+	 * on the common {@link ForkJoinPool}.
+	 * The handler is invoked on the calling thread and receives the results in the order of the input,
+	 * as {@link #validateLines(InputStream, Consumer)} does.</p>
+	 * 
+	 * @param path the path to the file from which the records are to be read.
+	 * @param handler the handler which receives the validation result of each record in the order of the input.
+	 * @return the number of records validated.
+	 * 
+	 * @exception IllegalArgumentException if one of arguments is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the file.
+	 */
+	default long validateLinesInParallel(Path path, Consumer<? super RecordResult> handler) {
+		return validateLinesInParallel(path, ForkJoinPool.commonPool(), handler);
+	}
+
+	/**
+	 * Validates each record in newline-delimited JSON file on multiple threads of the specified pool.
+	 * The file must be encoded in UTF-8.
+	 * Each line of the file must contain exactly one JSON document, and blank lines are ignored.
+	 * A line which is not well-formed is reported as a record with 
+	 * {@link com.github.i49.hibiscus.problems.MalformedRecordProblem} and does not stop the validation.
+	 * 
+	 * <p>The handler is invoked on the calling thread and receives the results in the order of the input.</p>
+	 * 
+	 * <p>The default implementation validates the records on the calling thread by {@link #validateLines(InputStream, Consumer)}.</p>
+	 * 
+	 * @param path the path to the file from which the records are to be read.
+	 * @param pool the pool on which the records are to be validated.
+	 * @param handler the handler which receives the validation result of each record in the order of the input.
+	 * @return the number of records validated.
+	 * 
+	 * @exception IllegalArgumentException if one of arguments is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the file.
+	 */
+	default long validateLinesInParallel(Path path, ForkJoinPool pool, Consumer<? super RecordResult> handler) {
+		if (path == null) {
+			throw new IllegalArgumentException("path is null.");
+		}
+		if (pool == null) {
+			throw new IllegalArgumentException("pool is null.");
+		}
+		try (InputStream stream = Files.newInputStream(path)) {
+			return validateLines(stream, handler);
+		} catch (IOException e) {
+			throw new JsonException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Validates each element of the array at the root of a JSON document which is to be read from {@link java.io.Reader}.
+	 * 
+	 * <p>Each element is validated against the item types of the root array,
+	 * and the result of the element is passed to the handler as soon as the element is validated.
+	 * The element is released after the handler returned, 
+	 * therefore the array of any length can be validated without consuming memory proportional to its length.
+	 * The maximum number of problems configured is applied to each element separately.</p>
+	 * 
+	 * <p>The problems of the root array itself, such as the number of its elements,
+	 * are reported by the result returned from this method after all elements were validated.
+	 * The value of the result is always {@code null} when the root value is an array.
+	 * Note that the elements are retained until the end of the array 
+	 * if the root array has any facets which need the whole array to be evaluated, such as uniqueness.
+	 * When the root value is not an array of the type declared in the schema, 
+	 * the document is validated as a whole and the handler is never invoked.</p>
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.</p>
+	 * 
+	 * @param reader the reader from which the JSON document is to be read.
+	 * @param handler the handler which receives the validation result of each element in the order of the input.
+	 * @return the validation result of the root value.
+	 * 
+	 * @exception IllegalArgumentException if one of arguments is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the input.
+	 * @exception JsonParsingException if the document is not well-formed.
+	 * @exception UnsupportedOperationException if this validator does not support this operation.
+	 */
+	default ValidationResult validateElements(Reader reader, Consumer<? super ElementResult> handler) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Validates each element of the array at the root of a JSON document which is to be read from {@link java.io.InputStream}.
+	 * The character encoding of the stream is determined as specified in RFC 4627.
+	 * See {@link #validateElements(Reader, Consumer)} for details.
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.</p>
+	 * 
+	 * @param stream the byte stream from which the JSON document is to be read.
+	 * @param handler the handler which receives the validation result of each element in the order of the input.
+	 * @return the validation result of the root value.
+	 * 
+	 * @exception IllegalArgumentException if one of arguments is {@code null}.
+	 * @exception JsonException if I/O error occurred while reading the input or if encoding cannot be determined.
+	 * @exception JsonParsingException if the document is not well-formed.
+	 * @exception UnsupportedOperationException if this validator does not support this operation.
+	 */
+	default ValidationResult validateElements(InputStream stream, Consumer<? super ElementResult> handler) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Creates a parser which validates a JSON document to be read from {@link java.io.Reader}
+	 * while the events of the document are pulled by the caller.
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.</p>
+	 * 
+	 * @param reader the reader from which the JSON document is to be read.
+	 * @return the parser which validates the JSON document.
+	 * 
+	 * @exception IllegalArgumentException if reader is {@code null}.
+	 * @exception UnsupportedOperationException if this validator does not support this operation.
+	 * @see ValidatingJsonParser
+	 */
+	default ValidatingJsonParser createParser(Reader reader) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Creates a parser which validates a JSON document to be read from {@link java.io.InputStream}
+	 * while the events of the document are pulled by the caller.
+	 * The character encoding of the stream is determined as specified in RFC 4627.
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.</p>
+	 * 
+	 * @param stream the byte stream from which the JSON document is to be read.
+	 * @return the parser which validates the JSON document.
+	 * 
+	 * @exception IllegalArgumentException if stream is {@code null}.
+	 * @exception JsonException if encoding cannot be determined.
+	 * @exception UnsupportedOperationException if this validator does not support this operation.
+	 * @see ValidatingJsonParser
+	 */
+	default ValidatingJsonParser createParser(InputStream stream) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Creates a parser which wraps the given parser and validates the events
+	 * while they are pulled by the caller.
+	 * The given parser must be positioned at the beginning of the JSON document,
+	 * and it will be closed when the parser created is closed.
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.</p>
+	 * 
+	 * @param parser the parser which emits the events of the JSON document.
+	 * @return the parser which validates the JSON document.
+	 * 
+	 * @exception IllegalArgumentException if parser is {@code null}.
+	 * @exception UnsupportedOperationException if this validator does not support this operation.
+	 * @see ValidatingJsonParser
+	 */
+	default ValidatingJsonParser createParser(JsonParser parser) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Creates a validator which validates a JSON document encoded in UTF-8
+	 * whose bytes are pushed by the caller as they arrive.
+	 * 
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.</p>
+	 * 
+	 * @return the validator which receives the bytes of the JSON document.
+	 * @exception UnsupportedOperationException if this validator does not support this operation.
+	 * @see PushValidator
+	 */
+	default PushValidator createPushValidator() {
+		throw new UnsupportedOperationException();
+	}
 }
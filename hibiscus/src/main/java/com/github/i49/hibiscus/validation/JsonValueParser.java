@@ -0,0 +1,244 @@
+package com.github.i49.hibiscus.validation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+
+/**
+ * A {@link JsonParser} which emits the events by walking a {@link JsonValue} already built in memory.
+ *
+ * <p>This parser allows {@link JsonValidatingReader} to validate the existing values
+ * without serializing them into text.
+ * The reader uses {@link #getValue()} to obtain the arrays and objects
+ * instead of building them again when their facets need the whole values.</p>
+ *
+ * <p>The locations of the events are not available and {@link #getLocation()} always returns {@code null}.</p>
+ */
+class JsonValueParser implements SkippableParser {
+
+	private final JsonValue rootValue;
+	private final List<Frame> frames = new ArrayList<>();
+	private int depth;
+	private boolean started;
+	private JsonValue currentValue;
+	private String currentName;
+	private Event currentEvent;
+
+	/**
+	 * Constructs this parser.
+	 * @param rootValue the value at the root of the JSON document.
+	 */
+	JsonValueParser(JsonValue rootValue) {
+		this.rootValue = rootValue;
+	}
+
+	/**
+	 * Returns the value at the root of the JSON document.
+	 * @return the root value.
+	 */
+	JsonValue getRootValue() {
+		return rootValue;
+	}
+
+	/**
+	 * Returns the value which caused the current event.
+	 * For {@link Event#END_ARRAY} and {@link Event#END_OBJECT} events,
+	 * this method returns the container which was ended.
+	 * @return the value of the current event.
+	 */
+	JsonValue getValue() {
+		return currentValue;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return !this.started || this.depth > 0;
+	}
+
+	@Override
+	public Event next() {
+		if (!this.started) {
+			this.started = true;
+			return startValue(this.rootValue);
+		}
+		if (this.depth == 0) {
+			throw new NoSuchElementException();
+		}
+		Frame frame = this.frames.get(this.depth - 1);
+		if (frame.pendingValue != null) {
+			JsonValue value = frame.pendingValue;
+			frame.pendingValue = null;
+			return startValue(value);
+		}
+		if (frame.array != null) {
+			if (frame.items.hasNext()) {
+				return startValue(frame.items.next());
+			}
+			this.depth--;
+			this.currentValue = frame.array;
+			frame.clear();
+			return setEvent(Event.END_ARRAY);
+		} else {
+			if (frame.properties.hasNext()) {
+				Map.Entry<String, JsonValue> property = frame.properties.next();
+				this.currentName = property.getKey();
+				this.currentValue = null;
+				frame.pendingValue = property.getValue();
+				return setEvent(Event.KEY_NAME);
+			}
+			this.depth--;
+			this.currentValue = frame.object;
+			frame.clear();
+			return setEvent(Event.END_OBJECT);
+		}
+	}
+
+	@Override
+	public void skipContainer() {
+		Frame frame = this.frames.get(--this.depth);
+		Event event;
+		if (frame.array != null) {
+			this.currentValue = frame.array;
+			event = Event.END_ARRAY;
+		} else {
+			this.currentValue = frame.object;
+			event = Event.END_OBJECT;
+		}
+		frame.clear();
+		setEvent(event);
+	}
+
+	@Override
+	public String getString() {
+		if (this.currentEvent == Event.KEY_NAME) {
+			return this.currentName;
+		} else if (this.currentEvent == Event.VALUE_STRING) {
+			return ((JsonString)this.currentValue).getString();
+		} else if (this.currentEvent == Event.VALUE_NUMBER) {
+			return this.currentValue.toString();
+		}
+		throw new IllegalStateException();
+	}
+
+	@Override
+	public boolean isIntegralNumber() {
+		return getNumber().isIntegral();
+	}
+
+	@Override
+	public int getInt() {
+		return getNumber().intValue();
+	}
+
+	@Override
+	public long getLong() {
+		return getNumber().longValue();
+	}
+
+	@Override
+	public BigDecimal getBigDecimal() {
+		return getNumber().bigDecimalValue();
+	}
+
+	@Override
+	public JsonLocation getLocation() {
+		return null;
+	}
+
+	@Override
+	public void close() {
+		this.depth = 0;
+		this.started = true;
+	}
+
+	/**
+	 * Emits the event which starts the specified value.
+	 * @param value the value to be started.
+	 * @return the event emitted.
+	 */
+	private Event startValue(JsonValue value) {
+		this.currentValue = value;
+		switch (value.getValueType()) {
+		case ARRAY:
+			pushFrame().setArray((JsonArray)value);
+			return setEvent(Event.START_ARRAY);
+		case OBJECT:
+			pushFrame().setObject((JsonObject)value);
+			return setEvent(Event.START_OBJECT);
+		case STRING:
+			return setEvent(Event.VALUE_STRING);
+		case NUMBER:
+			return setEvent(Event.VALUE_NUMBER);
+		case TRUE:
+			return setEvent(Event.VALUE_TRUE);
+		case FALSE:
+			return setEvent(Event.VALUE_FALSE);
+		default:
+			return setEvent(Event.VALUE_NULL);
+		}
+	}
+
+	private Event setEvent(Event event) {
+		this.currentEvent = event;
+		return event;
+	}
+
+	private JsonNumber getNumber() {
+		if (this.currentEvent != Event.VALUE_NUMBER) {
+			throw new IllegalStateException();
+		}
+		return (JsonNumber)this.currentValue;
+	}
+
+	/**
+	 * Returns the recycled frame for the container at the current depth.
+	 * @return the frame for the container.
+	 */
+	private Frame pushFrame() {
+		if (this.depth >= this.frames.size()) {
+			this.frames.add(new Frame());
+		}
+		return this.frames.get(this.depth++);
+	}
+
+	/**
+	 * The state of an array or an object being walked.
+	 */
+	private static class Frame {
+
+		JsonArray array;
+		Iterator<JsonValue> items;
+		JsonObject object;
+		Iterator<Map.Entry<String, JsonValue>> properties;
+		JsonValue pendingValue;
+
+		void setArray(JsonArray array) {
+			this.array = array;
+			this.items = array.iterator();
+		}
+
+		void setObject(JsonObject object) {
+			this.object = object;
+			this.properties = object.entrySet().iterator();
+		}
+
+		void clear() {
+			this.array = null;
+			this.items = null;
+			this.object = null;
+			this.properties = null;
+			this.pendingValue = null;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.github.i49.hibiscus.validation;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream which throws {@link InputTooLargeException} 
+ * when more bytes than the limit are read from the underlying stream.
+ * At most one byte beyond the limit is read.
+ */
+class LimitedInputStream extends FilterInputStream {
+
+	private final long limit;
+	private long count;
+
+	/**
+	 * Constructs this stream.
+	 * @param in the underlying stream.
+	 * @param limit the maximum number of bytes allowed.
+	 */
+	LimitedInputStream(InputStream in, long limit) {
+		super(in);
+		this.limit = limit;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		if (b >= 0) {
+			consumed(1);
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int n = super.read(b, off, (int)Math.min(len, this.limit - this.count + 1));
+		if (n > 0) {
+			consumed(n);
+		}
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(Math.min(n, this.limit - this.count + 1));
+		consumed(skipped);
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	private void consumed(long n) {
+		this.count += n;
+		if (this.count > this.limit) {
+			throw new InputTooLargeException(this.limit);
+		}
+	}
+}
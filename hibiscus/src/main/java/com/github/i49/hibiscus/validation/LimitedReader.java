@@ -0,0 +1,63 @@
+package com.github.i49.hibiscus.validation;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A reader which throws {@link InputTooLargeException} 
+ * when more characters than the limit are read from the underlying reader.
+ * At most one character beyond the limit is read.
+ */
+class LimitedReader extends FilterReader {
+
+	private final long limit;
+	private long count;
+
+	/**
+	 * Constructs this reader.
+	 * @param in the underlying reader.
+	 * @param limit the maximum number of characters allowed.
+	 */
+	LimitedReader(Reader in, long limit) {
+		super(in);
+		this.limit = limit;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int c = super.read();
+		if (c >= 0) {
+			consumed(1);
+		}
+		return c;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		int n = super.read(cbuf, off, (int)Math.min(len, this.limit - this.count + 1));
+		if (n > 0) {
+			consumed(n);
+		}
+		return n;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(Math.min(n, this.limit - this.count + 1));
+		consumed(skipped);
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	private void consumed(long n) {
+		this.count += n;
+		if (this.count > this.limit) {
+			throw new InputTooLargeException(this.limit);
+		}
+	}
+}
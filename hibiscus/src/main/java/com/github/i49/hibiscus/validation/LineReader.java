@@ -0,0 +1,194 @@
+package com.github.i49.hibiscus.validation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * A reader which splits the newline-delimited input into lines
+ * and provides the content of the current line as a {@link Reader}.
+ *
+ * <p>Each line is terminated by a line feed, and a carriage return preceding it is treated as a part of the line.
+ * The buffers of this reader are reused for all lines,
+ * so the memory consumed by this reader depends only on the length of the longest line.</p>
+ *
+ * <p>Closing this reader does not close the underlying input,
+ * because the reader is closed by the JSON parser at the end of every line.</p>
+ */
+class LineReader extends Reader {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Reader source;
+	private final boolean countingBytes;
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private int bufferPosition;
+	private int bufferLimit;
+	private boolean endOfInput;
+
+	private char[] line = new char[256];
+	private int lineLength;
+	private int linePosition;
+
+	private long nextLineNumber = 1;
+	private long nextOffset;
+	private long nextCharOffset;
+	private long lineNumber;
+	private long offset;
+	private long charOffset;
+
+	/**
+	 * Constructs this reader.
+	 * @param source the input to be split into lines.
+	 * @param countingBytes {@code true} if the offsets are to be measured in bytes of UTF-8,
+	 *                      {@code false} if measured in characters.
+	 */
+	LineReader(Reader source, boolean countingBytes) {
+		this.source = source;
+		this.countingBytes = countingBytes;
+	}
+
+	/**
+	 * Moves to the next line in the input.
+	 * @return {@code true} if the next line was found, {@code false} if reached the end of the input.
+	 * @exception IOException if I/O error occurred while reading the input.
+	 */
+	boolean nextLine() throws IOException {
+		if (this.endOfInput && this.bufferPosition >= this.bufferLimit) {
+			return false;
+		}
+		this.lineNumber = this.nextLineNumber;
+		this.offset = this.nextOffset;
+		this.charOffset = this.nextCharOffset;
+		this.lineLength = 0;
+		this.linePosition = 0;
+		long bytes = 0;
+		for (;;) {
+			if (this.bufferPosition >= this.bufferLimit && !fill()) {
+				// The last line without terminator.
+				break;
+			}
+			char c = this.buffer[this.bufferPosition++];
+			if (this.countingBytes) {
+				bytes += utf8Length(c);
+			}
+			if (c == '\n') {
+				this.nextLineNumber++;
+				break;
+			}
+			appendToLine(c);
+		}
+		this.nextCharOffset += this.lineLength + ((this.nextLineNumber > this.lineNumber) ? 1 : 0);
+		this.nextOffset = this.countingBytes ? this.nextOffset + bytes : this.nextCharOffset;
+		return this.lineLength > 0 || this.nextLineNumber > this.lineNumber;
+	}
+
+	/**
+	 * Returns whether the current line contains only whitespace characters or not.
+	 * @return {@code true} if the line is blank, {@code false} otherwise.
+	 */
+	boolean isBlankLine() {
+		for (int i = 0; i < this.lineLength; i++) {
+			char c = this.line[i];
+			if (c != ' ' && c != '\t' && c != '\r') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the line number of the current line.
+	 * @return the line number starting from one.
+	 */
+	long getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * Returns the offset of the current line in bytes or characters.
+	 * @return the offset of the current line.
+	 */
+	long getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the number of lines terminated by line feeds so far.
+	 * @return the number of lines terminated.
+	 */
+	long getTerminatedLines() {
+		return nextLineNumber - 1;
+	}
+	
+	/**
+	 * Returns the number of characters consumed so far.
+	 * @return the number of characters consumed.
+	 */
+	long getConsumedChars() {
+		return nextCharOffset;
+	}
+
+	/**
+	 * Returns the offset of the current line in characters.
+	 * @return the offset of the current line in characters.
+	 */
+	long getCharOffset() {
+		return charOffset;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) {
+		int remaining = this.lineLength - this.linePosition;
+		if (remaining <= 0) {
+			return -1;
+		}
+		int n = Math.min(remaining, len);
+		System.arraycopy(this.line, this.linePosition, cbuf, off, n);
+		this.linePosition += n;
+		return n;
+	}
+
+	@Override
+	public void close() {
+		// Does not close the underlying input.
+	}
+
+	private boolean fill() throws IOException {
+		if (this.endOfInput) {
+			return false;
+		}
+		int n = this.source.read(this.buffer, 0, this.buffer.length);
+		if (n < 0) {
+			this.endOfInput = true;
+			this.bufferPosition = this.bufferLimit = 0;
+			return false;
+		}
+		this.bufferPosition = 0;
+		this.bufferLimit = n;
+		return true;
+	}
+
+	private void appendToLine(char c) {
+		if (this.lineLength >= this.line.length) {
+			this.line = Arrays.copyOf(this.line, this.line.length * 2);
+		}
+		this.line[this.lineLength++] = c;
+	}
+
+	/**
+	 * Returns the number of bytes required to encode the character in UTF-8.
+	 * Each of the surrogate pair is counted as two bytes.
+	 * @param c the character to be encoded.
+	 * @return the number of bytes.
+	 */
+	private static int utf8Length(char c) {
+		if (c < 0x80) {
+			return 1;
+		} else if (c < 0x800 || Character.isSurrogate(c)) {
+			return 2;
+		} else {
+			return 3;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.github.i49.hibiscus.validation;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 import javax.json.JsonBuilderFactory;
 import javax.json.JsonNumber;
@@ -16,72 +17,194 @@ import com.github.i49.hibiscus.common.JsonPointer;
  */
 class ObjectContext extends AbstractJsonContext {
 
+	private static final long[] NO_BITS = {};
+
 	private final TransientValueProvider valueProvider;
+	private CompiledObjectType type;
+	private boolean building;
+	private ProjectionNode projection;
+	private ProjectionNode currentProjection;
 	private JsonObjectBuilder builder;
 	private String currentName;
-	private JsonObject result;
+	private CompiledTypeSet currentTypes;
+	private JsonPointer currentPointer;
+	private int propertyCount;
+	private long[] foundRequired = NO_BITS;
+	private int requiredCount;
+	private int requiredWords;
 	
 	/**
 	 * Constructs this context.
+	 * The context constructed must be reset by {@link #reset(CompiledObjectType, JsonBuilderFactory, ProjectionNode)} before use.
 	 * @param valueProvider the transient {@link JsonValue} provider.
-	 * @param factory the factory to be used to build {@link JsonObject}.
 	 */
-	ObjectContext(TransientValueProvider valueProvider, JsonBuilderFactory factory) {
+	ObjectContext(TransientValueProvider valueProvider) {
 		this.valueProvider = valueProvider;
-		this.builder = factory.createObjectBuilder();
 	}
 	
+	/**
+	 * Resets this context to read a new object.
+	 * @param type the type of the object to be read.
+	 * @param factory the factory to be used to build {@link JsonObject},
+	 *                or {@code null} if the object is not to be built.
+	 * @param projection the projection which selects the contents of the object to be built.
+	 */
+	void reset(CompiledObjectType type, JsonBuilderFactory factory, ProjectionNode projection) {
+		this.type = type;
+		this.building = (factory != null);
+		this.builder = this.building ? factory.createObjectBuilder() : null;
+		this.projection = this.building ? projection : null;
+		this.currentProjection = null;
+		this.currentName = null;
+		this.currentTypes = null;
+		this.currentPointer = null;
+		this.propertyCount = 0;
+		Arrays.fill(this.foundRequired, 0, this.requiredWords, 0L);
+		this.requiredCount = (type != null) ? type.getRequiredNames().length : 0;
+		this.requiredWords = (this.requiredCount + 63) >>> 6;
+		if (this.foundRequired.length < this.requiredWords) {
+			this.foundRequired = new long[this.requiredWords];
+		}
+	}
+	
+	/**
+	 * Returns the type of the object read by this context.
+	 * @return the type of the object.
+	 */
+	CompiledObjectType getType() {
+		return type;
+	}
+
 	/**
 	 * Moves to the next property in this object.
 	 * @param name the name of the next property.
+	 * @param types the type candidates of the property value, or {@code null} if not validated.
 	 */
-	void nextName(String name) {
+	void nextName(String name, CompiledTypeSet types) {
 		this.currentName = name;
+		this.currentTypes = types;
+		this.currentPointer = null;
+		this.propertyCount++;
+		if (this.projection != null) {
+			this.currentProjection = this.projection.getChild(name);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The type candidates are the ones given by the last call of {@link #nextName(String, CompiledTypeSet)}.</p>
+	 */
+	@Override
+	public CompiledTypeSet nextValue() {
+		return currentTypes;
+	}
+	
+	/**
+	 * Returns the number of properties found in this object so far.
+	 * @return the number of properties.
+	 */
+	int getPropertyCount() {
+		return propertyCount;
+	}
+
+	/**
+	 * Records that the current property is one of the required properties.
+	 * @param ordinal the ordinal of the required property.
+	 */
+	void foundRequiredProperty(int ordinal) {
+		this.foundRequired[ordinal >>> 6] |= 1L << ordinal;
+	}
+	
+	/**
+	 * Finds the required property which was not found in this object.
+	 * @param from the ordinal of the required property from which the search starts.
+	 * @return the smallest ordinal of the required property not found which is not less than {@code from},
+	 *         or -1 if all such properties were found.
+	 */
+	int nextMissingRequiredProperty(int from) {
+		if (from >= this.requiredCount) {
+			return -1;
+		}
+		int word = from >>> 6;
+		long missing = ~this.foundRequired[word] & (-1L << from);
+		while (missing == 0) {
+			if (++word >= this.requiredWords) {
+				return -1;
+			}
+			missing = ~this.foundRequired[word];
+		}
+		int ordinal = (word << 6) + Long.numberOfTrailingZeros(missing);
+		return (ordinal < this.requiredCount) ? ordinal : -1;
 	}
 	
 	@Override
 	public JsonNumber add(int value) {
-		builder.add(currentName, value);
+		if (isBuilding()) {
+			builder.add(currentName, value);
+		}
 		return valueProvider.getNumber(value);
 	}
 
 	@Override
 	public JsonNumber add(long value) {
-		builder.add(currentName, value);
+		if (isBuilding()) {
+			builder.add(currentName, value);
+		}
 		return valueProvider.getNumber(value);
 	}
 
 	@Override
 	public JsonNumber add(BigDecimal value) {
-		builder.add(currentName, value);
+		if (isBuilding()) {
+			builder.add(currentName, value);
+		}
 		return valueProvider.getNumber(value);
 	}
 
 	@Override
 	public JsonString add(String value) {
-		builder.add(currentName, value);
+		if (isBuilding()) {
+			builder.add(currentName, value);
+		}
 		return valueProvider.getString(value);
 	}
 
 	@Override
 	public JsonValue add(JsonValue value) {
-		builder.add(currentName, value);
+		if (currentProjection != null && currentProjection.selects(value)) {
+			builder.add(currentName, value);
+		}
 		return value;
 	}
 	
+	@Override
+	public boolean isBuilding() {
+		return currentProjection == ProjectionNode.ALL;
+	}
+
+	@Override
+	public ProjectionNode getCurrentProjection() {
+		return currentProjection;
+	}
+
 	/**
 	 * Builds the {@link JsonObject} which is composed of all added properties. 
-	 * @return the built {@link JsonObject}.
+	 * @return the built {@link JsonObject}, or {@code null} if this context does not build the object.
 	 */
 	JsonObject getObject() {
-		this.result =  this.builder.build();
+		if (!this.building) {
+			return null;
+		}
+		JsonObject result = this.builder.build();
 		this.builder = null;
-		return this.result;
+		return result;
 	}
 
 	@Override
-	public void buildCurrentPointer(JsonPointer.Builder builder) {
-		super.buildCurrentPointer(builder);
-		builder.append(this.currentName);
+	public JsonPointer getCurrentPointer() {
+		if (this.currentPointer == null) {
+			this.currentPointer = getBasePointer().child(this.currentName);
+		}
+		return this.currentPointer;
 	}
 }
@@ -0,0 +1,371 @@
+package com.github.i49.hibiscus.validation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonValue;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParsingException;
+
+import com.github.i49.hibiscus.problems.Problem;
+
+/**
+ * A validation of a JSON document consisting of a large array, which validates the elements on multiple threads.
+ *
+ * <p>The whole file is mapped into memory and scanned on the calling thread to find the boundaries of the elements
+ * in the root array, only by balancing the brackets outside of the strings.
+ * The elements are grouped into the chunks of the nominal size,
+ * and each chunk is validated on the {@link ForkJoinPool} as soon as its end was found.
+ * The problems of the chunks are merged in the order of the input,
+ * and the problems of the root array itself are reported at the end.
+ * The number of the chunks being validated at the same time is bounded.</p>
+ *
+ * <p>The syntax errors are detected while the chunks are validated,
+ * except the ones which break the structure of the root array, which are detected by the scan.</p>
+ */
+class ParallelArrayValidation {
+
+	static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+	private final BasicJsonValidator validator;
+	private final ForkJoinPool pool;
+	private final int chunkSize;
+	private final JsonBuilderFactory builderFactory;
+
+	private ByteBuffer buffer;
+	private CompiledArrayType arrayType;
+	private boolean retainsElements;
+
+	private final List<Problem> problems = new ArrayList<>();
+	private JsonArrayBuilder builder;
+	private boolean truncated;
+
+	/**
+	 * Constructs this validation.
+	 * @param validator the validator to be used to validate each element.
+	 * @param pool the pool on which the chunks are validated.
+	 * @param chunkSize the nominal size of each chunk in bytes.
+	 * @param builderFactory the factory to be used to build the root array when its facets need the whole array.
+	 */
+	ParallelArrayValidation(BasicJsonValidator validator, ForkJoinPool pool, int chunkSize, JsonBuilderFactory builderFactory) {
+		this.validator = validator;
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+		this.builderFactory = builderFactory;
+	}
+
+	/**
+	 * Validates the JSON document in the specified file.
+	 * @param path the path to the file.
+	 * @return the result of the validation,
+	 *         or {@code null} if the document cannot be validated in parallel.
+	 * @exception IOException if I/O error occurred while reading the file.
+	 */
+	ValidationResult run(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				return null;
+			}
+			this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		this.arrayType = this.validator.getRootArrayType();
+		if (this.arrayType == null) {
+			return null;
+		}
+		Scanner scanner = new Scanner(this.buffer);
+		if (!scanner.startArray()) {
+			return null;
+		}
+		this.retainsElements = this.arrayType.needsInstance();
+		if (this.retainsElements) {
+			this.builder = this.builderFactory.createArrayBuilder();
+		}
+		int window = Math.max(2, this.pool.getParallelism() * 2);
+		Deque<ForkJoinTask<ChunkResult>> pending = new ArrayDeque<>(window);
+		try {
+			Chunk chunk;
+			while (!this.truncated && (chunk = scanner.nextChunk(this.chunkSize)) != null) {
+				final Chunk submitted = chunk;
+				pending.addLast(this.pool.submit(() -> validateChunk(submitted)));
+				if (pending.size() >= window) {
+					merge(pending.removeFirst().join());
+				}
+			}
+			while (!this.truncated && !pending.isEmpty()) {
+				merge(pending.removeFirst().join());
+			}
+		} finally {
+			for (ForkJoinTask<ChunkResult> task: pending) {
+				task.cancel(false);
+			}
+		}
+		if (this.truncated) {
+			return new ValidationResultImpl(null, this.problems, true);
+		}
+		ValidationResult result = this.validator.validateRootArray(this.arrayType, scanner.getElements(),
+				this.retainsElements ? this.builder.build() : null, scanner.getEndLocation());
+		this.problems.addAll(result.getProblems());
+		return new ValidationResultImpl(null, this.problems, false);
+	}
+
+	/**
+	 * Validates all elements in the chunk.
+	 * This method is invoked on the threads of the pool.
+	 * @param chunk the chunk to be validated.
+	 * @return the results of the elements in the chunk.
+	 */
+	private ChunkResult validateChunk(Chunk chunk) {
+		ByteBuffer buffer = this.buffer.duplicate();
+		buffer.limit(chunk.end).position(chunk.start);
+		Utf8JsonParser parser = new Utf8JsonParser(buffer, 0, chunk.lineNumber, chunk.lineStart, chunk.lineAdjustment);
+		ChunkResult result = new ChunkResult();
+		this.validator.readElements(parser, this.arrayType.getItemTypes(), chunk.index, chunk.elements,
+				null, this.retainsElements, element -> {
+			result.problems.addAll(element.getProblems());
+			result.truncated |= element.isTruncated();
+			if (this.retainsElements) {
+				result.values.add(element.getValue());
+			}
+		});
+		parser.checkEnd();
+		return result;
+	}
+
+	/**
+	 * Merges the results of the chunk into the result of the whole document.
+	 * @param chunk the results of the chunk.
+	 */
+	private void merge(ChunkResult chunk) {
+		int maxProblems = this.validator.getMaxProblems();
+		for (Problem problem: chunk.problems) {
+			if (this.problems.size() >= maxProblems) {
+				this.truncated = true;
+				return;
+			}
+			this.problems.add(problem);
+		}
+		if (chunk.truncated || this.problems.size() >= maxProblems) {
+			this.truncated = true;
+			return;
+		}
+		if (this.retainsElements) {
+			for (JsonValue value: chunk.values) {
+				if (value != null) {
+					this.builder.add(value);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A range of the input which contains the consecutive elements of the root array.
+	 */
+	private static class Chunk {
+
+		int start;
+		int end;
+		int index;
+		int elements;
+		long lineNumber;
+		int lineStart;
+		int lineAdjustment;
+	}
+
+	/**
+	 * The results of the elements in a chunk.
+	 */
+	private static class ChunkResult {
+
+		final List<Problem> problems = new ArrayList<>();
+		final List<JsonValue> values = new ArrayList<>();
+		boolean truncated;
+	}
+
+	/**
+	 * A scanner which finds the boundaries of the elements in the root array.
+	 * The line numbers and the column adjustments are counted as {@link Utf8JsonParser} does.
+	 */
+	private static class Scanner {
+
+		private final ByteBuffer buffer;
+		private final int limit;
+		private int position;
+		private long lineNumber = 1;
+		private int lineStart;
+		private int lineAdjustment;
+		private int elements;
+		private boolean ended;
+		private byte[] closers = new byte[16];
+
+		Scanner(ByteBuffer buffer) {
+			this.buffer = buffer;
+			this.limit = buffer.limit();
+		}
+
+		/**
+		 * Finds the start of the root array.
+		 * @return {@code true} if the root value is an array, {@code false} otherwise.
+		 */
+		boolean startArray() {
+			int i = 0;
+			if (this.limit >= 3 &&
+				buffer.get(0) == (byte)0xEF && buffer.get(1) == (byte)0xBB && buffer.get(2) == (byte)0xBF) {
+				i = 3;
+			}
+			this.lineStart = i;
+			for (; i < this.limit; i++) {
+				byte b = this.buffer.get(i);
+				if (b == '\n') {
+					this.lineNumber++;
+					this.lineStart = i + 1;
+				} else if (b != ' ' && b != '\t' && b != '\r') {
+					this.position = i + 1;
+					return b == '[';
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Finds the next chunk of the elements.
+		 * @param chunkSize the nominal size of the chunk.
+		 * @return the chunk found, or {@code null} if the end of the root array was already reached.
+		 * @exception JsonParsingException if the root array is not closed, one of its elements is empty,
+		 *                                or the brackets are not balanced.
+		 */
+		Chunk nextChunk(int chunkSize) {
+			if (this.ended) {
+				return null;
+			}
+			final ByteBuffer buffer = this.buffer;
+			final int limit = this.limit;
+			Chunk chunk = new Chunk();
+			chunk.start = this.position;
+			chunk.index = this.elements;
+			chunk.lineNumber = this.lineNumber;
+			chunk.lineStart = this.lineStart;
+			chunk.lineAdjustment = this.lineAdjustment;
+			int depth = 0;
+			boolean content = false;
+			int i = this.position;
+			while (i < limit) {
+				byte b = buffer.get(i);
+				if (b == '"') {
+					i = skipString(i + 1);
+					content = true;
+					continue;
+				} else if (b == '[' || b == '{') {
+					if (depth >= this.closers.length) {
+						this.closers = Arrays.copyOf(this.closers, depth * 2);
+					}
+					this.closers[depth++] = (b == '[') ? (byte)']' : (byte)'}';
+					content = true;
+				} else if (b == ']' || b == '}') {
+					if (depth == 0) {
+						if (b != ']') {
+							throw unexpected(b, i);
+						} else if (content) {
+							this.elements++;
+						} else if (this.elements > 0) {
+							throw unexpected(b, i);
+						}
+						this.ended = true;
+						return endChunk(chunk, i, i + 1);
+					} else if (b != this.closers[--depth]) {
+						throw unexpected(b, i);
+					}
+				} else if (b == ',') {
+					if (depth == 0) {
+						if (!content) {
+							throw unexpected(b, i);
+						}
+						this.elements++;
+						content = false;
+						if (i + 1 - chunk.start >= chunkSize) {
+							return endChunk(chunk, i, i + 1);
+						}
+					}
+				} else if (b == '\n') {
+					this.lineNumber++;
+					this.lineStart = i + 1;
+					this.lineAdjustment = 0;
+				} else if (b != ' ' && b != '\t' && b != '\r') {
+					content = true;
+				}
+				i++;
+			}
+			this.position = limit;
+			throw new JsonParsingException("Unexpected end of input at " + getLocation(limit) + ".", getLocation(limit));
+		}
+
+		/**
+		 * Returns the number of the elements found so far.
+		 * @return the number of the elements.
+		 */
+		int getElements() {
+			return elements;
+		}
+
+		/**
+		 * Returns the location just after the end of the root array.
+		 * @return the location of the end.
+		 */
+		JsonLocation getEndLocation() {
+			return getLocation(this.position);
+		}
+
+		private Chunk endChunk(Chunk chunk, int end, int next) {
+			chunk.end = end;
+			chunk.elements = this.elements - chunk.index;
+			this.position = next;
+			return chunk;
+		}
+
+		private int skipString(int i) {
+			final ByteBuffer buffer = this.buffer;
+			final int limit = this.limit;
+			while (i < limit) {
+				byte b = buffer.get(i++);
+				if (b == '"') {
+					return i;
+				} else if (b == '\\') {
+					i++;
+				} else if (b == '\n') {
+					this.lineNumber++;
+					this.lineStart = i;
+					this.lineAdjustment = 0;
+				} else if (b < 0) {
+					if ((b & 0xC0) == 0x80) {
+						this.lineAdjustment++;
+					} else if ((b & 0xF8) == 0xF0) {
+						this.lineAdjustment--;
+					}
+				}
+			}
+			return limit;
+		}
+
+		private JsonParsingException unexpected(byte b, int index) {
+			JsonLocation location = getLocation(index);
+			return new JsonParsingException("Unexpected character 0x" + Integer.toHexString(b & 0xff) + " at " + location + ".", location);
+		}
+
+		private JsonLocation getLocation(int index) {
+			long columnNumber = index - this.lineStart - this.lineAdjustment + 1;
+			return new Utf8JsonParser.Location(this.lineNumber, columnNumber, index);
+		}
+	}
+}
@@ -0,0 +1,270 @@
+package com.github.i49.hibiscus.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import javax.json.JsonException;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParsingException;
+
+import com.github.i49.hibiscus.problems.Problem;
+
+/**
+ * A validation of newline-delimited JSON file which validates the records on multiple threads.
+ *
+ * <p>The file is split into the chunks aligned to the line boundaries,
+ * and each chunk is validated on the {@link ForkJoinPool} independently.
+ * The file is mapped into memory by the regions of up to 1 GiB, which are sliced into the chunks,
+ * so the number of the mappings does not depend on the size of the chunks.
+ * The results of the chunks are passed to the handler on the calling thread in the order of the input.
+ * The number of the chunks being validated at the same time is bounded,
+ * so that the memory consumed does not depend on the size of the file.</p>
+ *
+ * <p>The records in a chunk are parsed by a single {@link Utf8JsonParser} directly from the mapped bytes,
+ * without decoding them into characters.
+ * The locations of the problems are reported in characters as {@link JsonValidator#validateLines(InputStream, Consumer)} does.</p>
+ */
+class ParallelLineValidation {
+
+	static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+	private static final int SCAN_SIZE = 64 * 1024;
+	private static final long REGION_SIZE = 1024 * 1024 * 1024;
+
+	private final BasicJsonValidator validator;
+	private final ForkJoinPool pool;
+	private final Consumer<? super RecordResult> handler;
+	private final int chunkSize;
+
+	private long records;
+	private long lines;
+	private long bytes;
+	private long chars;
+
+	/**
+	 * Constructs this validation.
+	 * @param validator the validator to be used to validate each record.
+	 * @param pool the pool on which the chunks are validated.
+	 * @param handler the handler which receives the results in the order of the input.
+	 * @param chunkSize the nominal size of each chunk in bytes.
+	 */
+	ParallelLineValidation(BasicJsonValidator validator, ForkJoinPool pool, Consumer<? super RecordResult> handler, int chunkSize) {
+		this.validator = validator;
+		this.pool = pool;
+		this.handler = handler;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Validates all records in the specified file.
+	 * @param path the path to the file.
+	 * @return the number of records validated.
+	 * @exception IOException if I/O error occurred while reading the file.
+	 */
+	long run(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			int window = Math.max(2, this.pool.getParallelism() * 2);
+			Deque<ForkJoinTask<ChunkResult>> pending = new ArrayDeque<>(window);
+			long start = 0;
+			MappedByteBuffer region = null;
+			long regionStart = 0;
+			try {
+				while (start < size || !pending.isEmpty()) {
+					while (start < size && pending.size() < window) {
+						long end = findChunkEnd(channel, start, size, this.chunkSize);
+						if (region == null || end > regionStart + region.capacity()) {
+							regionStart = start;
+							long length = Math.max(end - start, Math.min(REGION_SIZE, size - start));
+							region = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+						}
+						ByteBuffer buffer = slice(region, (int)(start - regionStart), (int)(end - regionStart));
+						pending.addLast(this.pool.submit(() -> validateChunk(buffer)));
+						start = end;
+					}
+					emit(pending.removeFirst().join());
+				}
+			} finally {
+				for (ForkJoinTask<ChunkResult> task: pending) {
+					task.cancel(false);
+				}
+			}
+			return this.records;
+		}
+	}
+
+	/**
+	 * Finds the end of the chunk which starts at the specified position.
+	 * The chunk ends just after the first line feed found after the nominal size of the chunk.
+	 * @param channel the channel of the file.
+	 * @param start the start position of the chunk.
+	 * @param size the size of the file.
+	 * @param chunkSize the nominal size of the chunk.
+	 * @return the end position of the chunk, exclusive.
+	 * @exception IOException if I/O error occurred while reading the file.
+	 */
+	private static long findChunkEnd(FileChannel channel, long start, long size, int chunkSize) throws IOException {
+		long position = start + chunkSize - 1;
+		if (position >= size) {
+			return size;
+		}
+		ByteBuffer scan = ByteBuffer.allocate(Math.min(SCAN_SIZE, chunkSize));
+		while (position < size) {
+			scan.clear();
+			int n = channel.read(scan, position);
+			if (n <= 0) {
+				break;
+			}
+			for (int i = 0; i < n; i++) {
+				if (scan.get(i) == '\n') {
+					long end = position + i + 1;
+					if (end - start > Integer.MAX_VALUE) {
+						throw new JsonException("Line is too long to be mapped into memory.");
+					}
+					return end;
+				}
+			}
+			position += n;
+		}
+		return size;
+	}
+
+	/**
+	 * Slices a chunk from the region mapped into memory.
+	 * @param region the region mapped.
+	 * @param from the start index of the chunk in the region.
+	 * @param to the end index of the chunk in the region, exclusive.
+	 * @return the buffer which contains the chunk only.
+	 */
+	private static ByteBuffer slice(ByteBuffer region, int from, int to) {
+		ByteBuffer buffer = region.duplicate();
+		buffer.limit(to).position(from);
+		return buffer.slice();
+	}
+
+	/**
+	 * Validates all records in the chunk.
+	 * This method is invoked on the threads of the pool.
+	 * @param buffer the content of the chunk.
+	 * @return the results of the records in the chunk.
+	 */
+	private ChunkResult validateChunk(ByteBuffer buffer) {
+		ChunkResult chunk = new ChunkResult();
+		Utf8JsonParser parser = new Utf8JsonParser(buffer);
+		final int limit = buffer.limit();
+		long records = 0;
+		long chars = 0;
+		int start = 0;
+		while (start < limit) {
+			int end = start;
+			int lineChars = 0;
+			boolean blank = true;
+			while (end < limit) {
+				byte b = buffer.get(end);
+				if (b == '\n') {
+					break;
+				} else if (b != ' ' && b != '\t' && b != '\r') {
+					blank = false;
+				}
+				// Counts the characters as the decoder does, with a surrogate pair for the 4-byte sequence.
+				if ((b & 0xC0) != 0x80) {
+					lineChars += ((b & 0xF8) == 0xF0) ? 2 : 1;
+				}
+				end++;
+			}
+			long lineNumber = chunk.lines + 1;
+			if (!blank) {
+				ValidationResult result;
+				try {
+					parser.resetToRecord(start, end);
+					result = this.validator.parse(parser);
+					relocateProblems(result.getProblems(), lineNumber - 1, chars);
+				} catch (JsonParsingException e) {
+					// Parses the malformed record again to report the same problem as the sequential validation.
+					result = this.validator.parseRecord(new StringReader(decode(buffer, start, end)));
+					RecordResultImpl.relocateProblems(result.getProblems(), lineNumber - 1, chars);
+				}
+				chunk.results.add(new RecordResultImpl(result, records++, lineNumber, start));
+			}
+			chars += lineChars;
+			if (end < limit) {
+				chunk.lines++;
+				chars++;
+			}
+			start = end + 1;
+		}
+		chunk.bytes = limit;
+		chunk.chars = chars;
+		return chunk;
+	}
+
+	/**
+	 * Decodes a line in the chunk into a string.
+	 * @param buffer the content of the chunk.
+	 * @param start the index at which the line starts.
+	 * @param end the index at which the line ends, exclusive.
+	 * @return the decoded line.
+	 */
+	private static String decode(ByteBuffer buffer, int start, int end) {
+		ByteBuffer line = buffer.duplicate();
+		line.limit(end).position(start);
+		return StandardCharsets.UTF_8.decode(line).toString();
+	}
+
+	/**
+	 * Moves the locations of the problems found in a record to the position of the record in the chunk.
+	 * The offsets in the record are converted from bytes to characters,
+	 * which equal to the column numbers because the record is a single line.
+	 * @param problems the problems found in the record.
+	 * @param lines the number of lines before the record.
+	 * @param chars the number of characters before the record.
+	 */
+	private static void relocateProblems(List<Problem> problems, long lines, long chars) {
+		for (Problem problem: problems) {
+			JsonLocation location = problem.getLocation();
+			if (location != null) {
+				long column = location.getColumnNumber();
+				JsonLocation local = new Utf8JsonParser.Location(location.getLineNumber(), column, column - 1);
+				problem.setLocation(new RecordLocation(local, lines, chars));
+			}
+		}
+	}
+
+	/**
+	 * Passes the results of the chunk to the handler and advances the position in the file.
+	 * @param chunk the results of the chunk.
+	 */
+	private void emit(ChunkResult chunk) {
+		for (RecordResultImpl result: chunk.results) {
+			this.handler.accept(result.shift(this.records, this.lines, this.bytes, this.chars));
+		}
+		this.records += chunk.results.size();
+		this.lines += chunk.lines;
+		this.bytes += chunk.bytes;
+		this.chars += chunk.chars;
+	}
+
+	/**
+	 * The results of the records in a chunk, whose positions are relative to the chunk.
+	 */
+	private static class ChunkResult {
+
+		final List<RecordResultImpl> results = new ArrayList<>();
+		long lines;
+		long bytes;
+		long chars;
+	}
+}
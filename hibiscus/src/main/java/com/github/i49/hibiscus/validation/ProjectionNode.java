@@ -0,0 +1,160 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+
+import com.github.i49.hibiscus.common.JsonPointer;
+
+/**
+ * A node of the prefix tree of JSON pointers, which selects the values to be built while validating.
+ *
+ * <p>Each node corresponds to an array or an object on the path to the selected values,
+ * and has the child nodes for its elements or its properties on the path.
+ * The special node {@link #ALL} selects the whole value including all of its descendants.</p>
+ *
+ * <p>The name tokens which are also valid array indexes, such as {@code "0"},
+ * are applied to both objects and arrays.</p>
+ */
+class ProjectionNode {
+
+	/**
+	 * The node which selects the whole value.
+	 */
+	static final ProjectionNode ALL = new ProjectionNode();
+
+	private static final int[] NO_INDEXES = {};
+
+	private Map<String, ProjectionNode> names;
+	private int[] indexes = NO_INDEXES;
+	private ProjectionNode[] indexNodes;
+
+	private ProjectionNode() {
+	}
+
+	/**
+	 * Compiles the JSON pointers into the prefix tree.
+	 * @param pointers the JSON pointers which refer to the values to be selected.
+	 * @return the root node of the tree.
+	 */
+	static ProjectionNode compile(Collection<JsonPointer> pointers) {
+		ProjectionNode root = new ProjectionNode();
+		for (JsonPointer pointer: pointers) {
+			root = root.add(pointer.iterator());
+		}
+		return root;
+	}
+
+	/**
+	 * Returns the child node for the property of the object.
+	 * @param name the name of the property.
+	 * @return the child node, or {@code null} if the property is not selected.
+	 */
+	ProjectionNode getChild(String name) {
+		if (this == ALL) {
+			return ALL;
+		}
+		return (this.names != null) ? this.names.get(name) : null;
+	}
+
+	/**
+	 * Returns the child node for the element of the array.
+	 * @param index the index of the element.
+	 * @return the child node, or {@code null} if the element is not selected.
+	 */
+	ProjectionNode getChild(int index) {
+		if (this == ALL) {
+			return ALL;
+		}
+		final int[] indexes = this.indexes;
+		for (int i = 0; i < indexes.length; i++) {
+			if (indexes[i] == index) {
+				return this.indexNodes[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether the value reached by this node is to be included in the result or not.
+	 * The arrays and objects on the path are included with their selected contents only,
+	 * while the atomic values are included only when they are selected as a whole.
+	 * @param value the value reached by this node.
+	 * @return {@code true} if the value is to be included, {@code false} otherwise.
+	 */
+	boolean selects(JsonValue value) {
+		return this == ALL || value instanceof JsonStructure;
+	}
+
+	/**
+	 * Adds the path specified by the remaining tokens to this node.
+	 * @param tokens the remaining tokens of the JSON pointer.
+	 * @return the node which replaces this node.
+	 */
+	private ProjectionNode add(Iterator<Object> tokens) {
+		if (this == ALL || !tokens.hasNext()) {
+			return ALL;
+		}
+		Object token = tokens.next();
+		if (token instanceof Integer) {
+			int index = ((Integer)token).intValue();
+			putChild(index, childOrNew(getChild(index)).add(tokens));
+		} else {
+			String name = token.toString();
+			ProjectionNode child = childOrNew(getChild(name)).add(tokens);
+			if (this.names == null) {
+				this.names = new HashMap<>();
+			}
+			this.names.put(name, child);
+			int index = toIndex(name);
+			if (index >= 0) {
+				putChild(index, child);
+			}
+		}
+		return this;
+	}
+
+	private void putChild(int index, ProjectionNode child) {
+		for (int i = 0; i < this.indexes.length; i++) {
+			if (this.indexes[i] == index) {
+				this.indexNodes[i] = child;
+				return;
+			}
+		}
+		int length = this.indexes.length;
+		this.indexes = Arrays.copyOf(this.indexes, length + 1);
+		this.indexes[length] = index;
+		this.indexNodes = (length == 0) ? new ProjectionNode[1] : Arrays.copyOf(this.indexNodes, length + 1);
+		this.indexNodes[length] = child;
+	}
+
+	private static ProjectionNode childOrNew(ProjectionNode child) {
+		return (child != null) ? child : new ProjectionNode();
+	}
+
+	/**
+	 * Converts the name token into an array index.
+	 * @param name the name token.
+	 * @return the array index, or -1 if the token is not a valid array index.
+	 */
+	private static int toIndex(String name) {
+		int length = name.length();
+		if (length == 0 || length > 9 || (length > 1 && name.charAt(0) == '0')) {
+			return -1;
+		}
+		int index = 0;
+		for (int i = 0; i < length; i++) {
+			char c = name.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			index = index * 10 + (c - '0');
+		}
+		return index;
+	}
+}
@@ -0,0 +1,170 @@
+package com.github.i49.hibiscus.validation;
+
+import java.nio.ByteBuffer;
+
+import javax.json.JsonException;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * A validator of a JSON document whose bytes are pushed by the caller as they arrive.
+ *
+ * <p>This validator is suitable for the applications which receive the document asynchronously,
+ * for example on the event loop of non-blocking I/O, and cannot block to wait for the input.
+ * The caller gives each chunk of the document encoded in UTF-8 to {@link #feed(ByteBuffer)},
+ * which validates all values completed in the bytes given so far and returns immediately.
+ * When the document is completed, {@link #feed(ByteBuffer)} returns {@link Status#COMPLETED}
+ * and the result of the validation is available from {@link #getResult()}.
+ * Only the bytes of the token not completed yet are retained between the chunks,
+ * so the whole document is never buffered by this validator.</p>
+ *
+ * <p>The following code shows how to validate the document received in chunks.</p>
+ * <blockquote><pre><code>
+ * JsonValidator validator = ...;
+ * PushValidator pushValidator = validator.createPushValidator();
+ * // invoked whenever a chunk arrives.
+ * if (pushValidator.feed(chunk) == PushValidator.Status.COMPLETED) {
+ *   ValidationResult result = pushValidator.getResult();
+ *   // handles the result here.
+ * }
+ * // invoked when the connection was closed.
+ * pushValidator.endInput();
+ * </code></pre></blockquote>
+ *
+ * <p>On Java 11 or higher, {@code ValidatingSubscriber} plugs this validator into 
+ * {@code java.util.concurrent.Flow} as a subscriber of the chunks,
+ * which requests the next chunk only after the previous one was validated.</p>
+ *
+ * <p>When the bytes given exceed the maximum size of the input configured for the validator,
+ * the validation is stopped and the result is reported with
+ * {@link com.github.i49.hibiscus.problems.DocumentTooLargeProblem}.
+ * The bytes following the end of the document are ignored.
+ * An instance of this class validates only one document and it is not thread-safe,
+ * although it may be fed from different threads one after another.</p>
+ *
+ * @see JsonValidator#createPushValidator()
+ */
+public class PushValidator {
+
+	/**
+	 * The status of the validation returned after each input.
+	 */
+	public static enum Status {
+		/** The document is not completed yet and more input is needed. */
+		NEEDS_INPUT,
+		/** The document was completed or the validation was stopped. The result is available. */
+		COMPLETED
+	}
+
+	private final Utf8JsonParser parser = new Utf8JsonParser();
+	private final JsonValidatingReader reader;
+	private final long maxInputSize;
+	private long received;
+	private ValidationResult result;
+
+	/**
+	 * Constructs this validator.
+	 * @param reader the reader which validates the events, dedicated to this validator.
+	 * @param schema the compiled schema against which the document is validated.
+	 * @param projection the projection which selects the values to be built, or {@code null} if not built.
+	 * @param maxProblems the maximum number of problems to be detected before the validation stops.
+	 * @param maxInputSize the maximum number of bytes in the document.
+	 */
+	PushValidator(JsonValidatingReader reader, CompiledSchema schema, ProjectionNode projection, int maxProblems, long maxInputSize) {
+		this.reader = reader;
+		this.maxInputSize = maxInputSize;
+		reader.begin(this.parser, schema, projection, maxProblems);
+	}
+
+	/**
+	 * Gives the next chunk of the document to this validator.
+	 * All remaining bytes of the chunk are consumed.
+	 * @param chunk the bytes of the document encoded in UTF-8.
+	 * @return the status of the validation after the chunk was validated.
+	 * @exception IllegalArgumentException if chunk is {@code null}.
+	 * @exception IllegalStateException if this validator already failed.
+	 * @exception JsonException if the document is not a valid JSON document.
+	 */
+	public Status feed(ByteBuffer chunk) {
+		if (chunk == null) {
+			throw new IllegalArgumentException("chunk is null.");
+		}
+		if (this.result != null) {
+			chunk.position(chunk.limit());
+			return Status.COMPLETED;
+		}
+		checkReading();
+		long allowed = this.maxInputSize - this.received;
+		if (chunk.remaining() <= allowed) {
+			this.received += chunk.remaining();
+			this.parser.append(chunk);
+			return advance();
+		}
+		ByteBuffer head = chunk.duplicate();
+		head.limit(head.position() + (int)allowed);
+		chunk.position(chunk.limit());
+		this.received = this.maxInputSize;
+		this.parser.append(head);
+		if (advance() == Status.COMPLETED) {
+			return Status.COMPLETED;
+		}
+		this.result = BasicJsonValidator.inputTooLarge(this.maxInputSize, this.reader.getProblems(), this.parser.getLocation());
+		this.reader.release();
+		return Status.COMPLETED;
+	}
+
+	/**
+	 * Notifies this validator that the end of the input was reached.
+	 * @return {@link Status#COMPLETED} always.
+	 * @exception IllegalStateException if this validator already failed.
+	 * @exception JsonException if the document is not completed or is not a valid JSON document.
+	 */
+	public Status endInput() {
+		if (this.result != null) {
+			return Status.COMPLETED;
+		}
+		checkReading();
+		this.parser.endInput();
+		return advance();
+	}
+
+	/**
+	 * Returns the result of the validation.
+	 * @return the result of the validation, or {@code null} if the document is not completed yet.
+	 */
+	public ValidationResult getResult() {
+		return result;
+	}
+
+	/**
+	 * Validates all events completed in the input given so far.
+	 * @return the status of the validation.
+	 */
+	private Status advance() {
+		final JsonValidatingReader reader = this.reader;
+		try {
+			for (;;) {
+				JsonParser.Event event = this.parser.poll();
+				if (event == null) {
+					return Status.NEEDS_INPUT;
+				}
+				reader.handleEvent(event);
+				if (reader.isComplete() || reader.isTruncated()) {
+					JsonValue value = reader.isTruncated() ? null : reader.endDocument();
+					this.result = new ValidationResultImpl(value, reader.getProblems(), reader.isTruncated());
+					reader.release();
+					return Status.COMPLETED;
+				}
+			}
+		} catch (JsonException e) {
+			reader.release();
+			throw e;
+		}
+	}
+
+	private void checkReading() {
+		if (!this.reader.isReading()) {
+			throw new IllegalStateException("The validation already failed.");
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.github.i49.hibiscus.validation;
+
+/**
+ * The limits on the resources consumed by reading a JSON document,
+ * which protect the validator from the abusive input.
+ * 
+ * <p>Each limit is the maximum allowed, and the limit of {@link Integer#MAX_VALUE} 
+ * means that the resource is unlimited.
+ * The size of the input is not included, which is limited by the input itself.
+ * The objects of this class are immutable.</p>
+ */
+class ReadingLimits {
+
+	private final int maxDepth;
+	private final int maxTokenLength;
+	private final int maxProperties;
+	private final int maxItems;
+
+	/**
+	 * Constructs this limits.
+	 * @param maxDepth the maximum depth of nesting of arrays and objects.
+	 * @param maxTokenLength the maximum number of characters in a string, a number or a property name.
+	 * @param maxProperties the maximum number of properties in an object.
+	 * @param maxItems the maximum number of elements in an array.
+	 */
+	ReadingLimits(int maxDepth, int maxTokenLength, int maxProperties, int maxItems) {
+		this.maxDepth = maxDepth;
+		this.maxTokenLength = maxTokenLength;
+		this.maxProperties = maxProperties;
+		this.maxItems = maxItems;
+	}
+
+	int getMaxDepth() {
+		return maxDepth;
+	}
+
+	int getMaxTokenLength() {
+		return maxTokenLength;
+	}
+
+	int getMaxProperties() {
+		return maxProperties;
+	}
+
+	int getMaxItems() {
+		return maxItems;
+	}
+}
@@ -0,0 +1,56 @@
+package com.github.i49.hibiscus.validation;
+
+import javax.json.stream.JsonLocation;
+
+/**
+ * A location in the newline-delimited JSON input,
+ * which is converted from the location in a single record.
+ */
+class RecordLocation implements JsonLocation {
+
+	private final long lineNumber;
+	private final long columnNumber;
+	private final long streamOffset;
+
+	/**
+	 * Constructs this location.
+	 * @param location the location in the record.
+	 * @param lines the number of lines preceding the record in the input.
+	 * @param chars the number of characters preceding the record in the input.
+	 */
+	RecordLocation(JsonLocation location, long lines, long chars) {
+		this.lineNumber = shift(location.getLineNumber(), lines);
+		this.columnNumber = location.getColumnNumber();
+		this.streamOffset = shift(location.getStreamOffset(), chars);
+	}
+
+	@Override
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	@Override
+	public long getColumnNumber() {
+		return columnNumber;
+	}
+
+	@Override
+	public long getStreamOffset() {
+		return streamOffset;
+	}
+
+	@Override
+	public String toString() {
+		return "(line no=" + lineNumber + ", column no=" + columnNumber + ", offset=" + streamOffset + ")";
+	}
+
+	/**
+	 * Shifts the position if the position is known.
+	 * @param position the position which may be -1 if unknown.
+	 * @param distance the distance to shift.
+	 * @return the shifted position, or -1 if unknown.
+	 */
+	private static long shift(long position, long distance) {
+		return (position < 0) ? position : position + distance;
+	}
+}
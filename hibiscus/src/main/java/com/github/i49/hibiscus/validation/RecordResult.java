@@ -0,0 +1,42 @@
+package com.github.i49.hibiscus.validation;
+
+/**
+ * A result of the validation of a single record in the newline-delimited JSON input,
+ * which is also known as <i>JSON Lines</i>.
+ *
+ * <p>In addition to the result of the validation,
+ * this interface provides the position of the record in the input.</p>
+ *
+ * <p>The line numbers and the column numbers of the locations of the problems in this result
+ * are adjusted to refer to the positions in the whole input rather than in the record.</p>
+ *
+ * @see JsonValidator#validateLines(java.io.Reader, java.util.function.Consumer)
+ * @see JsonValidator#validateLines(java.io.InputStream, java.util.function.Consumer)
+ */
+public interface RecordResult extends ValidationResult {
+
+	/**
+	 * Returns the index of the record in the input.
+	 * The index of the first record is zero and blank lines are not counted.
+	 *
+	 * @return the index of the record.
+	 */
+	long getRecordIndex();
+
+	/**
+	 * Returns the line number of the record in the input.
+	 * The line number of the first line is one and blank lines are counted.
+	 *
+	 * @return the line number of the record.
+	 */
+	long getLineNumber();
+
+	/**
+	 * Returns the offset of the first character of the record from the beginning of the input.
+	 * The offset is measured in bytes when the input is a byte stream,
+	 * or in characters when the input is a character stream.
+	 *
+	 * @return the offset of the record.
+	 */
+	long getOffset();
+}
@@ -0,0 +1,74 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.List;
+
+import com.github.i49.hibiscus.problems.Problem;
+
+/**
+ * An implementation class of {@link RecordResult} interface.
+ * This class is used internally by {@link BasicJsonValidator}.
+ */
+class RecordResultImpl extends ValidationResultImpl implements RecordResult {
+
+	private final long recordIndex;
+	private final long lineNumber;
+	private final long offset;
+
+	/**
+	 * Constructs this result.
+	 * @param result the result of the validation of the record.
+	 * @param recordIndex the index of the record.
+	 * @param lineNumber the line number of the record.
+	 * @param offset the offset of the record in the unit of the input.
+	 */
+	RecordResultImpl(ValidationResult result, long recordIndex, long lineNumber, long offset) {
+		super(result.getValue(), result.getProblems(), result.isTruncated());
+		this.recordIndex = recordIndex;
+		this.lineNumber = lineNumber;
+		this.offset = offset;
+	}
+	
+	/**
+	 * Creates a new result whose position is shifted by the specified distances.
+	 * The locations of the problems in this result are also shifted.
+	 * @param records the number of the records to shift.
+	 * @param lines the number of the lines to shift.
+	 * @param offset the distance of the offset to shift in the unit of the input.
+	 * @param chars the distance of the offset to shift in characters.
+	 * @return the shifted result.
+	 */
+	RecordResultImpl shift(long records, long lines, long offset, long chars) {
+		relocateProblems(getProblems(), lines, chars);
+		return new RecordResultImpl(this, 
+				this.recordIndex + records, this.lineNumber + lines, this.offset + offset);
+	}
+	
+	/**
+	 * Shifts the locations of the problems.
+	 * @param problems the problems to be relocated.
+	 * @param lines the number of the lines to shift.
+	 * @param chars the distance of the offset to shift in characters.
+	 */
+	static void relocateProblems(List<Problem> problems, long lines, long chars) {
+		for (Problem problem: problems) {
+			if (problem.getLocation() != null) {
+				problem.setLocation(new RecordLocation(problem.getLocation(), lines, chars));
+			}
+		}
+	}
+
+	@Override
+	public long getRecordIndex() {
+		return recordIndex;
+	}
+
+	@Override
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	@Override
+	public long getOffset() {
+		return offset;
+	}
+}
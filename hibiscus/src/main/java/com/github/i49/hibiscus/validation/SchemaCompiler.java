@@ -0,0 +1,129 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.schema.ArrayType;
+import com.github.i49.hibiscus.schema.JsonType;
+import com.github.i49.hibiscus.schema.NamedProperty;
+import com.github.i49.hibiscus.schema.ObjectType;
+import com.github.i49.hibiscus.schema.Property;
+import com.github.i49.hibiscus.schema.Schema;
+import com.github.i49.hibiscus.schema.TypeSet;
+
+/**
+ * A compiler which turns a finished {@link Schema} into an executable {@link CompiledSchema}.
+ *
+ * <p>Each distinct type in the schema is compiled exactly once,
+ * even if it is shared by multiple properties or array types, or refers to itself recursively.
+ * The schema should not be modified after it was compiled,
+ * because the compiled schema does not reflect any later modifications.</p>
+ *
+ * <p>Each node is given the path in the schema where it was found first,
+ * e.g. {@code /items/*}{@code /email}, which is used to report the profile of the facets.</p>
+ */
+class SchemaCompiler {
+
+	private static final TypeId[] TYPE_IDS = TypeId.values();
+
+	private final Map<JsonType, CompiledType> types = new IdentityHashMap<>();
+	private final Map<TypeSet, CompiledTypeSet> typeSets = new IdentityHashMap<>();
+	private final List<CompiledType> nodes = new ArrayList<>();
+
+	/**
+	 * Compiles the specified schema.
+	 * @param schema the schema to be compiled.
+	 * @return the compiled schema.
+	 */
+	static CompiledSchema compile(Schema schema) {
+		return new SchemaCompiler().compileSchema(schema);
+	}
+
+	private SchemaCompiler() {
+	}
+
+	private CompiledSchema compileSchema(Schema schema) {
+		CompiledTypeSet rootTypes = compileTypeSet(schema.getTypeSet(), "");
+		CompiledType[] table = this.nodes.toArray(new CompiledType[this.nodes.size()]);
+		return new CompiledSchema(rootTypes, table);
+	}
+
+	private CompiledTypeSet compileTypeSet(TypeSet typeSet, String path) {
+		CompiledTypeSet compiled = this.typeSets.get(typeSet);
+		if (compiled != null) {
+			return compiled;
+		}
+		CompiledType[] slots = new CompiledType[TYPE_IDS.length];
+		for (TypeId typeId: TYPE_IDS) {
+			JsonType type = typeSet.getType(typeId);
+			if (type != null) {
+				slots[typeId.ordinal()] = compileType(type, path);
+			}
+		}
+		compiled = new CompiledTypeSet(slots, typeSet.getTypeIds());
+		this.typeSets.put(typeSet, compiled);
+		return compiled;
+	}
+
+	private CompiledType compileType(JsonType type, String path) {
+		CompiledType compiled = this.types.get(type);
+		if (compiled != null) {
+			return compiled;
+		}
+		int index = this.nodes.size();
+		TypeId typeId = type.getTypeId();
+		if (typeId == TypeId.ARRAY) {
+			ArrayType arrayType = (ArrayType)type;
+			CompiledArrayType node = new CompiledArrayType(index, arrayType);
+			register(type, node, path);
+			node.setItemTypes(compileTypeSet(arrayType.getItemTypes(), path + "/*"));
+			compiled = node;
+		} else if (typeId == TypeId.OBJECT) {
+			ObjectType objectType = (ObjectType)type;
+			CompiledObjectType node = new CompiledObjectType(index, objectType);
+			register(type, node, path);
+			compileProperties(objectType, node, path);
+			compiled = node;
+		} else {
+			compiled = new CompiledType(index, type);
+			register(type, compiled, path);
+		}
+		return compiled;
+	}
+
+	private void register(JsonType type, CompiledType node, String path) {
+		node.setPath(path);
+		this.types.put(type, node);
+		this.nodes.add(node);
+	}
+
+	private void compileProperties(ObjectType objectType, CompiledObjectType node, String path) {
+		Set<String> required = objectType.getRequiredPropertyNames();
+		String[] requiredNames = required.toArray(new String[required.size()]);
+		Map<String, Integer> ordinals = new HashMap<>();
+		for (int i = 0; i < requiredNames.length; i++) {
+			ordinals.put(requiredNames[i], i);
+		}
+		Map<String, CompiledProperty> named = new HashMap<>();
+		List<CompiledProperty> patterns = new ArrayList<>();
+		for (Property property: objectType.getProperties()) {
+			String segment = (property instanceof NamedProperty) ? ((NamedProperty)property).getName() : property.toString();
+			int ordinal = (property.isRequired() && property instanceof NamedProperty) ? ordinals.get(segment) : -1;
+			CompiledProperty compiled = new CompiledProperty(property, ordinal, compileTypeSet(property.getTypeSet(), path + "/" + segment));
+			if (property instanceof NamedProperty) {
+				named.put(((NamedProperty)property).getName(), compiled);
+			} else {
+				patterns.add(compiled);
+			}
+		}
+		node.setProperties(
+				named,
+				patterns.toArray(new CompiledProperty[patterns.size()]),
+				requiredNames);
+	}
+}
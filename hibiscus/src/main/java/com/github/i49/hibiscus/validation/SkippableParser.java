@@ -0,0 +1,21 @@
+package com.github.i49.hibiscus.validation;
+
+import javax.json.stream.JsonParser;
+
+/**
+ * A {@link JsonParser} which can skip the contents of an array or an object
+ * without emitting the events for them.
+ *
+ * <p>This interface is implemented by the parsers provided by this package,
+ * and used by {@link JsonValidatingReader} to pass over the values which need no validation.</p>
+ */
+interface SkippableParser extends JsonParser {
+
+	/**
+	 * Skips the rest of the array or the object which was started by the last event.
+	 * After this method returns, the current event of this parser is 
+	 * {@link JsonParser.Event#END_ARRAY} or {@link JsonParser.Event#END_OBJECT}
+	 * which ends the container skipped.
+	 */
+	void skipContainer();
+}
@@ -1,8 +1,6 @@
 package com.github.i49.hibiscus.validation;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
-import java.util.Set;
 
 import javax.json.JsonNumber;
 import javax.json.JsonString;
@@ -24,14 +22,8 @@ class TransientValueProvider {
 	private final WritableJsonLongNumber longValue = new WritableJsonLongNumber();
 	private final WritableJsonDecimalNumber decimalValue = new WritableJsonDecimalNumber();
 	private final WritableJsonString stringValue = new WritableJsonString();
-
-	private final Set<JsonValue> values = new HashSet<>();
 	
 	TransientValueProvider() {
-		values.add(intValue);
-		values.add(longValue);
-		values.add(decimalValue);
-		values.add(stringValue);
 	}
 	
 	/**
@@ -70,12 +62,30 @@ class TransientValueProvider {
 		return stringValue.assign(value);
 	}
 	
+	/**
+	 * Returns the value which remains valid after the next invocation of this provider.
+	 * @param value the value which may be provided by this provider.
+	 * @return the copy of the value if the value was provided by this provider, or the value itself otherwise.
+	 */
+	JsonValue persist(JsonValue value) {
+		if (value == intValue) {
+			return new WritableJsonIntNumber(intValue.intValue());
+		} else if (value == longValue) {
+			return new WritableJsonLongNumber(longValue.longValue());
+		} else if (value == decimalValue) {
+			return new WritableJsonDecimalNumber(decimalValue.bigDecimalValue());
+		} else if (value == stringValue) {
+			return new WritableJsonString(stringValue.getString());
+		}
+		return value;
+	}
+	
 	/**
 	 * Returns whether the given value was provided by this provider or not.
 	 * @param value the value to be inspected.
 	 * @return {@code true} if the value is provided by this provider, {@code false} otherwise.
 	 */
 	boolean hasProvided(JsonValue value) {
-		return values.contains(value);
+		return value == intValue || value == longValue || value == decimalValue || value == stringValue;
 	}
 }
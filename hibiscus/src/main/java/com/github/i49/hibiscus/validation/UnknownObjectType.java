@@ -1,5 +1,8 @@
 package com.github.i49.hibiscus.validation;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javax.json.JsonObject;
@@ -44,6 +47,16 @@ class UnknownObjectType implements ObjectType {
 		return null;
 	}
 
+	@Override
+	public Collection<Property> getProperties() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Set<String> getRequiredPropertyNames() {
+		return Collections.emptySet();
+	}
+
 	@Override
 	public boolean allowsMoreProperties() {
 		return true;
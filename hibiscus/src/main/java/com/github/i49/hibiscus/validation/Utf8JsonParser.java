@@ -0,0 +1,1013 @@
+package com.github.i49.hibiscus.validation;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+
+/**
+ * A {@link JsonParser} which tokenizes JSON document encoded in UTF-8 directly from a {@link ByteBuffer}.
+ *
+ * <p>This parser does not decode the whole input into characters.
+ * Strings and numbers are only delimited while scanning the input,
+ * and they are converted into Java objects when their values are requested by the caller.
+ * The names of properties consisting of ASCII characters are cached per parser,
+ * so that the same names repeated in the document are not allocated again.</p>
+ *
+ * <p>The bytes are read from the position to the limit of the buffer given,
+ * and the position of the buffer is not changed by this parser.
+ * The bytes are never copied, and the array backing the buffer is scanned directly if it is accessible.
+ * The line numbers and the column numbers of the locations are counted as {@link java.io.Reader} does,
+ * while the stream offsets are measured in bytes from the position of the buffer.</p>
+ *
+ * <p>The root value must be an object or an array as in JSON-P 1.0,
+ * and any other value at the root is rejected as {@link javax.json.stream.JsonParser} of the provider does.</p>
+ *
+ * <p>The containers skipped by {@link #skipContainer()} are scanned only to balance the brackets
+ * outside of the strings, so the syntax errors in them may not be detected.</p>
+ *
+ * <p>This parser can also receive its input incrementally.
+ * The parser constructed without any input owns a buffer to which the caller appends the bytes by {@link #append(ByteBuffer)},
+ * and {@link #poll()} returns {@code null} instead of throwing an exception
+ * when a token is not complete in the bytes given so far.
+ * When the container being skipped is not complete yet, {@link #skipContainer()} returns immediately
+ * and the rest of the container is skipped by {@link #poll()} as the bytes are appended.
+ * Only the bytes not consumed yet are retained in the buffer.</p>
+ */
+class Utf8JsonParser implements SkippableParser {
+
+	private static final int KEY_CACHE_SIZE = 256;
+	private static final int MAX_CACHED_KEY_LENGTH = 64;
+	private static final int MAX_LONG_DIGITS = 18;
+	private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+	private static final byte FIRST = 0;
+	private static final byte AFTER_KEY = 1;
+	private static final byte AFTER_VALUE = 2;
+
+	private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+	private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+	private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+	private static final byte[] BYTE_ORDER_MARK = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+
+	private ByteBuffer buffer;
+	private byte[] array;
+	private final int arrayOffset;
+	private long base;
+	private int limit;
+	private int position;
+	private boolean endOfInput;
+	private boolean started;
+
+	private boolean[] objects = new boolean[16];
+	private int depth;
+	private int skippedLevel;
+	private byte state;
+	private boolean finished;
+
+	private Event currentEvent;
+	private int tokenStart;
+	private int tokenEnd;
+	private boolean escaped;
+	private boolean integral;
+	private boolean simpleInteger;
+
+	private long lineNumber = 1;
+	private int lineStart;
+	private int lineAdjustment;
+
+	private final String[] keys = new String[KEY_CACHE_SIZE];
+	private final int[] keyHashes = new int[KEY_CACHE_SIZE];
+	private char[] chars = new char[64];
+
+	/**
+	 * Constructs this parser.
+	 * A byte order mark at the beginning of the input is skipped.
+	 * @param buffer the buffer which contains JSON document encoded in UTF-8.
+	 */
+	Utf8JsonParser(ByteBuffer buffer) {
+		this(buffer, buffer.position());
+		start();
+	}
+
+	/**
+	 * Constructs this parser which reads the elements of an array from the middle of the input.
+	 * This parser behaves as if the start of the array was already read,
+	 * and the caller is responsible for reading the elements no more than the input contains.
+	 * @param buffer the buffer whose position and limit delimit the elements to be read.
+	 * @param base the index in the buffer from which the stream offsets are measured.
+	 * @param lineNumber the line number at the position of the buffer.
+	 * @param lineStart the index in the buffer at which the line containing the position starts.
+	 * @param lineAdjustment the difference between the bytes and the UTF-16 code units 
+	 *                       in the line before the position.
+	 */
+	Utf8JsonParser(ByteBuffer buffer, long base, long lineNumber, int lineStart, int lineAdjustment) {
+		this(buffer, base);
+		this.lineNumber = lineNumber;
+		this.lineStart = lineStart;
+		this.lineAdjustment = lineAdjustment;
+		this.started = true;
+		push(false);
+	}
+
+	/**
+	 * Moves this parser to a record in the buffer, which is read as a new JSON document.
+	 * The line numbers and the stream offsets of the locations are measured from the start of the record.
+	 * This method allows a parser to be reused for all records of newline-delimited JSON in the buffer.
+	 * @param start the index in the buffer at which the record starts.
+	 * @param end the index in the buffer at which the record ends, exclusive.
+	 */
+	void resetToRecord(int start, int end) {
+		this.base = start;
+		this.position = start;
+		this.limit = end;
+		this.started = true;
+		this.depth = 0;
+		this.skippedLevel = 0;
+		this.state = FIRST;
+		this.finished = false;
+		this.currentEvent = null;
+		this.lineNumber = 1;
+		this.lineStart = start;
+		this.lineAdjustment = 0;
+	}
+
+	private Utf8JsonParser(ByteBuffer buffer, long base) {
+		this.buffer = buffer;
+		if (buffer.hasArray()) {
+			this.array = buffer.array();
+			this.arrayOffset = buffer.arrayOffset();
+		} else {
+			this.array = null;
+			this.arrayOffset = 0;
+		}
+		this.base = base;
+		this.limit = buffer.limit();
+		this.position = buffer.position();
+		this.endOfInput = true;
+	}
+
+	/**
+	 * Constructs this parser which receives the input incrementally.
+	 * The input is to be given by {@link #append(ByteBuffer)} and {@link #endInput()}.
+	 */
+	Utf8JsonParser() {
+		this.array = new byte[INITIAL_BUFFER_SIZE];
+		this.buffer = ByteBuffer.wrap(this.array);
+		this.arrayOffset = 0;
+	}
+
+	/**
+	 * Appends the bytes to the input of this parser.
+	 * The bytes already consumed by this parser are discarded when the buffer needs more space.
+	 * This method is available only for the parser which receives the input incrementally.
+	 * @param bytes the bytes to be appended, all of whose remaining bytes are consumed.
+	 */
+	void append(ByteBuffer bytes) {
+		int length = bytes.remaining();
+		if (this.array.length - this.limit < length) {
+			int consumed = this.position;
+			int remaining = this.limit - consumed;
+			byte[] array = this.array;
+			if (array.length < remaining + length) {
+				array = new byte[Math.max(remaining + length, array.length * 2)];
+			}
+			System.arraycopy(this.array, consumed, array, 0, remaining);
+			if (array != this.array) {
+				this.array = array;
+				this.buffer = ByteBuffer.wrap(array);
+			}
+			this.base -= consumed;
+			this.limit = remaining;
+			this.position = 0;
+			this.lineStart -= consumed;
+			this.tokenStart -= consumed;
+			this.tokenEnd -= consumed;
+		}
+		bytes.get(this.array, this.limit, length);
+		this.limit += length;
+	}
+
+	/**
+	 * Notifies this parser that no more bytes will be appended to the input.
+	 */
+	void endInput() {
+		this.endOfInput = true;
+	}
+
+	/**
+	 * Returns the next event if the whole token of it is available in the input given so far.
+	 * When the token is not complete, this parser stays at the same position
+	 * and the caller should append more bytes to the input.
+	 * @return the next event, or {@code null} if more input is needed.
+	 * @exception JsonParsingException if the input is not a valid JSON document.
+	 * @exception NoSuchElementException if the document was already completed.
+	 */
+	Event poll() {
+		if (!this.started && !start()) {
+			return null;
+		}
+		if (this.skippedLevel > 0 && !scanSkipped()) {
+			return null;
+		}
+		final int position = this.position;
+		final long lineNumber = this.lineNumber;
+		final int lineStart = this.lineStart;
+		final int lineAdjustment = this.lineAdjustment;
+		final byte state = this.state;
+		try {
+			return next();
+		} catch (InputExhaustedException e) {
+			this.position = position;
+			this.lineNumber = lineNumber;
+			this.lineStart = lineStart;
+			this.lineAdjustment = lineAdjustment;
+			this.state = state;
+			return null;
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		return !this.finished;
+	}
+
+	@Override
+	public Event next() {
+		if (this.finished) {
+			throw new NoSuchElementException();
+		}
+		int c = skipWhitespace();
+		if (this.depth == 0) {
+			return readRoot(c);
+		}
+		if (this.objects[this.depth - 1]) {
+			if (this.state == AFTER_KEY) {
+				expect(c, ':');
+				return readValue(skipWhitespace());
+			} else if (c == '}') {
+				return endContainer();
+			} else if (this.state == AFTER_VALUE) {
+				expect(c, ',');
+				c = skipWhitespace();
+			}
+			return readKey(c);
+		} else {
+			if (c == ']') {
+				return endContainer();
+			} else if (this.state == AFTER_VALUE) {
+				expect(c, ',');
+				c = skipWhitespace();
+			}
+			return readValue(c);
+		}
+	}
+
+	@Override
+	public String getString() {
+		if (this.currentEvent == Event.KEY_NAME) {
+			return getKey();
+		} else if (this.currentEvent == Event.VALUE_STRING) {
+			return decodeString();
+		} else if (this.currentEvent == Event.VALUE_NUMBER) {
+			return decodeAscii();
+		}
+		throw new IllegalStateException();
+	}
+
+	@Override
+	public boolean isIntegralNumber() {
+		checkNumber();
+		return this.integral;
+	}
+
+	@Override
+	public int getInt() {
+		checkNumber();
+		if (this.simpleInteger) {
+			return (int)parseLong();
+		}
+		return getBigDecimal().intValue();
+	}
+
+	@Override
+	public long getLong() {
+		checkNumber();
+		if (this.simpleInteger) {
+			return parseLong();
+		}
+		return getBigDecimal().longValue();
+	}
+
+	@Override
+	public BigDecimal getBigDecimal() {
+		checkNumber();
+		if (this.simpleInteger) {
+			return BigDecimal.valueOf(parseLong());
+		}
+		return new BigDecimal(decodeAscii());
+	}
+
+	@Override
+	public JsonLocation getLocation() {
+		return locationAt(this.position);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The contents are scanned byte by byte without being tokenized.</p>
+	 */
+	@Override
+	public void skipContainer() {
+		this.skippedLevel = 1;
+		scanSkipped();
+	}
+
+	/**
+	 * Scans the container being skipped as far as the input given so far.
+	 * @return {@code true} if the container was closed, 
+	 *         {@code false} if more input is needed to find the end of the container.
+	 * @exception JsonParsingException if the container is not closed properly.
+	 */
+	private boolean scanSkipped() {
+		final ByteBuffer buffer = this.buffer;
+		final int limit = this.limit;
+		int level = this.skippedLevel;
+		int i = this.position;
+		while (i < limit) {
+			byte b = buffer.get(i++);
+			if (b == '"') {
+				int end = skipString(i);
+				if (end < 0) {
+					// Scans the string again from the opening quotation mark.
+					i--;
+					break;
+				}
+				i = end;
+			} else if (b == '[' || b == '{') {
+				level++;
+			} else if (b == ']' || b == '}') {
+				if (--level == 0) {
+					this.skippedLevel = 0;
+					this.position = i - 1;
+					if ((b == '}') != this.objects[this.depth - 1]) {
+						throw unexpected(b);
+					}
+					endContainer();
+					return true;
+				}
+			} else if (b == '\n') {
+				this.lineNumber++;
+				this.lineStart = i;
+				this.lineAdjustment = 0;
+			}
+		}
+		if (this.endOfInput) {
+			this.position = limit;
+			throw unexpected(-1);
+		}
+		this.position = i;
+		this.skippedLevel = level;
+		return false;
+	}
+
+	/**
+	 * Skips a string without checking its content except escapes.
+	 * @param i the index of the byte following the opening quotation mark.
+	 * @return the index of the byte following the closing quotation mark,
+	 *         or -1 if the string is not closed in the input given so far.
+	 */
+	private int skipString(int i) {
+		final ByteBuffer buffer = this.buffer;
+		final int limit = this.limit;
+		int adjustment = 0;
+		while (i < limit) {
+			byte b = buffer.get(i++);
+			if (b == '"') {
+				this.lineAdjustment += adjustment;
+				return i;
+			} else if (b == '\\') {
+				i++;
+			} else if (b < 0) {
+				if ((b & 0xC0) == 0x80) {
+					adjustment++;
+				} else if ((b & 0xF8) == 0xF0) {
+					adjustment--;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks that only whitespace characters remain in the input.
+	 * @exception JsonParsingException if any other character remains.
+	 */
+	void checkEnd() {
+		int c = skipWhitespace();
+		if (c >= 0) {
+			throw unexpected(c);
+		}
+	}
+
+	/**
+	 * Starts reading the input, skipping a byte order mark at the beginning.
+	 * @return {@code true} if started, {@code false} if more input is needed to find the byte order mark.
+	 */
+	private boolean start() {
+		final int start = this.position;
+		final int available = Math.min(this.limit - start, 3);
+		for (int i = 0; i < available; i++) {
+			if (this.buffer.get(start + i) != BYTE_ORDER_MARK[i]) {
+				return started(start);
+			}
+		}
+		if (available < 3) {
+			return this.endOfInput && started(start);
+		}
+		return started(start + 3);
+	}
+
+	private boolean started(int position) {
+		this.position = position;
+		this.lineStart = position;
+		this.started = true;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This method does nothing because the buffer is owned by the caller.</p>
+	 */
+	@Override
+	public void close() {
+	}
+
+	/**
+	 * Skips the whitespace characters.
+	 * @return the next byte which is not whitespace, or -1 if reached the end of the input.
+	 */
+	private int skipWhitespace() {
+		final ByteBuffer buffer = this.buffer;
+		int i = this.position;
+		while (i < this.limit) {
+			byte b = buffer.get(i);
+			if (b == ' ' || b == '\t' || b == '\r') {
+				i++;
+			} else if (b == '\n') {
+				i++;
+				this.lineNumber++;
+				this.lineStart = i;
+				this.lineAdjustment = 0;
+			} else {
+				this.position = i;
+				return b & 0xff;
+			}
+		}
+		this.position = i;
+		return -1;
+	}
+
+	/**
+	 * Reads the root value, which must be an object or an array as JSON-P 1.0 requires.
+	 * @param c the first byte of the root value.
+	 * @return the event for the start of the root value.
+	 */
+	private Event readRoot(int c) {
+		if (c != '{' && c != '[') {
+			throw unexpected(c);
+		}
+		return readValue(c);
+	}
+
+	private Event readValue(int c) {
+		switch (c) {
+		case '{':
+			this.position++;
+			push(true);
+			return setEvent(Event.START_OBJECT);
+		case '[':
+			this.position++;
+			push(false);
+			return setEvent(Event.START_ARRAY);
+		case '"':
+			readString();
+			return completeValue(Event.VALUE_STRING);
+		case 't':
+			readLiteral(TRUE);
+			return completeValue(Event.VALUE_TRUE);
+		case 'f':
+			readLiteral(FALSE);
+			return completeValue(Event.VALUE_FALSE);
+		case 'n':
+			readLiteral(NULL);
+			return completeValue(Event.VALUE_NULL);
+		default:
+			if (c == '-' || (c >= '0' && c <= '9')) {
+				readNumber();
+				return completeValue(Event.VALUE_NUMBER);
+			}
+			throw unexpected(c);
+		}
+	}
+
+	private Event readKey(int c) {
+		if (c != '"') {
+			throw unexpected(c);
+		}
+		readString();
+		this.state = AFTER_KEY;
+		return setEvent(Event.KEY_NAME);
+	}
+
+	private void expect(int c, char expected) {
+		if (c != expected) {
+			throw unexpected(c);
+		}
+		this.position++;
+	}
+
+	private void push(boolean object) {
+		if (this.depth >= this.objects.length) {
+			this.objects = Arrays.copyOf(this.objects, this.depth * 2);
+		}
+		this.objects[this.depth++] = object;
+		this.state = FIRST;
+	}
+
+	private Event endContainer() {
+		this.position++;
+		Event event = this.objects[--this.depth] ? Event.END_OBJECT : Event.END_ARRAY;
+		return completeValue(event);
+	}
+
+	private Event completeValue(Event event) {
+		if (this.depth == 0) {
+			this.finished = true;
+		} else {
+			this.state = AFTER_VALUE;
+		}
+		return setEvent(event);
+	}
+
+	private Event setEvent(Event event) {
+		this.currentEvent = event;
+		return event;
+	}
+
+	/**
+	 * Scans a string starting at the current position without decoding it.
+	 */
+	private void readString() {
+		final ByteBuffer buffer = this.buffer;
+		final int limit = this.limit;
+		int i = this.position + 1;
+		int start = i;
+		boolean escaped = false;
+		for (;;) {
+			if (this.array != null) {
+				i = skipPlainCharacters(i);
+			}
+			if (i >= limit) {
+				this.position = i;
+				throw unexpected(-1);
+			}
+			byte b = buffer.get(i);
+			if (b == '"') {
+				break;
+			} else if (b == '\\') {
+				escaped = true;
+				i = skipEscape(i + 1);
+			} else if (b < 0x20) {
+				if (b >= 0) {
+					this.position = i;
+					throw unexpected(b);
+				}
+				// Columns are counted in UTF-16 code units.
+				if ((b & 0xC0) == 0x80) {
+					this.lineAdjustment++;
+				} else if ((b & 0xF8) == 0xF0) {
+					this.lineAdjustment--;
+				}
+				i++;
+			} else {
+				i++;
+			}
+		}
+		this.tokenStart = start;
+		this.tokenEnd = i;
+		this.escaped = escaped;
+		this.position = i + 1;
+	}
+
+	/**
+	 * Skips the ASCII characters in a string which need no special treatment,
+	 * by scanning the backing array directly.
+	 * @param i the index of the byte to start with.
+	 * @return the index of the first byte which needs to be examined.
+	 */
+	private int skipPlainCharacters(int i) {
+		final byte[] array = this.array;
+		final int offset = this.arrayOffset;
+		int j = i + offset;
+		final int end = this.limit + offset;
+		while (j < end) {
+			byte b = array[j];
+			if (b == '"' || b == '\\' || b < 0x20) {
+				break;
+			}
+			j++;
+		}
+		return j - offset;
+	}
+
+	/**
+	 * Skips an escape sequence in a string.
+	 * @param i the index of the character following the backslash.
+	 * @return the index of the byte following the escape sequence.
+	 */
+	private int skipEscape(int i) {
+		if (i >= this.limit) {
+			this.position = i;
+			throw unexpected(-1);
+		}
+		byte b = this.buffer.get(i);
+		switch (b) {
+		case '"':
+		case '\\':
+		case '/':
+		case 'b':
+		case 'f':
+		case 'n':
+		case 'r':
+		case 't':
+			return i + 1;
+		case 'u':
+			for (int j = 1; j <= 4; j++) {
+				if (i + j >= this.limit || hexValue(this.buffer.get(i + j)) < 0) {
+					this.position = i + j;
+					throw unexpected((i + j < this.limit) ? this.buffer.get(i + j) : -1);
+				}
+			}
+			return i + 5;
+		default:
+			this.position = i;
+			throw unexpected(b);
+		}
+	}
+
+	private void readLiteral(byte[] literal) {
+		int i = this.position;
+		for (byte expected: literal) {
+			if (i >= this.limit || this.buffer.get(i) != expected) {
+				this.position = i;
+				throw unexpected((i < this.limit) ? this.buffer.get(i) : -1);
+			}
+			i++;
+		}
+		this.position = i;
+	}
+
+	/**
+	 * Scans a number starting at the current position without converting it.
+	 */
+	private void readNumber() {
+		int i = this.position;
+		if (this.buffer.get(i) == '-') {
+			i++;
+		}
+		int c = byteAt(i);
+		if (c == '0') {
+			i++;
+		} else if (c >= '1' && c <= '9') {
+			i = skipDigits(i + 1);
+		} else {
+			this.position = i;
+			throw unexpected(c);
+		}
+		boolean fraction = false;
+		boolean exponent = false;
+		long scale = 0;
+		if (byteAt(i) == '.') {
+			fraction = true;
+			int digits = i + 1;
+			i = requireDigits(digits);
+			scale = i - digits;
+		}
+		c = byteAt(i);
+		if (c == 'e' || c == 'E') {
+			exponent = true;
+			i++;
+			c = byteAt(i);
+			boolean negative = (c == '-');
+			if (c == '+' || c == '-') {
+				i++;
+			}
+			int digits = i;
+			i = requireDigits(i);
+			long value = 0;
+			for (int j = digits; j < i && value <= Integer.MAX_VALUE; j++) {
+				value = value * 10 + (this.buffer.get(j) - '0');
+			}
+			scale = negative ? scale + value : scale - value;
+		}
+		if (i >= this.limit && !this.endOfInput) {
+			// The number may continue in the bytes to be appended.
+			throw InputExhaustedException.INSTANCE;
+		}
+		this.tokenStart = this.position;
+		this.tokenEnd = i;
+		this.position = i;
+		// Integral if the scale of the number is zero, as BigDecimal does.
+		this.integral = (scale == 0);
+		this.simpleInteger = !fraction && !exponent && (i - this.tokenStart) <= MAX_LONG_DIGITS;
+	}
+
+	private int skipDigits(int i) {
+		int c = byteAt(i);
+		while (c >= '0' && c <= '9') {
+			c = byteAt(++i);
+		}
+		return i;
+	}
+
+	private int requireDigits(int i) {
+		int c = byteAt(i);
+		if (c < '0' || c > '9') {
+			this.position = i;
+			throw unexpected(c);
+		}
+		return skipDigits(i + 1);
+	}
+
+	private int byteAt(int i) {
+		return (i < this.limit) ? (this.buffer.get(i) & 0xff) : -1;
+	}
+
+	private void checkNumber() {
+		if (this.currentEvent != Event.VALUE_NUMBER) {
+			throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Returns the length of the current string, number or property name in UTF-16 code units
+	 * without decoding it.
+	 * @return the length of the current token.
+	 */
+	int getTokenLength() {
+		final ByteBuffer buffer = this.buffer;
+		final int end = this.tokenEnd;
+		int length = 0;
+		int i = this.tokenStart;
+		while (i < end) {
+			byte b = buffer.get(i);
+			if (b == '\\') {
+				i += (buffer.get(i + 1) == 'u') ? 6 : 2;
+				length++;
+				continue;
+			} else if ((b & 0xC0) != 0x80) {
+				length++;
+				if ((b & 0xF8) == 0xF0) {
+					// Encoded as a surrogate pair.
+					length++;
+				}
+			}
+			i++;
+		}
+		return length;
+	}
+
+	/**
+	 * Converts the current number which has no fraction nor exponent and has at most 18 digits.
+	 * @return the value of the number.
+	 */
+	private long parseLong() {
+		int i = this.tokenStart;
+		boolean negative = (this.buffer.get(i) == '-');
+		if (negative) {
+			i++;
+		}
+		long value = 0;
+		for (; i < this.tokenEnd; i++) {
+			value = value * 10 + (this.buffer.get(i) - '0');
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Returns the name of the current property.
+	 * The names consisting of ASCII characters without any escape are cached.
+	 * @return the name of the property.
+	 */
+	private String getKey() {
+		int length = this.tokenEnd - this.tokenStart;
+		if (this.escaped || length > MAX_CACHED_KEY_LENGTH) {
+			return decodeString();
+		}
+		final ByteBuffer buffer = this.buffer;
+		int hash = 0;
+		for (int i = this.tokenStart; i < this.tokenEnd; i++) {
+			byte b = buffer.get(i);
+			if (b < 0) {
+				return decodeString();
+			}
+			hash = 31 * hash + b;
+		}
+		int slot = (hash ^ (hash >>> 16)) & (KEY_CACHE_SIZE - 1);
+		String key = this.keys[slot];
+		if (key != null && this.keyHashes[slot] == hash && key.length() == length) {
+			int i = 0;
+			while (i < length && key.charAt(i) == buffer.get(this.tokenStart + i)) {
+				i++;
+			}
+			if (i == length) {
+				return key;
+			}
+		}
+		key = decodeString();
+		this.keys[slot] = key;
+		this.keyHashes[slot] = hash;
+		return key;
+	}
+
+	/**
+	 * Decodes the current string into Java string.
+	 * @return the decoded string.
+	 */
+	private String decodeString() {
+		final ByteBuffer buffer = this.buffer;
+		final int end = this.tokenEnd;
+		int i = this.tokenStart;
+		if (!this.escaped && this.array != null) {
+			return new String(this.array, this.arrayOffset + i, end - i, StandardCharsets.UTF_8);
+		}
+		char[] chars = this.chars;
+		if (chars.length < end - i) {
+			chars = this.chars = new char[Math.max(end - i, chars.length * 2)];
+		}
+		int n = 0;
+		while (i < end) {
+			int b = buffer.get(i);
+			if (b == '\\') {
+				b = buffer.get(i + 1);
+				i += 2;
+				switch (b) {
+				case 'b':
+					chars[n++] = '\b';
+					break;
+				case 'f':
+					chars[n++] = '\f';
+					break;
+				case 'n':
+					chars[n++] = '\n';
+					break;
+				case 'r':
+					chars[n++] = '\r';
+					break;
+				case 't':
+					chars[n++] = '\t';
+					break;
+				case 'u':
+					chars[n++] = (char)((hexValue(buffer.get(i)) << 12) | (hexValue(buffer.get(i + 1)) << 8) |
+							(hexValue(buffer.get(i + 2)) << 4) | hexValue(buffer.get(i + 3)));
+					i += 4;
+					break;
+				default:
+					chars[n++] = (char)b;
+					break;
+				}
+			} else if (b >= 0) {
+				chars[n++] = (char)b;
+				i++;
+			} else if ((b & 0xE0) == 0xC0 && isContinuation(i + 1, end)) {
+				chars[n++] = (char)(((b & 0x1F) << 6) | (buffer.get(i + 1) & 0x3F));
+				i += 2;
+			} else if ((b & 0xF0) == 0xE0 && isContinuation(i + 1, end) && isContinuation(i + 2, end)) {
+				chars[n++] = (char)(((b & 0x0F) << 12) | ((buffer.get(i + 1) & 0x3F) << 6) | (buffer.get(i + 2) & 0x3F));
+				i += 3;
+			} else if ((b & 0xF8) == 0xF0 && isContinuation(i + 1, end) && isContinuation(i + 2, end) && isContinuation(i + 3, end)) {
+				int codePoint = ((b & 0x07) << 18) | ((buffer.get(i + 1) & 0x3F) << 12) |
+						((buffer.get(i + 2) & 0x3F) << 6) | (buffer.get(i + 3) & 0x3F);
+				chars[n++] = Character.highSurrogate(codePoint);
+				chars[n++] = Character.lowSurrogate(codePoint);
+				i += 4;
+			} else {
+				// Malformed sequence is replaced as the decoder of the reader does.
+				chars[n++] = '\uFFFD';
+				i++;
+			}
+		}
+		return new String(chars, 0, n);
+	}
+
+	private boolean isContinuation(int i, int end) {
+		return i < end && (this.buffer.get(i) & 0xC0) == 0x80;
+	}
+
+	/**
+	 * Decodes the current token consisting of ASCII characters only.
+	 * @return the decoded string.
+	 */
+	private String decodeAscii() {
+		int length = this.tokenEnd - this.tokenStart;
+		char[] chars = this.chars;
+		if (chars.length < length) {
+			chars = this.chars = new char[Math.max(length, chars.length * 2)];
+		}
+		for (int i = 0; i < length; i++) {
+			chars[i] = (char)this.buffer.get(this.tokenStart + i);
+		}
+		return new String(chars, 0, length);
+	}
+
+	private static int hexValue(int b) {
+		if (b >= '0' && b <= '9') {
+			return b - '0';
+		} else if (b >= 'a' && b <= 'f') {
+			return b - 'a' + 10;
+		} else if (b >= 'A' && b <= 'F') {
+			return b - 'A' + 10;
+		}
+		return -1;
+	}
+
+	private JsonLocation locationAt(int index) {
+		long columnNumber = index - this.lineStart - this.lineAdjustment + 1;
+		return new Location(this.lineNumber, columnNumber, index - this.base);
+	}
+
+	/**
+	 * Creates the exception to be thrown when unexpected byte was found at the current position.
+	 * @param c the byte found, or -1 if reached the end of the input.
+	 * @return the exception to be thrown.
+	 * @exception InputExhaustedException if reached the end of the input given so far but more input may follow.
+	 */
+	private JsonParsingException unexpected(int c) {
+		if (c < 0 && !this.endOfInput) {
+			throw InputExhaustedException.INSTANCE;
+		}
+		JsonLocation location = locationAt(this.position);
+		String message;
+		if (c < 0) {
+			message = "Unexpected end of input at " + location + ".";
+		} else {
+			message = "Unexpected character 0x" + Integer.toHexString(c & 0xff) + " at " + location + ".";
+		}
+		return new JsonParsingException(message, location);
+	}
+
+	/**
+	 * An exception thrown when a token is not complete in the input given so far.
+	 */
+	@SuppressWarnings("serial")
+	private static class InputExhaustedException extends RuntimeException {
+
+		static final InputExhaustedException INSTANCE = new InputExhaustedException();
+
+		private InputExhaustedException() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * A location in the input of this parser.
+	 */
+	static class Location implements JsonLocation {
+
+		private final long lineNumber;
+		private final long columnNumber;
+		private final long streamOffset;
+
+		Location(long lineNumber, long columnNumber, long streamOffset) {
+			this.lineNumber = lineNumber;
+			this.columnNumber = columnNumber;
+			this.streamOffset = streamOffset;
+		}
+
+		@Override
+		public long getLineNumber() {
+			return lineNumber;
+		}
+
+		@Override
+		public long getColumnNumber() {
+			return columnNumber;
+		}
+
+		@Override
+		public long getStreamOffset() {
+			return streamOffset;
+		}
+
+		@Override
+		public String toString() {
+			return "(line no=" + lineNumber + ", column no=" + columnNumber + ", offset=" + streamOffset + ")";
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.github.i49.hibiscus.validation;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+
+import com.github.i49.hibiscus.problems.Problem;
+
+/**
+ * A {@link JsonParser} which validates the JSON document against the schema
+ * while the events of the document are pulled by the caller.
+ *
+ * <p>This parser wraps another {@link JsonParser} and passes all events and values
+ * provided by the wrapped parser through to the caller as they are.
+ * Each event is validated when {@link #next()} is invoked,
+ * and the problems found so far are available from {@link #getProblems()} at any time.
+ * No JSON values are built by this parser
+ * except the arrays and objects which must be built to evaluate their facets or assertions.</p>
+ *
+ * <p>The following code shows how to validate the JSON document while it is consumed by another component.</p>
+ * <blockquote><pre><code>
+ * JsonValidator validator = ...;
+ * try (ValidatingJsonParser parser = validator.createParser(reader)) {
+ *   Object bound = binder.bind(parser);
+ *   if (parser.hasProblems()) {
+ *     // handles the problems here.
+ *   }
+ * }
+ * </code></pre></blockquote>
+ *
+ * <p>Note that the problems which depend on the end of a container,
+ * such as {@link com.github.i49.hibiscus.problems.MissingPropertyProblem},
+ * are not available until the event ending the container is pulled.
+ * This parser stops validating the document when the number of the problems reached
+ * the limit configured in the validator, and {@link #isTruncated()} returns {@code true} in that case.</p>
+ *
+ * <p>An instance of this class is not thread-safe.</p>
+ *
+ * @see JsonValidator#createParser(java.io.Reader)
+ * @see JsonValidator#createParser(java.io.InputStream)
+ * @see JsonValidator#createParser(JsonParser)
+ */
+public class ValidatingJsonParser implements JsonParser {
+
+	private final JsonParser parser;
+	private final JsonValidatingReader reader;
+
+	/**
+	 * Constructs this parser.
+	 * @param parser the parser to be wrapped.
+	 * @param reader the reader which validates the events, dedicated to this parser.
+	 * @param schema the compiled schema against which the document is validated.
+	 * @param maxProblems the maximum number of problems to be detected before the validation stops.
+	 */
+	ValidatingJsonParser(JsonParser parser, JsonValidatingReader reader, CompiledSchema schema, int maxProblems) {
+		this.parser = parser;
+		this.reader = reader;
+		reader.begin(parser, schema, null, maxProblems);
+	}
+
+	/**
+	 * Returns all problems found by the validation so far.
+	 * @return the unmodifiable list of the problems found, which may be empty.
+	 */
+	public List<Problem> getProblems() {
+		return Collections.unmodifiableList(this.reader.getProblems());
+	}
+
+	/**
+	 * Returns whether any problems were found by the validation so far or not.
+	 * @return {@code true} if any problems were found, {@code false} otherwise.
+	 */
+	public boolean hasProblems() {
+		return !this.reader.getProblems().isEmpty();
+	}
+
+	/**
+	 * Returns whether this parser stopped validating the document before its end or not.
+	 * @return {@code true} if the validation was stopped because of too many problems, {@code false} otherwise.
+	 */
+	public boolean isTruncated() {
+		return this.reader.isTruncated();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return this.parser.hasNext();
+	}
+
+	@Override
+	public Event next() {
+		Event event = this.parser.next();
+		JsonValidatingReader reader = this.reader;
+		if (reader.isReading()) {
+			reader.handleEvent(event);
+			if (reader.isComplete() || reader.isTruncated()) {
+				reader.release();
+			}
+		}
+		return event;
+	}
+
+	@Override
+	public String getString() {
+		return this.parser.getString();
+	}
+
+	@Override
+	public boolean isIntegralNumber() {
+		return this.parser.isIntegralNumber();
+	}
+
+	@Override
+	public int getInt() {
+		return this.parser.getInt();
+	}
+
+	@Override
+	public long getLong() {
+		return this.parser.getLong();
+	}
+
+	@Override
+	public BigDecimal getBigDecimal() {
+		return this.parser.getBigDecimal();
+	}
+
+	@Override
+	public JsonLocation getLocation() {
+		return this.parser.getLocation();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>The problems found are still available after this parser was closed.</p>
+	 */
+	@Override
+	public void close() {
+		try {
+			this.parser.close();
+		} finally {
+			if (this.reader.isReading()) {
+				this.reader.release();
+			}
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.github.i49.hibiscus.validation;
+
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.JsonType;
+
+/**
+ * A listener which receives the notifications from the validator while JSON documents are validated.
+ *
+ * <p>This interface is intended to be used to instrument the validation,
+ * for example to measure where the time is spent in production without attaching a profiler.
+ * The listener is registered by {@link BasicJsonValidator#listener(ValidationListener)}.
+ * All methods of this interface have empty default implementations,
+ * so the implementation overrides only the methods it is interested in.</p>
+ *
+ * <p>The methods are invoked on the thread validating the document, in the order of the input.
+ * When the validator is used by multiple threads at the same time, 
+ * the listener must be thread-safe.
+ * The listener must not throw any exceptions, which would abort the validation.
+ * When no listener is registered or the listener is not active, 
+ * the validator never prepares any notifications.</p>
+ */
+public interface ValidationListener {
+
+	/**
+	 * Returns whether this listener is interested in the next JSON document or not.
+	 * This method is invoked once before each document, 
+	 * and none of the other methods are invoked for the document if this method returned {@code false}.
+	 * The default implementation always returns {@code true}.
+	 * @return {@code true} if this listener should be notified of the next document, {@code false} otherwise.
+	 */
+	default boolean isActive() {
+		return true;
+	}
+
+	/**
+	 * Invoked when the validator starts to read a JSON document.
+	 * When the elements of the root array are validated one by one,
+	 * this method is invoked for each element.
+	 */
+	default void documentStarted() {
+	}
+
+	/**
+	 * Invoked when the validator ended reading a JSON document,
+	 * including the case the reading was stopped before the end of the document.
+	 */
+	default void documentEnded() {
+	}
+
+	/**
+	 * Invoked when a value in the JSON document was matched with one of the types declared in the schema.
+	 * @param type the type matched.
+	 */
+	default void typeMatched(JsonType type) {
+	}
+
+	/**
+	 * Invoked when a facet was evaluated against a value in the JSON document.
+	 * The numeric bounds on integers which are evaluated at once 
+	 * without applying the facets are not notified.
+	 * @param facet the facet evaluated.
+	 * @param passed {@code true} if the value satisfied the facet, {@code false} otherwise.
+	 * @param nanos the time spent to evaluate the facet in nanoseconds.
+	 */
+	default void facetEvaluated(Facet<?> facet, boolean passed, long nanos) {
+	}
+
+	/**
+	 * Invoked when a problem was found in the JSON document.
+	 * The pointer and the location of the problem are already assigned.
+	 * @param problem the problem found.
+	 */
+	default void problemReported(Problem problem) {
+	}
+}
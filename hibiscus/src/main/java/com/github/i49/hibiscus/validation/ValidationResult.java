@@ -57,8 +57,13 @@ public interface ValidationResult {
 	 * JSR 353: Java API for JSON Processing.
 	 * All the values under the root of the document can be retrieved through the API.
 	 * 
-	 * @return the JSON value found at the root of the input JSON document which includes its descendant values.
+	 * <p>If the validator was configured to only validate JSON documents without building values, 
+	 * this method returns {@code null}.</p>
 	 * 
+	 * @return the JSON value found at the root of the input JSON document which includes its descendant values,
+	 *         or {@code null} if the validator did not build the values.
+	 * 
+	 * @see BasicJsonValidator#validationOnly()
 	 * @see <a href="http://json-processing-spec.java.net/">JSR 353: Java API for JSON Processing</a>
 	 */
 	JsonValue getValue();
@@ -86,4 +91,24 @@ public interface ValidationResult {
 	 * @see Problem
 	 */
 	List<Problem> getProblems();
+	
+	/**
+	 * Returns whether the validation was stopped before reaching the end of the input JSON document or not.
+	 * The validation will be stopped when the number of the problems detected 
+	 * or the depth of nesting in the document reached the limit configured for the validator.
+	 * If the result is truncated, {@link #getValue()} returns {@code null} 
+	 * and {@link #getProblems()} returns only the problems detected before the validation stopped.
+	 * 
+	 * <p>The default implementation returns {@code false}, 
+	 * for the results which always contain all problems in the document.</p>
+	 * 
+	 * @return {@code true} if the validation was stopped in the middle of the document, {@code false} otherwise.
+	 * 
+	 * @see BasicJsonValidator#maxProblems(int)
+	 * @see BasicJsonValidator#failFast()
+	 * @see BasicJsonValidator#maxDepth(int)
+	 */
+	default boolean isTruncated() {
+		return false;
+	}
 }
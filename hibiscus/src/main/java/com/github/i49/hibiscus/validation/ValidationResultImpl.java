@@ -14,15 +14,18 @@ class ValidationResultImpl implements ValidationResult {
 
 	private final JsonValue value;
 	private final List<Problem> problems;
+	private final boolean truncated;
 
 	/**
 	 * Constructs this result.
 	 * @param value the JSON value found at the root of the JSON document.
 	 * @param problems the problems detected in the process of the validation.
+	 * @param truncated {@code true} if the validation was stopped before reaching the end of the document.
 	 */
-	public ValidationResultImpl(JsonValue value, List<Problem> problems) {
+	public ValidationResultImpl(JsonValue value, List<Problem> problems, boolean truncated) {
 		this.value = value;
 		this.problems = problems;
+		this.truncated = truncated;
 	}
 
 	@Override
@@ -39,4 +42,9 @@ class ValidationResultImpl implements ValidationResult {
 	public List<Problem> getProblems() {
 		return problems;
 	}
+
+	@Override
+	public boolean isTruncated() {
+		return truncated;
+	}
 }
@@ -0,0 +1,112 @@
+package com.github.i49.hibiscus.validation;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.JsonType;
+
+/**
+ * A listener which emits the events of JDK Flight Recorder.
+ * 
+ * <p>This class refers to the API of JDK Flight Recorder, 
+ * so it must be loaded only through {@link FlightRecording} which checks the availability of the API.
+ * Each reader has its own instance of this class.
+ * This listener becomes active only while any of its events are enabled in the running recordings,
+ * so the validation costs nothing more than a check per document while the events are disabled.</p>
+ */
+class FlightRecorderListener implements InputSizeListener {
+
+	/**
+	 * The name of the system property which specifies the threshold of the slow facets in microseconds.
+	 */
+	static final String FACET_THRESHOLD_PROPERTY = "hibiscus.jfr.facetThreshold";
+	
+	private static final long DEFAULT_FACET_THRESHOLD = 100;
+	private static final long facetThreshold = 
+			TimeUnit.MICROSECONDS.toNanos(Long.getLong(FACET_THRESHOLD_PROPERTY, DEFAULT_FACET_THRESHOLD));
+	
+	private final String schema;
+	private final ValidationDocumentEvent documentProbe = new ValidationDocumentEvent();
+	private final ValidationFacetEvent facetProbe = new ValidationFacetEvent();
+	private ValidationDocumentEvent event;
+	private long startTime;
+	private boolean recordsFacets;
+	
+	/**
+	 * Constructs this listener.
+	 * @param schema the name which identifies the schema in the events recorded.
+	 */
+	public FlightRecorderListener(String schema) {
+		this.schema = schema;
+	}
+
+	@Override
+	public boolean isActive() {
+		return documentProbe.isEnabled() || facetProbe.isEnabled();
+	}
+
+	@Override
+	public void documentStarted() {
+		this.recordsFacets = facetProbe.isEnabled();
+		if (documentProbe.isEnabled()) {
+			ValidationDocumentEvent event = new ValidationDocumentEvent();
+			event.schema = this.schema;
+			this.event = event;
+			this.startTime = System.nanoTime();
+			event.begin();
+		} else {
+			this.event = null;
+		}
+	}
+
+	@Override
+	public void documentEnded() {
+		ValidationDocumentEvent event = this.event;
+		if (event == null) {
+			return;
+		}
+		this.event = null;
+		event.end();
+		if (event.shouldCommit()) {
+			event.readingTime = Math.max(0, System.nanoTime() - this.startTime - event.facetTime);
+			event.commit();
+		}
+	}
+
+	@Override
+	public void typeMatched(JsonType type) {
+		if (this.event != null) {
+			this.event.valueCount++;
+		}
+	}
+
+	@Override
+	public void facetEvaluated(Facet<?> facet, boolean passed, long nanos) {
+		if (this.event != null) {
+			this.event.facetTime += nanos;
+		}
+		if (this.recordsFacets && nanos >= facetThreshold) {
+			ValidationFacetEvent facetEvent = new ValidationFacetEvent();
+			facetEvent.schema = this.schema;
+			facetEvent.facet = facet.getClass();
+			facetEvent.passed = passed;
+			facetEvent.evaluationTime = nanos;
+			facetEvent.commit();
+		}
+	}
+
+	@Override
+	public void problemReported(Problem problem) {
+		if (this.event != null) {
+			this.event.problemCount++;
+		}
+	}
+
+	@Override
+	public void inputRead(long size) {
+		if (this.event != null) {
+			this.event.inputSize = size;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.github.i49.hibiscus.validation;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * A subscriber of {@link Flow} which validates a JSON document whose bytes are published in chunks.
+ * 
+ * <p>This subscriber feeds each chunk received to {@link PushValidator} 
+ * and requests the next chunk only after the chunk was validated,
+ * so at most one chunk is in flight at any time.
+ * When the document is completed, the subscription is cancelled 
+ * and the result of the validation is delivered through {@link #getResult()}.
+ * When the document is not a valid JSON document or the publisher signals an error, 
+ * the result is completed exceptionally.</p>
+ * 
+ * <p>The following code shows how to validate the document published by a publisher.</p>
+ * <blockquote><pre><code>
+ * JsonValidator validator = ...;
+ * ValidatingSubscriber subscriber = new ValidatingSubscriber(validator);
+ * publisher.subscribe(subscriber);
+ * subscriber.getResult().thenAccept(result -&gt; {
+ *   // handles the result here.
+ * });
+ * </code></pre></blockquote>
+ * 
+ * <p>This class requires Java 11 or higher, while the rest of this library runs on Java 8.
+ * An instance of this class validates only one document and can be subscribed only once.</p>
+ * 
+ * @see PushValidator
+ */
+public class ValidatingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+	private final PushValidator validator;
+	private final CompletableFuture<ValidationResult> result = new CompletableFuture<>();
+	private Flow.Subscription subscription;
+
+	/**
+	 * Constructs this subscriber.
+	 * @param validator the validator which validates the document.
+	 * @exception IllegalArgumentException if validator is {@code null}.
+	 */
+	public ValidatingSubscriber(JsonValidator validator) {
+		if (validator == null) {
+			throw new IllegalArgumentException("validator is null.");
+		}
+		this.validator = validator.createPushValidator();
+	}
+
+	/**
+	 * Returns the result of the validation, which is completed when the document is completed.
+	 * @return the future result of the validation.
+	 */
+	public CompletableFuture<ValidationResult> getResult() {
+		return result;
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		if (subscription == null) {
+			throw new NullPointerException("subscription is null.");
+		}
+		if (this.subscription != null || this.result.isDone()) {
+			subscription.cancel();
+			return;
+		}
+		this.subscription = subscription;
+		subscription.request(1);
+	}
+
+	@Override
+	public void onNext(ByteBuffer item) {
+		if (item == null) {
+			throw new NullPointerException("item is null.");
+		}
+		if (this.result.isDone()) {
+			return;
+		}
+		PushValidator.Status status;
+		try {
+			status = this.validator.feed(item);
+		} catch (RuntimeException e) {
+			this.subscription.cancel();
+			this.result.completeExceptionally(e);
+			return;
+		}
+		if (status == PushValidator.Status.COMPLETED) {
+			this.subscription.cancel();
+			this.result.complete(this.validator.getResult());
+		} else {
+			this.subscription.request(1);
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		this.result.completeExceptionally(throwable);
+	}
+
+	@Override
+	public void onComplete() {
+		if (this.result.isDone()) {
+			return;
+		}
+		try {
+			this.validator.endInput();
+			this.result.complete(this.validator.getResult());
+		} catch (RuntimeException e) {
+			this.result.completeExceptionally(e);
+		}
+	}
+}
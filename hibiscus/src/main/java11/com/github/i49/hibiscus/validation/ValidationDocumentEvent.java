@@ -0,0 +1,55 @@
+package com.github.i49.hibiscus.validation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The event of JDK Flight Recorder which records the validation of a JSON document.
+ * 
+ * <p>The duration of this event covers the whole validation of the document,
+ * including parsing the input, building the JSON values and evaluating the facets.
+ * This event is disabled by default and must be enabled explicitly in the recording settings.</p>
+ */
+@Name(ValidationDocumentEvent.NAME)
+@Label("JSON Validation")
+@Description("Validation of a JSON document against the schema")
+@Category("Hibiscus")
+@Enabled(false)
+@StackTrace(false)
+class ValidationDocumentEvent extends Event {
+
+	static final String NAME = "com.github.i49.hibiscus.ValidationDocument";
+	
+	@Label("Schema")
+	@Description("Name of the validator class, which identifies the schema when each schema has its own subclass of the validator")
+	String schema;
+	
+	@Label("Input Size")
+	@Description("Size of the input read, in bytes for UTF-8 input and in characters otherwise")
+	@DataAmount
+	long inputSize;
+	
+	@Label("Values")
+	@Description("Number of the values matched with the types declared in the schema")
+	long valueCount;
+	
+	@Label("Problems")
+	int problemCount;
+	
+	@Label("Reading Time")
+	@Description("Time spent to parse the input and to build the values, excluding the facets")
+	@Timespan
+	long readingTime;
+	
+	@Label("Facet Time")
+	@Description("Time spent to evaluate the facets")
+	@Timespan
+	long facetTime;
+}
@@ -0,0 +1,43 @@
+package com.github.i49.hibiscus.validation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The event of JDK Flight Recorder which records a facet whose evaluation was slow.
+ * 
+ * <p>Only the evaluations which took at least the threshold given by the system property 
+ * {@value FlightRecorderListener#FACET_THRESHOLD_PROPERTY} in microseconds are recorded.
+ * This event is disabled by default and must be enabled explicitly in the recording settings.</p>
+ */
+@Name(ValidationFacetEvent.NAME)
+@Label("JSON Validation Facet")
+@Description("Slow evaluation of a facet against a value in a JSON document")
+@Category("Hibiscus")
+@Enabled(false)
+@StackTrace(false)
+class ValidationFacetEvent extends Event {
+
+	static final String NAME = "com.github.i49.hibiscus.ValidationFacet";
+	
+	@Label("Schema")
+	@Description("Name of the validator class, which identifies the schema when each schema has its own subclass of the validator")
+	String schema;
+	
+	@Label("Facet")
+	Class<?> facet;
+	
+	@Label("Passed")
+	@Description("Whether the value satisfied the facet or not")
+	boolean passed;
+	
+	@Label("Evaluation Time")
+	@Timespan
+	long evaluationTime;
+}
@@ -2,6 +2,10 @@ package com.github.i49.hibiscus.common;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 import static org.hamcrest.CoreMatchers.*;
 
@@ -53,4 +57,27 @@ public class JsonPointerTest {
 	public void testWholeDocument() {
 		assertThat(JsonPointer.builder().build(), is(JsonPointer.getPointerToDocumentRoot()));
 	}	
+	
+	@Test
+	public void testChild() {
+		JsonPointer parent = JsonPointer.getPointerToDocumentRoot().child("foo");
+		JsonPointer first = parent.child(0);
+		JsonPointer second = parent.child(1).child("a/b");
+		
+		assertThat(parent.toString(), equalTo("/foo"));
+		assertThat(first.toString(), equalTo("/foo/0"));
+		assertThat(second.toString(), equalTo("/foo/1/a~1b"));
+		assertThat(second.toURI().toString(), equalTo("#/foo/1/a~1b"));
+	}
+	
+	@Test
+	public void testIterator() {
+		JsonPointer pointer = JsonPointer.getPointerToDocumentRoot().child("foo").child(2).child("bar");
+		List<Object> tokens = new ArrayList<>();
+		for (Object token: pointer) {
+			tokens.add(token);
+		}
+		assertThat(tokens, equalTo(Arrays.<Object>asList("foo", 2, "bar")));
+		assertFalse(JsonPointer.getPointerToDocumentRoot().iterator().hasNext());
+	}
 }
@@ -1,9 +1,20 @@
 package com.github.i49.hibiscus.schema;
 
+import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+
 import org.junit.Test;
 
+import com.github.i49.hibiscus.problems.MissingPropertyProblem;
+import com.github.i49.hibiscus.problems.Problem;
+
 import static com.github.i49.hibiscus.schema.SchemaComponents.*;
 
 public class ObjectTypeTest {
@@ -18,6 +29,45 @@ public class ObjectTypeTest {
 				throw e;
 			}
 		}
+		
+		@Test
+		public void getProperties() {
+			Property first = optional("1st", string());
+			Property pattern = pattern("[4-9]th", string());
+			Property second = required("2nd", string());
+			ObjectType o = object(first, pattern, second);
+			
+			List<Property> properties = new ArrayList<>(o.getProperties());
+			assertThat(properties.size(), equalTo(3));
+			assertThat(properties.get(0), sameInstance(first));
+			assertThat(properties.get(1), sameInstance(second));
+			assertThat(properties.get(2), sameInstance(pattern));
+		}
+	}
+	
+	public static class ValidateInstanceTest {
+		
+		private static JsonValue parse(String json) {
+			return Json.createReader(new StringReader(json)).read();
+		}
+		
+		@Test
+		public void missingProperty() {
+			ObjectType o = object(required("name", string()), optional("age", integer()));
+			List<Problem> problems = new ArrayList<>();
+			o.validateInstance(parse("{\"age\": 42}"), problems);
+			assertThat(problems.size(), equalTo(1));
+			assertThat(problems.get(0), instanceOf(MissingPropertyProblem.class));
+			assertThat(((MissingPropertyProblem)problems.get(0)).getPropertyName(), equalTo("name"));
+		}
+		
+		@Test
+		public void noMissingProperty() {
+			ObjectType o = object(required("name", string()), optional("age", integer()));
+			List<Problem> problems = new ArrayList<>();
+			o.validateInstance(parse("{\"name\": \"John\"}"), problems);
+			assertTrue(problems.isEmpty());
+		}
 	}
 	
 	public static class PatternPropertyTest {
@@ -0,0 +1,171 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.json.JsonObject;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class BufferValidationTest {
+
+	private static final String JSON = 
+			"{\n" +
+			"  \"id\": \"1\",\n" +
+			"  \"name\": \"日本語のテキスト\",\n" +
+			"  \"tags\": [\"a\", \"b\", \"a\"],\n" +
+			"  \"size\": {\"w\": 10, \"h\": 0.5},\n" +
+			"  \"extra\": null\n" +
+			"}";
+
+	private static Schema createSchema() {
+		return schema(object(
+				required("id", integer()),
+				required("name", string().maxLength(5)),
+				optional("tags", array(string()).unique()),
+				optional("size", object(
+						required("w", integer().maxInclusive(5)),
+						required("h", number())
+						))
+				));
+	}
+	
+	private static void assertSameProblems(List<Problem> actual, List<Problem> expected) {
+		assertThat(actual.size(), equalTo(expected.size()));
+		for (int i = 0; i < expected.size(); i++) {
+			Problem a = actual.get(i);
+			Problem e = expected.get(i);
+			assertThat(a.getClass(), equalTo(e.getClass()));
+			assertThat(a.getPointer().toString(), equalTo(e.getPointer().toString()));
+			assertThat(a.getLocation().getLineNumber(), equalTo(e.getLocation().getLineNumber()));
+			assertThat(a.getLocation().getColumnNumber(), equalTo(e.getLocation().getColumnNumber()));
+		}
+	}
+	
+	@Test
+	public void validateByteBuffer() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult expected = validator.validate(new StringReader(JSON));
+		ByteBuffer buffer = ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8));
+		ValidationResult actual = validator.validate(buffer);
+
+		assertThat(actual.getValue(), equalTo(expected.getValue()));
+		assertThat(actual.getProblems().size(), equalTo(5));
+		assertSameProblems(actual.getProblems(), expected.getProblems());
+		assertThat(buffer.position(), equalTo(0));
+	}
+
+	@Test
+	public void integersWithExponent() {
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(integer())));
+		String json = "[1.0e1, 1.5e1, 1e1]";
+		ValidationResult expected = validator.validate(new StringReader(json));
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		ValidationResult actual = validator.validate(bytes, 0, bytes.length);
+
+		assertThat(actual.getValue(), equalTo(expected.getValue()));
+		assertThat(actual.getProblems().size(), equalTo(1));
+		assertSameProblems(actual.getProblems(), expected.getProblems());
+	}
+
+	@Test
+	public void validatePath() throws IOException {
+		Path path = Files.createTempFile("hibiscus", ".json");
+		path.toFile().deleteOnExit();
+		Files.write(path, JSON.getBytes(StandardCharsets.UTF_8));
+
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult expected = validator.validate(new StringReader(JSON));
+		ValidationResult actual = validator.validate(path);
+
+		assertThat(((JsonObject)actual.getValue()).getString("name"), equalTo("日本語のテキスト"));
+		assertSameProblems(actual.getProblems(), expected.getProblems());
+	}
+
+	@Test
+	public void validationOnly() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		ValidationResult expected = validator.validate(new StringReader(JSON));
+		ValidationResult actual = validator.validate(ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(actual.getValue(), is(nullValue()));
+		assertSameProblems(actual.getProblems(), expected.getProblems());
+	}
+
+	@Test
+	public void validateArraySlice() {
+		byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+		byte[] frame = new byte[json.length + 20];
+		Arrays.fill(frame, (byte)'x');
+		System.arraycopy(json, 0, frame, 7, json.length);
+
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult expected = validator.validate(ByteBuffer.wrap(json));
+		ValidationResult actual = validator.validate(frame, 7, json.length);
+
+		assertThat(actual.getValue(), equalTo(expected.getValue()));
+		assertSameProblems(actual.getProblems(), expected.getProblems());
+		for (int i = 0; i < expected.getProblems().size(); i++) {
+			assertThat(actual.getProblems().get(i).getLocation().getStreamOffset(), 
+					equalTo(expected.getProblems().get(i).getLocation().getStreamOffset()));
+		}
+	}
+
+	@Test
+	public void validateDirectBufferSlice() {
+		byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(json.length + 10);
+		buffer.position(5);
+		buffer.put(json);
+		buffer.flip();
+		buffer.position(5);
+
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult expected = validator.validate(ByteBuffer.wrap(json));
+		ValidationResult actual = validator.validate(buffer);
+
+		assertThat(actual.getValue(), equalTo(expected.getValue()));
+		assertSameProblems(actual.getProblems(), expected.getProblems());
+		Problem first = actual.getProblems().get(0);
+		assertThat(first.getLocation().getStreamOffset(), 
+				equalTo(expected.getProblems().get(0).getLocation().getStreamOffset()));
+		assertThat(buffer.position(), equalTo(5));
+	}
+
+	@Test
+	public void validateReadOnlyBuffer() {
+		byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult expected = validator.validate(ByteBuffer.wrap(json));
+		ValidationResult actual = validator.validate(ByteBuffer.wrap(json).asReadOnlyBuffer());
+
+		assertThat(actual.getValue(), equalTo(expected.getValue()));
+		assertSameProblems(actual.getProblems(), expected.getProblems());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void sliceOutOfRange() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		validator.validate(new byte[10], 5, 6);
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void malformed() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		validator.validate(ByteBuffer.wrap("{\"id\": 1,}".getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,136 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.ArrayDuplicateItemProblem;
+import com.github.i49.hibiscus.problems.ArrayTooLongProblem;
+import com.github.i49.hibiscus.problems.MissingPropertyProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ElementValidationTest {
+
+	private static final String JSON =
+			"[\n" +
+			"  {\"id\": 1, \"name\": \"apple\"},\n" +
+			"  {\"id\": \"2\", \"name\": \"banana\"},\n" +
+			"  {\"name\": \"cherry\"},\n" +
+			"  {\"id\": 4, \"name\": \"durian\", \"tags\": [\"a\", {\"b\": 1}]}\n" +
+			"]";
+
+	private static Schema createSchema() {
+		return schema(array(object(required("id", integer()), optional("name", string())).moreProperties()).maxLength(3));
+	}
+
+	private static JsonValue parse(String json) {
+		return Json.createReader(new StringReader(json)).read();
+	}
+
+	@Test
+	public void validateEachElement() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<ElementResult> results = new ArrayList<>();
+		ValidationResult rootResult = validator.validateElements(new StringReader(JSON), results::add);
+
+		assertThat(results.size(), equalTo(4));
+		for (int i = 0; i < results.size(); i++) {
+			assertThat(results.get(i).getIndex(), equalTo(i));
+		}
+		assertFalse(results.get(0).hasProblems());
+		assertThat(results.get(0).getValue(), equalTo(parse("{\"id\": 1, \"name\": \"apple\"}")));
+
+		Problem problem = results.get(1).getProblems().get(0);
+		assertThat(problem, instanceOf(TypeMismatchProblem.class));
+		assertThat(problem.getPointer().toString(), equalTo("/1/id"));
+		assertThat(problem.getLocation().getLineNumber(), equalTo(3L));
+		assertThat(problem.getCauseValue().toString(), equalTo("\"2\""));
+
+		problem = results.get(2).getProblems().get(0);
+		assertThat(problem, instanceOf(MissingPropertyProblem.class));
+		assertThat(problem.getPointer().toString(), equalTo("/2"));
+		assertThat(problem.getCauseValue(), equalTo(results.get(2).getValue()));
+		assertFalse(results.get(3).hasProblems());
+
+		assertThat(rootResult.getValue(), is(nullValue()));
+		assertThat(rootResult.getProblems().size(), equalTo(1));
+		assertThat(rootResult.getProblems().get(0), instanceOf(ArrayTooLongProblem.class));
+		assertThat(rootResult.getProblems().get(0).getPointer().toString(), equalTo(""));
+	}
+
+	@Test
+	public void matchesWholeDocumentValidation() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult expected = validator.validate(new StringReader(JSON));
+		List<Problem> problems = new ArrayList<>();
+		ValidationResult rootResult = validator.validateElements(
+				new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)), result -> problems.addAll(result.getProblems()));
+		problems.addAll(rootResult.getProblems());
+		assertThat(problems.size(), equalTo(expected.getProblems().size()));
+		for (int i = 0; i < problems.size(); i++) {
+			assertThat(problems.get(i).getClass(), equalTo(expected.getProblems().get(i).getClass()));
+			assertThat(problems.get(i).getPointer().toString(), equalTo(expected.getProblems().get(i).getPointer().toString()));
+		}
+	}
+
+	@Test
+	public void validationOnly() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		List<ElementResult> results = new ArrayList<>();
+		validator.validateElements(new StringReader(JSON), results::add);
+		assertThat(results.size(), equalTo(4));
+		for (ElementResult result: results) {
+			assertThat(result.getValue(), is(nullValue()));
+		}
+		assertTrue(results.get(1).hasProblems());
+	}
+
+	@Test
+	public void maxProblemsPerElement() {
+		Schema schema = schema(array(array(integer())));
+		JsonValidator validator = new BasicJsonValidator(schema).failFast();
+		List<ElementResult> results = new ArrayList<>();
+		validator.validateElements(new StringReader("[[\"a\", [\"b\"], \"c\"], [1], [\"d\"]]"), results::add);
+		assertThat(results.size(), equalTo(3));
+		assertTrue(results.get(0).isTruncated());
+		assertThat(results.get(0).getProblems().size(), equalTo(1));
+		assertFalse(results.get(1).hasProblems());
+		assertThat(results.get(2).getProblems().get(0).getPointer().toString(), equalTo("/2/0"));
+	}
+
+	@Test
+	public void uniqueRootArray() {
+		Schema schema = schema(array(integer()).unique());
+		JsonValidator validator = new BasicJsonValidator(schema).validationOnly();
+		List<ElementResult> results = new ArrayList<>();
+		ValidationResult rootResult = validator.validateElements(new StringReader("[1, 2, 1]"), results::add);
+		assertThat(results.size(), equalTo(3));
+		assertThat(results.get(0).getValue(), is(nullValue()));
+		assertThat(rootResult.getProblems().size(), equalTo(1));
+		assertThat(rootResult.getProblems().get(0), instanceOf(ArrayDuplicateItemProblem.class));
+	}
+
+	@Test
+	public void rootIsNotArray() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<ElementResult> results = new ArrayList<>();
+		ValidationResult rootResult = validator.validateElements(new StringReader("{\"id\": 1}"), results::add);
+		assertThat(results.size(), equalTo(0));
+		assertThat(rootResult.getProblems().size(), equalTo(1));
+		assertThat(rootResult.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+		assertThat(rootResult.getValue(), equalTo(parse("{\"id\": 1}")));
+	}
+}
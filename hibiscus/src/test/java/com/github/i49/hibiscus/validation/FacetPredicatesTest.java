@@ -0,0 +1,90 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.function.Predicate;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.formats.Formats;
+import com.github.i49.hibiscus.schema.JsonType;
+
+public class FacetPredicatesTest {
+
+	private static Predicate<JsonValue> compile(JsonType type) {
+		return FacetPredicates.compile(type.getTypeId(), type.getFacets());
+	}
+
+	private static JsonValue value(String value) {
+		return Json.createArrayBuilder().add(value).build().get(0);
+	}
+
+	private static JsonValue value(BigDecimal value) {
+		return Json.createArrayBuilder().add(value).build().get(0);
+	}
+
+	@Test
+	public void stringLength() {
+		Predicate<JsonValue> p = compile(string().minLength(2).maxLength(4));
+		assertFalse(p.test(value("a")));
+		assertTrue(p.test(value("ab")));
+		assertTrue(p.test(value("abcd")));
+		assertFalse(p.test(value("abcde")));
+	}
+
+	@Test
+	public void stringExactLength() {
+		Predicate<JsonValue> p = compile(string().length(3));
+		assertFalse(p.test(value("ab")));
+		assertTrue(p.test(value("abc")));
+		assertFalse(p.test(value("abcd")));
+	}
+
+	@Test
+	public void stringEnumerationAndPattern() {
+		Predicate<JsonValue> p = compile(string().enumeration("a1", "b2", "cc").pattern("[a-z][0-9]"));
+		assertTrue(p.test(value("a1")));
+		assertFalse(p.test(value("cc")));
+		assertFalse(p.test(value("d4")));
+	}
+
+	@Test
+	public void numberBounds() {
+		Predicate<JsonValue> p = compile(number().minExclusive(new BigDecimal("1.5")).maxInclusive(new BigDecimal("3.5")));
+		assertFalse(p.test(value(new BigDecimal("1.5"))));
+		assertTrue(p.test(value(new BigDecimal("1.6"))));
+		assertTrue(p.test(value(new BigDecimal("3.5"))));
+		assertFalse(p.test(value(new BigDecimal("3.51"))));
+	}
+
+	@Test
+	public void integerEnumeration() {
+		Predicate<JsonValue> p = compile(integer().enumeration(1, 3));
+		assertTrue(p.test(Json.createArrayBuilder().add(3).build().get(0)));
+		assertFalse(p.test(Json.createArrayBuilder().add(2).build().get(0)));
+	}
+
+	@Test
+	public void booleanEnumeration() {
+		Predicate<JsonValue> p = compile(bool().enumeration(true));
+		assertTrue(p.test(JsonValue.TRUE));
+		assertFalse(p.test(JsonValue.FALSE));
+	}
+
+	@Test
+	public void otherFacet() {
+		assertNull(compile(string().maxLength(8).format(Formats.email())));
+		assertNull(compile(integer().minInclusive(0).assertion(v->true, (v, l)->"")));
+	}
+
+	@Test
+	public void noFacets() {
+		assertNull(compile(string()));
+		assertNull(compile(array(integer()).maxLength(2)));
+	}
+}
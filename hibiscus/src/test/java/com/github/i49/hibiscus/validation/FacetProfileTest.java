@@ -0,0 +1,108 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.formats.Formats;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class FacetProfileTest {
+
+	private static final String JSON = "{\"items\": [" 
+			+ "{\"email\": \"john@example.com\", \"code\": \"AB\", \"x-note\": \"a\"}," 
+			+ "{\"email\": \"invalid\", \"code\": \"abc\"}" 
+			+ "]}";
+	
+	private static Schema createSchema() {
+		return schema(object(
+				required("items", array(object(
+						required("email", string().format(Formats.email())),
+						optional("code", string().maxLength(2).pattern("[A-Z]+")),
+						pattern("x-.*", string())
+						)).minLength(1))
+				));
+	}
+	
+	private static Map<String, FacetProfile.Entry> entries(FacetProfile profile) {
+		Map<String, FacetProfile.Entry> map = new HashMap<>();
+		for (FacetProfile.Entry entry: profile.getEntries()) {
+			map.put(entry.getPath() + " " + entry.getFacet(), entry);
+		}
+		return map;
+	}
+	
+	@Test
+	public void disabledByDefault() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		validator.validate(new StringReader(JSON));
+		assertNull(validator.getFacetProfile());
+	}
+	
+	@Test
+	public void profileFacets() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).profileFacets();
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertThat(result.getProblems().size(), equalTo(3));
+		validator.validate(new StringReader(JSON));
+		
+		FacetProfile profile = validator.getFacetProfile();
+		Map<String, FacetProfile.Entry> entries = entries(profile);
+		assertThat(entries.size(), equalTo(6));
+		
+		FacetProfile.Entry email = entries.get("/items/*/email format(email)");
+		assertThat(email.getTypeId(), is(TypeId.STRING));
+		assertThat(email.getEvaluations(), equalTo(4L));
+		assertThat(email.getFailures(), equalTo(2L));
+		
+		FacetProfile.Entry maxLength = entries.get("/items/*/code maxLength(2)");
+		assertThat(maxLength.getEvaluations(), equalTo(4L));
+		assertThat(maxLength.getFailures(), equalTo(2L));
+		assertThat(entries.get("/items/*/code pattern([A-Z]+)").getFailures(), equalTo(2L));
+		assertThat(entries.get("/items minLength(1)").getFailures(), equalTo(0L));
+		
+		FacetProfile.Entry root = entries.get(" properties");
+		assertThat(root.getTypeId(), is(TypeId.OBJECT));
+		assertThat(root.getEvaluations(), equalTo(2L));
+		FacetProfile.Entry item = entries.get("/items/* properties");
+		assertThat(item.getEvaluations(), equalTo(10L));
+		assertThat(item.getFailures(), equalTo(0L));
+		
+		long total = 0;
+		long previous = Long.MAX_VALUE;
+		for (FacetProfile.Entry entry: profile.getEntries()) {
+			assertTrue(entry.getNanos() <= previous);
+			previous = entry.getNanos();
+			total += entry.getNanos();
+		}
+		assertThat(profile.getTotalNanos(), equalTo(total));
+	}
+	
+	@Test
+	public void report() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly().profileFacets();
+		validator.validate(new StringReader(JSON));
+		String report = validator.getFacetProfile().getReport();
+		assertThat(report, containsString("/items/*/email format(email): 2 evals, 1 failures, "));
+		assertThat(report, containsString("/ properties: 1 evals, 0 failures, "));
+		assertThat(report, containsString("% of time"));
+		assertThat(report.split(System.lineSeparator()).length, equalTo(6));
+	}
+	
+	@Test
+	public void snapshotIsNotModified() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).profileFacets();
+		validator.validate(new StringReader(JSON));
+		FacetProfile first = validator.getFacetProfile();
+		validator.validate(new StringReader(JSON));
+		assertThat(entries(first).get("/items/*/email format(email)").getEvaluations(), equalTo(2L));
+		assertThat(entries(validator.getFacetProfile()).get("/items/*/email format(email)").getEvaluations(), equalTo(4L));
+	}
+}
@@ -0,0 +1,73 @@
+package com.github.i49.hibiscus.validation;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.facets.MaxNumberFacet;
+import com.github.i49.hibiscus.facets.MinNumberFacet;
+import com.github.i49.hibiscus.facets.PatternFacet;
+
+public class IntegerRangeTest {
+
+	private static IntegerRange range(Facet<?>... facets) {
+		return IntegerRange.of(Arrays.asList(facets));
+	}
+
+	@Test
+	public void inclusiveBounds() {
+		IntegerRange r = range(new MinNumberFacet(new BigDecimal("-3"), false), new MaxNumberFacet(new BigDecimal("5"), false));
+		assertFalse(r.contains(-4));
+		assertTrue(r.contains(-3));
+		assertTrue(r.contains(5));
+		assertFalse(r.contains(6));
+	}
+
+	@Test
+	public void exclusiveBounds() {
+		IntegerRange r = range(new MinNumberFacet(new BigDecimal("-3"), true), new MaxNumberFacet(new BigDecimal("5"), true));
+		assertFalse(r.contains(-3));
+		assertTrue(r.contains(-2));
+		assertTrue(r.contains(4));
+		assertFalse(r.contains(5));
+	}
+
+	@Test
+	public void fractionalBounds() {
+		IntegerRange r = range(new MinNumberFacet(new BigDecimal("1.5"), false), new MaxNumberFacet(new BigDecimal("3.5"), true));
+		assertFalse(r.contains(1));
+		assertTrue(r.contains(2));
+		assertTrue(r.contains(3));
+		assertFalse(r.contains(4));
+	}
+
+	@Test
+	public void boundsBeyondLong() {
+		IntegerRange r = range(
+				new MinNumberFacet(new BigDecimal("-100000000000000000000"), false),
+				new MaxNumberFacet(new BigDecimal("100000000000000000000"), false));
+		assertTrue(r.contains(Long.MIN_VALUE));
+		assertTrue(r.contains(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void emptyRange() {
+		assertNull(range(new MinNumberFacet(new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE), false)));
+		assertNull(range(new MinNumberFacet(new BigDecimal("10"), false), new MaxNumberFacet(new BigDecimal("10"), true)));
+	}
+
+	@Test
+	public void otherFacet() {
+		assertNull(range(new MinNumberFacet(BigDecimal.ONE, false), new PatternFacet("[0-9]+")));
+	}
+
+	@Test
+	public void noFacets() {
+		assertNull(IntegerRange.of(Collections.emptyList()));
+	}
+}
@@ -0,0 +1,140 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.JsonObject;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.MalformedRecordProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class JsonLinesTest {
+
+	private static Schema createSchema() {
+		return schema(object(required("id", integer()), optional("name", string())));
+	}
+
+	@Test
+	public void validateReader() {
+		String input =
+				"{\"id\": 1, \"name\": \"foo\"}\n" +
+				"{\"id\": \"2\"}\n" +
+				"{\"id\": 3}";
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> results = new ArrayList<>();
+		long count = validator.validateLines(new StringReader(input), results::add);
+
+		assertThat(count, equalTo(3L));
+		assertThat(results.size(), equalTo(3));
+
+		RecordResult first = results.get(0);
+		assertFalse(first.hasProblems());
+		assertThat(((JsonObject)first.getValue()).getString("name"), equalTo("foo"));
+		assertThat(first.getRecordIndex(), equalTo(0L));
+		assertThat(first.getLineNumber(), equalTo(1L));
+		assertThat(first.getOffset(), equalTo(0L));
+
+		RecordResult second = results.get(1);
+		assertThat(second.getRecordIndex(), equalTo(1L));
+		assertThat(second.getLineNumber(), equalTo(2L));
+		assertThat(second.getOffset(), equalTo(25L));
+		List<Problem> problems = second.getProblems();
+		assertThat(problems.size(), equalTo(1));
+		assertThat(problems.get(0), instanceOf(TypeMismatchProblem.class));
+		assertThat(problems.get(0).getPointer().toString(), equalTo("/id"));
+		assertThat(problems.get(0).getLocation().getLineNumber(), equalTo(2L));
+
+		RecordResult third = results.get(2);
+		assertFalse(third.hasProblems());
+		assertThat(third.getLineNumber(), equalTo(3L));
+		assertThat(third.getOffset(), equalTo(37L));
+	}
+
+	@Test
+	public void blankLines() {
+		String input = "\n{\"id\": 1}\r\n  \r\n{\"id\": 2}\n\n";
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> results = new ArrayList<>();
+		long count = validator.validateLines(new StringReader(input), results::add);
+
+		assertThat(count, equalTo(2L));
+		assertThat(results.get(0).getLineNumber(), equalTo(2L));
+		assertThat(results.get(0).getOffset(), equalTo(1L));
+		assertThat(results.get(1).getRecordIndex(), equalTo(1L));
+		assertThat(results.get(1).getLineNumber(), equalTo(4L));
+		assertThat(results.get(1).getOffset(), equalTo(16L));
+	}
+
+	@Test
+	public void validateStream() {
+		String input = "{\"id\": 1, \"name\": \"あ\"}\n{\"id\": true}\n";
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> results = new ArrayList<>();
+		long count = validator.validateLines(
+				new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), results::add);
+
+		assertThat(count, equalTo(2L));
+		assertFalse(results.get(0).hasProblems());
+		// Offsets are measured in bytes.
+		assertThat(results.get(1).getOffset(), equalTo(25L));
+		assertThat(results.get(1).getProblems().size(), equalTo(1));
+	}
+
+	@Test
+	public void longLine() {
+		StringBuilder b = new StringBuilder("{\"id\": 1, \"name\": \"");
+		for (int i = 0; i < 20000; i++) {
+			b.append('x');
+		}
+		b.append("\"}\n{\"id\": 2}\n");
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> results = new ArrayList<>();
+		long count = validator.validateLines(new StringReader(b.toString()), results::add);
+
+		assertThat(count, equalTo(2L));
+		assertThat(((JsonObject)results.get(0).getValue()).getString("name").length(), equalTo(20000));
+		assertThat(results.get(1).getOffset(), equalTo(20022L));
+	}
+
+	@Test
+	public void emptyInput() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		long count = validator.validateLines(new StringReader(""), r -> fail());
+		assertThat(count, equalTo(0L));
+	}
+
+	@Test
+	public void malformedRecord() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> results = new ArrayList<>();
+		long count = validator.validateLines(new StringReader("{\"id\": 1}\n{\"id\": \n{\"id\": 3}\n"), results::add);
+
+		assertThat(count, equalTo(3L));
+		assertFalse(results.get(0).hasProblems());
+
+		RecordResult second = results.get(1);
+		assertThat(second.getLineNumber(), equalTo(2L));
+		assertThat(second.getValue(), is(nullValue()));
+		assertTrue(second.isTruncated());
+		List<Problem> problems = second.getProblems();
+		assertThat(problems.size(), equalTo(1));
+		assertThat(problems.get(0), instanceOf(MalformedRecordProblem.class));
+		assertThat(problems.get(0).getPointer().toString(), equalTo(""));
+		assertThat(problems.get(0).getLocation().getLineNumber(), equalTo(2L));
+
+		RecordResult third = results.get(2);
+		assertFalse(third.hasProblems());
+		assertThat(third.getLineNumber(), equalTo(3L));
+	}
+}
@@ -0,0 +1,123 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+/**
+ * Tests the default methods of {@link JsonValidator} 
+ * with the validator which implements only the methods of the earlier releases.
+ */
+public class JsonValidatorDefaultsTest {
+
+	private static final String JSON = "[1, \"2\", 3]";
+
+	private static class MinimalValidator implements JsonValidator {
+
+		private final JsonValidator delegate = new BasicJsonValidator(schema(array(integer())));
+
+		@Override
+		public Schema getSchema() {
+			return delegate.getSchema();
+		}
+
+		@Override
+		public ValidationResult validate(Reader reader) {
+			return delegate.validate(reader);
+		}
+
+		@Override
+		public ValidationResult validate(InputStream stream) {
+			return delegate.validate(stream);
+		}
+
+		@Override
+		public ValidationResult validate(InputStream stream, Charset charset) {
+			return delegate.validate(stream, charset);
+		}
+	}
+
+	private static void assertProblem(ValidationResult result) {
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+		assertFalse(result.isTruncated());
+	}
+
+	@Test
+	public void validatePath() throws IOException {
+		Path path = Files.createTempFile("hibiscus", ".json");
+		path.toFile().deleteOnExit();
+		Files.write(path, JSON.getBytes(StandardCharsets.UTF_8));
+		JsonValidator validator = new MinimalValidator();
+		assertProblem(validator.validate(path));
+		assertProblem(validator.validateInParallel(path));
+	}
+
+	@Test
+	public void validateBytes() {
+		JsonValidator validator = new MinimalValidator();
+		byte[] bytes = (" " + JSON + " ").getBytes(StandardCharsets.UTF_8);
+		assertProblem(validator.validate(bytes, 1, bytes.length - 2));
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+		assertProblem(validator.validate(buffer));
+		assertThat(buffer.position(), equalTo(1));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void bytesOutOfRange() {
+		new MinimalValidator().validate(new byte[4], 2, 3);
+	}
+
+	@Test
+	public void validateValue() {
+		JsonValue value = Json.createArrayBuilder().add(1).add("2").build();
+		assertProblem(new MinimalValidator().validate(value));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void createPushValidator() {
+		new MinimalValidator().createPushValidator();
+	}
+
+	@Test
+	public void resultNotTruncated() {
+		ValidationResult result = new ValidationResult() {
+
+			@Override
+			public JsonValue getValue() {
+				return JsonValue.NULL;
+			}
+
+			@Override
+			public boolean hasProblems() {
+				return false;
+			}
+
+			@Override
+			public List<Problem> getProblems() {
+				return Collections.emptyList();
+			}
+		};
+		assertFalse(result.isTruncated());
+	}
+}
@@ -0,0 +1,115 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.ArrayDuplicateItemProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class JsonValueValidationTest {
+
+	private static final String JSON = 
+			"{\"id\": \"1\", \"tags\": [\"a\", \"b\", \"a\"], \"size\": {\"w\": 10, \"h\": 0.5}, \"extra\": null}";
+	
+	private static Schema createSchema() {
+		return schema(object(
+				required("id", integer()),
+				required("name", string()),
+				optional("tags", array(string().maxLength(1)).unique()),
+				optional("size", object(
+						required("w", integer().maxInclusive(5)),
+						required("h", number())
+						).assertion(
+						v->v.getJsonNumber("w").intValue() > 100, 
+						(v, l)->"Object is too small."
+						))
+				));
+	}
+	
+	private static JsonValue readValue(String json) {
+		try (JsonReader reader = Json.createReader(new StringReader(json))) {
+			return reader.read();
+		}
+	}
+	
+	@Test
+	public void sameProblemsAsText() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		List<Problem> expected = validator.validate(new StringReader(JSON)).getProblems();
+		List<Problem> actual = validator.validate(readValue(JSON)).getProblems();
+
+		assertThat(actual.size(), equalTo(expected.size()));
+		assertThat(actual.size(), equalTo(6));
+		for (int i = 0; i < expected.size(); i++) {
+			Problem p = actual.get(i);
+			assertThat(p.getClass(), equalTo(expected.get(i).getClass()));
+			assertThat(p.getPointer().toString(), equalTo(expected.get(i).getPointer().toString()));
+			assertThat(p.getLocation(), is(nullValue()));
+		}
+	}
+	
+	@Test
+	public void returnsGivenValue() {
+		JsonValue value = readValue(JSON);
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		ValidationResult result = validator.validate(value);
+		
+		assertThat(result.getValue(), sameInstance(value));
+		Problem first = result.getProblems().get(0);
+		assertThat(first, instanceOf(TypeMismatchProblem.class));
+		assertThat(first.getCauseValue(), equalTo(((JsonObject)value).get("id")));
+	}
+
+	@Test
+	public void validValue() {
+		JsonValue value = readValue("{\"id\": 1, \"name\": \"foo\", \"tags\": [\"a\", \"b\"]}");
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult result = validator.validate(value);
+
+		assertFalse(result.hasProblems());
+	}
+	
+	@Test
+	public void atomicValue() {
+		JsonValidator validator = new BasicJsonValidator(schema(integer(), string()));
+		ValidationResult result = validator.validate(JsonValue.TRUE);
+
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+		assertThat(result.getProblems().get(0).getPointer().toString(), equalTo(""));
+	}
+	
+	@Test
+	public void containerTakenFromValue() {
+		JsonValue value = readValue("{\"id\": 1, \"name\": \"foo\", \"tags\": [\"a\", \"a\"]}");
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult result = validator.validate(value);
+
+		assertThat(result.getProblems().size(), equalTo(1));
+		Problem problem = result.getProblems().get(0);
+		assertThat(problem, instanceOf(ArrayDuplicateItemProblem.class));
+		assertThat(problem.getCauseValue(), sameInstance(((JsonObject)value).get("tags")));
+	}
+
+	@Test
+	public void failFast() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).failFast();
+		ValidationResult result = validator.validate(readValue(JSON));
+
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertTrue(result.isTruncated());
+	}
+}
@@ -0,0 +1,129 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.NestingTooDeepProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class MaxDepthTest {
+
+	private static Schema createSchema() {
+		return schema(array(integer()));
+	}
+
+	private static String nest(int depth) {
+		StringBuilder b = new StringBuilder();
+		for (int i = 0; i < depth; i++) {
+			b.append('[');
+		}
+		for (int i = 0; i < depth; i++) {
+			b.append(']');
+		}
+		return b.toString();
+	}
+
+	private static String pointer(int depth) {
+		StringBuilder b = new StringBuilder();
+		for (int i = 1; i < depth; i++) {
+			b.append("/0");
+		}
+		return b.toString();
+	}
+
+	@Test
+	public void deepDocumentWithoutLimit() {
+		String json = nest(100000);
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult result = validator.validate(new StringReader(json));
+		assertThat(result.isTruncated(), is(false));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+		assertNotNull(result.getValue());
+	}
+
+	@Test
+	public void withinLimit() {
+		String json = "[[[]], [[]]]";
+		JsonValidator validator = new BasicJsonValidator(schema(array(array(array())))).maxDepth(3);
+		ValidationResult result = validator.validate(new StringReader(json));
+		assertThat(result.isTruncated(), is(false));
+		assertThat(result.hasProblems(), is(false));
+	}
+
+	@Test
+	public void exceedsLimit() {
+		String json = nest(100000);
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).maxDepth(64);
+		assertThat(validator.getMaxDepth(), equalTo(64));
+		ValidationResult result = validator.validate(new StringReader(json));
+		assertThat(result.isTruncated(), is(true));
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(2));
+		assertThat(problems.get(0), instanceOf(TypeMismatchProblem.class));
+		Problem problem = problems.get(1);
+		assertThat(problem, instanceOf(NestingTooDeepProblem.class));
+		assertThat(((NestingTooDeepProblem)problem).getLimitDepth(), equalTo(64));
+		assertThat(problem.getPointer().toString(), equalTo(pointer(65)));
+		assertThat(problem.getLocation().getColumnNumber(), equalTo(66L));
+	}
+
+	@Test
+	public void exceedsLimitInBytes() {
+		byte[] json = nest(100).getBytes(StandardCharsets.UTF_8);
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly().maxDepth(1);
+		ValidationResult result = validator.validate(json, 0, json.length);
+		assertThat(result.isTruncated(), is(true));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(NestingTooDeepProblem.class));
+		assertThat(result.getProblems().get(0).getPointer().toString(), equalTo("/0"));
+
+		// The contents of the array of wrong type are skipped.
+		validator = new BasicJsonValidator(createSchema()).validationOnly().maxDepth(2);
+		result = validator.validate(json, 0, json.length);
+		assertThat(result.isTruncated(), is(false));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+	}
+
+	@Test
+	public void exceedsLimitInElement() {
+		String json = "[[1], [[1]], [2]]";
+		JsonValidator validator = new BasicJsonValidator(schema(array(array(integer(), array(integer()))))).maxDepth(2);
+		List<ElementResult> results = new ArrayList<>();
+		ValidationResult rootResult = validator.validateElements(new StringReader(json), results::add);
+		assertThat(results.size(), equalTo(3));
+		assertThat(results.get(0).hasProblems(), is(false));
+		assertThat(results.get(1).isTruncated(), is(true));
+		assertThat(results.get(1).getProblems().get(0), instanceOf(NestingTooDeepProblem.class));
+		assertThat(results.get(1).getProblems().get(0).getPointer().toString(), equalTo("/1/0"));
+		assertThat(results.get(2).hasProblems(), is(false));
+		assertThat(rootResult.hasProblems(), is(false));
+	}
+
+	@Test
+	public void skippedContainersAreNotCounted() {
+		String json = "[1, " + nest(10) + "]";
+		Schema schema = schema(object(optional("a", integer())).moreProperties());
+		JsonValidator validator = new BasicJsonValidator(schema).validationOnly().maxDepth(1);
+		ValidationResult result = validator.validate(new StringReader("{\"b\": " + json + "}"));
+		assertThat(result.isTruncated(), is(false));
+		assertThat(result.hasProblems(), is(false));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void zeroDepth() {
+		new BasicJsonValidator(createSchema()).maxDepth(0);
+	}
+}
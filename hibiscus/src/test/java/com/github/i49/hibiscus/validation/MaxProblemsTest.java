@@ -0,0 +1,97 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class MaxProblemsTest {
+
+	private static Schema createSchema() {
+		return schema(array(integer()));
+	}
+
+	public static class FailFastTest {
+
+		@Test
+		public void stopsAtFirstProblem() {
+			String json = "[1, \"a\", \"b\", \"c\"]";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).failFast();
+			ValidationResult result = validator.validate(new StringReader(json));
+
+			assertThat(result.isTruncated(), is(true));
+			assertNull(result.getValue());
+			assertThat(result.getProblems().size(), equalTo(1));
+			assertThat(result.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+			assertThat(result.getProblems().get(0).getPointer().toString(), equalTo("/1"));
+		}
+
+		@Test
+		public void doesNotReadRestOfDocument() {
+			String json = "[\"a\", 1, }";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).failFast();
+			ValidationResult result = validator.validate(new StringReader(json));
+
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().size(), equalTo(1));
+		}
+
+		@Test
+		public void noProblem() {
+			String json = "[1, 2, 3]";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).failFast();
+			ValidationResult result = validator.validate(new StringReader(json));
+
+			assertThat(result.isTruncated(), is(false));
+			assertThat(result.hasProblems(), is(false));
+			assertNotNull(result.getValue());
+		}
+	}
+
+	public static class LimitTest {
+
+		@Test
+		public void reachesLimit() {
+			String json = "[\"a\", \"b\", \"c\", \"d\", \"e\"]";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxProblems(3);
+			ValidationResult result = validator.validate(new StringReader(json));
+
+			assertThat(result.isTruncated(), is(true));
+			assertNull(result.getValue());
+			assertThat(result.getProblems().size(), equalTo(3));
+			assertThat(result.getProblems().get(2).getPointer().toString(), equalTo("/2"));
+		}
+
+		@Test
+		public void belowLimit() {
+			String json = "[\"a\", \"b\", 3]";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxProblems(3);
+			ValidationResult result = validator.validate(new StringReader(json));
+
+			assertThat(result.isTruncated(), is(false));
+			assertNotNull(result.getValue());
+			assertThat(result.getProblems().size(), equalTo(2));
+		}
+
+		@Test
+		public void unlimitedByDefault() {
+			String json = "[\"a\", \"b\", \"c\", \"d\", \"e\"]";
+			JsonValidator validator = new BasicJsonValidator(createSchema());
+			ValidationResult result = validator.validate(new StringReader(json));
+
+			assertThat(result.isTruncated(), is(false));
+			assertThat(result.getProblems().size(), equalTo(5));
+		}
+
+		@Test(expected = IllegalArgumentException.class)
+		public void limitIsZero() {
+			new BasicJsonValidator(createSchema()).maxProblems(0);
+		}
+	}
+}
@@ -6,7 +6,10 @@ import static org.junit.Assert.*;
 
 import java.io.StringReader;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.json.JsonArray;
 import javax.json.JsonNumber;
@@ -29,6 +32,7 @@ import com.github.i49.hibiscus.problems.StringLengthProblem;
 import com.github.i49.hibiscus.problems.TypeMismatchProblem;
 import com.github.i49.hibiscus.problems.UnknownPropertyProblem;
 import com.github.i49.hibiscus.schema.ObjectType;
+import com.github.i49.hibiscus.schema.Property;
 import com.github.i49.hibiscus.schema.Schema;
 
 import static com.github.i49.hibiscus.validation.CustomAssertions.*;
@@ -243,6 +247,39 @@ public class ObjectValiadtionTest {
 			assertThat(p.getCauseValue().getValueType(), is(JsonValue.ValueType.OBJECT));
 			assertThat(p.getDescription(), is(notNullValue()));
 		}
+
+		@Test
+		public void manyRequiredProperties() {
+			final int count = 130;
+			Property[] properties = new Property[count];
+			for (int i = 0; i < count; i++) {
+				properties[i] = required("p" + i, integer());
+			}
+			Set<String> omitted = new HashSet<>(Arrays.asList("p3", "p64", "p129"));
+			StringBuilder b = new StringBuilder("[{");
+			for (int i = 0; i < count; i++) {
+				if (!omitted.contains("p" + i)) {
+					b.append(b.length() > 2 ? ", " : "").append("\"p").append(i).append("\": ").append(i);
+				}
+			}
+			String complete = b.toString().substring(2) + ", \"p3\": 3, \"p64\": 64, \"p129\": 129}";
+			String json = b.append("}, {").append(complete).append("]").toString();
+
+			for (JsonValidator validator: new JsonValidator[] {
+					new BasicJsonValidator(schema(array(object(properties)))),
+					new BasicJsonValidator(schema(array(object(properties)))).validationOnly()}) {
+				ValidationResult result = validator.validate(new StringReader(json));
+				List<Problem> problems = result.getProblems();
+				assertThat(problems.size(), equalTo(3));
+				Set<String> missing = new HashSet<>();
+				for (Problem problem: problems) {
+					assertThat(problem, instanceOf(MissingPropertyProblem.class));
+					assertThat(problem.getPointer().toString(), equalTo("/0"));
+					missing.add(((MissingPropertyProblem)problem).getPropertyName());
+				}
+				assertThat(missing, equalTo(omitted));
+			}
+		}
 	}
 	
 	public static class UnknownPropertyTest {
@@ -0,0 +1,186 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.json.Json;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.ArrayDuplicateItemProblem;
+import com.github.i49.hibiscus.problems.ArrayTooLongProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ParallelArrayTest {
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void setUpClass() {
+		pool = new ForkJoinPool(3);
+	}
+
+	@AfterClass
+	public static void tearDownClass() {
+		pool.shutdown();
+	}
+
+	private static Schema createSchema() {
+		return schema(array(object(required("id", integer()), optional("name", string().maxLength(8)))).maxLength(900));
+	}
+
+	private static Path createFile(String content) throws IOException {
+		Path path = Files.createTempFile("hibiscus", ".json");
+		path.toFile().deleteOnExit();
+		Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+		return path;
+	}
+
+	private static String createArray(int elements) {
+		StringBuilder b = new StringBuilder("﻿[\n");
+		for (int i = 0; i < elements; i++) {
+			if (i > 0) {
+				b.append(",\n");
+			}
+			if (i % 7 == 0) {
+				b.append("  {\"id\": \"").append(i).append("\"}");
+			} else if (i % 5 == 0) {
+				b.append("  {\"id\": ").append(i).append(", \"name\": \"あいうえおかきくけ\", \"x\": [\"]\", {\"y\": \"\\\"\"}]}");
+			} else {
+				b.append("  {\"id\": ").append(i).append(", \"name\": \"😀été\"}");
+			}
+		}
+		b.append("\n]\n");
+		return b.toString();
+	}
+
+	private static ValidationResult validateInParallel(BasicJsonValidator validator, Path path, int chunkSize) throws IOException {
+		ValidationResult result = new ParallelArrayValidation(validator, pool, chunkSize, Json.createBuilderFactory(null)).run(path);
+		assertThat(result, is(notNullValue()));
+		return result;
+	}
+
+	private static void assertSameProblems(List<Problem> expected, List<Problem> actual) {
+		assertThat(actual.size(), equalTo(expected.size()));
+		for (int i = 0; i < expected.size(); i++) {
+			Problem e = expected.get(i);
+			Problem a = actual.get(i);
+			assertThat(a.getClass(), equalTo(e.getClass()));
+			assertThat(a.getPointer().toString(), equalTo(e.getPointer().toString()));
+			assertThat(a.getLocation().getLineNumber(), equalTo(e.getLocation().getLineNumber()));
+			assertThat(a.getLocation().getColumnNumber(), equalTo(e.getLocation().getColumnNumber()));
+			assertThat(a.getLocation().getStreamOffset(), equalTo(e.getLocation().getStreamOffset()));
+		}
+	}
+
+	@Test
+	public void sameAsSequential() throws IOException {
+		Path path = createFile(createArray(1000));
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		ValidationResult expected = validator.validate(path);
+		for (int chunkSize: new int[] {1, 100, 4096, ParallelArrayValidation.DEFAULT_CHUNK_SIZE}) {
+			ValidationResult actual = validateInParallel(validator, path, chunkSize);
+			assertThat(actual.getValue(), is(nullValue()));
+			assertFalse(actual.isTruncated());
+			assertSameProblems(expected.getProblems(), actual.getProblems());
+		}
+		List<Problem> problems = expected.getProblems();
+		assertThat(problems.get(problems.size() - 1), instanceOf(ArrayTooLongProblem.class));
+	}
+
+	@Test
+	public void uniqueAcrossChunks() throws IOException {
+		Path path = createFile("[1, 2, 3, 4, 5, 6, 7, 3, 9]");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(integer()).unique()));
+		ValidationResult result = validateInParallel(validator, path, 4);
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(ArrayDuplicateItemProblem.class));
+	}
+
+	@Test
+	public void stopAtMaxProblems() throws IOException {
+		Path path = createFile(createArray(1000));
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).maxProblems(10);
+		ValidationResult expected = validator.validate(path);
+		ValidationResult actual = validateInParallel(validator, path, 100);
+		assertTrue(actual.isTruncated());
+		assertSameProblems(expected.getProblems(), actual.getProblems());
+	}
+
+	@Test
+	public void emptyArray() throws IOException {
+		Path path = createFile(" [ ] ");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(integer()).minLength(1)));
+		ValidationResult expected = validator.validate(path);
+		ValidationResult actual = validator.validateInParallel(path, pool);
+		assertSameProblems(expected.getProblems(), actual.getProblems());
+	}
+
+	@Test
+	public void rootIsNotArray() throws IOException {
+		Path path = createFile("{\"id\": \"1\"}");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(object(required("id", integer()))));
+		ValidationResult result = validator.validateInParallel(path, pool);
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getValue(), is(notNullValue()));
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void syntaxErrorInElement() throws IOException {
+		Path path = createFile("[1, 2, 3 4, 5, 6]");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(integer())));
+		validateInParallel(validator, path, 2);
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void trailingComma() throws IOException {
+		Path path = createFile("[1, 2, 3,]");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(integer())));
+		validateInParallel(validator, path, 2);
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void rootClosedByBrace() throws IOException {
+		Path path = createFile("[1, 2}");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(integer())));
+		validateInParallel(validator, path, 2);
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void mismatchedBrackets() throws IOException {
+		Path path = createFile("[[1}, 2]");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(array(integer()), integer())));
+		validateInParallel(validator, path, 100);
+	}
+
+	@Test
+	public void causeValueOfElement() throws IOException {
+		Path path = createFile("[1, 99, 5]");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(integer().maxInclusive(10))));
+		ValidationResult result = validateInParallel(validator, path, 2);
+		assertThat(result.getProblems().size(), equalTo(1));
+		Problem problem = result.getProblems().get(0);
+		assertThat(problem.getPointer().toString(), equalTo("/1"));
+		assertThat(problem.getCauseValue().toString(), equalTo("99"));
+		assertThat(problem.getMessage(), equalTo(validator.validate(path).getProblems().get(0).getMessage()));
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void unclosedArray() throws IOException {
+		Path path = createFile("[1, [2, 3]");
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(integer())));
+		validateInParallel(validator, path, 2);
+	}
+}
@@ -0,0 +1,174 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.MalformedRecordProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ParallelJsonLinesTest {
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void setUpClass() {
+		pool = new ForkJoinPool(3);
+	}
+
+	@AfterClass
+	public static void tearDownClass() {
+		pool.shutdown();
+	}
+
+	private static Schema createSchema() {
+		return schema(object(required("id", integer()), optional("name", string().maxLength(8))));
+	}
+
+	private static Path createFile(int records) throws IOException {
+		StringBuilder b = new StringBuilder();
+		for (int i = 0; i < records; i++) {
+			if (i % 7 == 0) {
+				b.append("{\"id\": \"").append(i).append("\"}\n");
+			} else if (i % 5 == 0) {
+				b.append("{\"id\": ").append(i).append(", \"name\": \"あいうえおかきくけ\"}\r\n");
+			} else if (i % 11 == 0) {
+				b.append("\n");
+			} else {
+				b.append("{\"id\": ").append(i).append(", \"name\": \"été\"}\n");
+			}
+		}
+		Path path = Files.createTempFile("hibiscus", ".jsonl");
+		path.toFile().deleteOnExit();
+		Files.write(path, b.toString().getBytes(StandardCharsets.UTF_8));
+		return path;
+	}
+
+	private static List<RecordResult> validateSequentially(BasicJsonValidator validator, Path path) throws IOException {
+		List<RecordResult> results = new ArrayList<>();
+		try (InputStream stream = Files.newInputStream(path)) {
+			validator.validateLines(stream, results::add);
+		}
+		return results;
+	}
+
+	private static void assertSameResults(List<RecordResult> actual, List<RecordResult> expected) {
+		assertThat(actual.size(), equalTo(expected.size()));
+		for (int i = 0; i < expected.size(); i++) {
+			RecordResult a = actual.get(i);
+			RecordResult e = expected.get(i);
+			assertThat(a.getRecordIndex(), equalTo(e.getRecordIndex()));
+			assertThat(a.getLineNumber(), equalTo(e.getLineNumber()));
+			assertThat(a.getOffset(), equalTo(e.getOffset()));
+			assertThat(a.getValue(), equalTo(e.getValue()));
+			assertThat(a.getProblems().size(), equalTo(e.getProblems().size()));
+			for (int j = 0; j < e.getProblems().size(); j++) {
+				Problem pa = a.getProblems().get(j);
+				Problem pe = e.getProblems().get(j);
+				assertThat(pa.getClass(), equalTo(pe.getClass()));
+				assertThat(pa.getPointer().toString(), equalTo(pe.getPointer().toString()));
+				assertThat(pa.getLocation().getLineNumber(), equalTo(pe.getLocation().getLineNumber()));
+				assertThat(pa.getLocation().getColumnNumber(), equalTo(pe.getLocation().getColumnNumber()));
+				assertThat(pa.getLocation().getStreamOffset(), equalTo(pe.getLocation().getStreamOffset()));
+			}
+		}
+	}
+
+	@Test
+	public void sameAsSequential() throws IOException {
+		Path path = createFile(2000);
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> expected = validateSequentially(validator, path);
+
+		List<RecordResult> actual = new ArrayList<>();
+		long count = new ParallelLineValidation(validator, pool, actual::add, 1024).run(path);
+
+		assertThat(count, equalTo((long)expected.size()));
+		assertSameResults(actual, expected);
+		assertTrue(actual.stream().anyMatch(RecordResult::hasProblems));
+	}
+
+	@Test
+	public void chunkSmallerThanLine() throws IOException {
+		Path path = createFile(100);
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> expected = validateSequentially(validator, path);
+
+		List<RecordResult> actual = new ArrayList<>();
+		new ParallelLineValidation(validator, pool, actual::add, 3).run(path);
+
+		assertSameResults(actual, expected);
+	}
+
+	@Test
+	public void publicApi() throws IOException {
+		Path path = createFile(50);
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> expected = validateSequentially(validator, path);
+
+		List<RecordResult> actual = new ArrayList<>();
+		long count = validator.validateLinesInParallel(path, pool, actual::add);
+
+		assertThat(count, equalTo((long)expected.size()));
+		assertSameResults(actual, expected);
+	}
+
+	@Test
+	public void emptyFile() throws IOException {
+		Path path = createFile(0);
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> actual = new ArrayList<>();
+		long count = validator.validateLinesInParallel(path, actual::add);
+
+		assertThat(count, equalTo(0L));
+		assertTrue(actual.isEmpty());
+	}
+
+	@Test
+	public void surrogatePairs() throws IOException {
+		Path path = Files.createTempFile("hibiscus", ".jsonl");
+		path.toFile().deleteOnExit();
+		String content = "{\"id\": 1, \"name\": \"😀😀\"}\n  \t\r\n{\"name\": \"😀\", \"id\": \"2\"}\r\n{\"id\": 3, \"name\": \"😀😀😀😀😀\"}";
+		Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> expected = validateSequentially(validator, path);
+		for (int chunkSize: new int[] {1, 40, 1024}) {
+			List<RecordResult> actual = new ArrayList<>();
+			new ParallelLineValidation(validator, pool, actual::add, chunkSize).run(path);
+			assertSameResults(actual, expected);
+		}
+		assertThat(expected.get(1).getProblems().size(), equalTo(1));
+		assertThat(expected.get(2).getProblems().size(), equalTo(1));
+	}
+
+	@Test
+	public void malformedRecord() throws IOException {
+		Path path = Files.createTempFile("hibiscus", ".jsonl");
+		path.toFile().deleteOnExit();
+		Files.write(path, "{\"id\": 1}\n{\"id\": \n{\"id\": 3}\n".getBytes(StandardCharsets.UTF_8));
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordResult> expected = validateSequentially(validator, path);
+		List<RecordResult> actual = new ArrayList<>();
+		long count = new ParallelLineValidation(validator, pool, actual::add, 4).run(path);
+
+		assertThat(count, equalTo(3L));
+		assertSameResults(actual, expected);
+		Problem problem = actual.get(1).getProblems().get(0);
+		assertThat(problem, instanceOf(MalformedRecordProblem.class));
+		assertThat(problem.getLocation().getLineNumber(), equalTo(2L));
+	}
+}
@@ -0,0 +1,166 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.common.JsonPointer;
+import com.github.i49.hibiscus.problems.ArrayTooShortProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ProjectionTest {
+
+	private static final String JSON =
+			"{\n" +
+			"  \"id\": \"1\",\n" +
+			"  \"name\": {\"first\": \"John\", \"last\": \"Smith\"},\n" +
+			"  \"tags\": [\"a\", \"b\", \"c\"],\n" +
+			"  \"items\": [{\"sku\": \"x\", \"qty\": 1}, {\"sku\": \"y\", \"qty\": 2}],\n" +
+			"  \"fixed\": [1, 2]\n" +
+			"}";
+
+	private static Schema createSchema() {
+		return schema(object(
+				required("id", integer()),
+				optional("name", object(required("first", string()), optional("last", string()))),
+				optional("tags", array(string())),
+				optional("items", array(object(required("sku", string()), optional("qty", integer())))),
+				optional("fixed", array(integer()).unique())
+				));
+	}
+
+	private static JsonPointer pointer(Object... tokens) {
+		JsonPointer.Builder builder = JsonPointer.builder();
+		for (Object token: tokens) {
+			if (token instanceof Integer) {
+				builder.append((Integer)token);
+			} else {
+				builder.append((String)token);
+			}
+		}
+		return builder.build();
+	}
+
+	private static JsonValue parse(String json) {
+		return Json.createReader(new StringReader(json)).read();
+	}
+
+	@Test
+	public void selectProperties() {
+		JsonValidator validator = new BasicJsonValidator(createSchema())
+				.projection(pointer("name", "first"), pointer("tags"));
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+		assertThat(result.getValue(), equalTo(parse("{\"name\": {\"first\": \"John\"}, \"tags\": [\"a\", \"b\", \"c\"]}")));
+	}
+
+	@Test
+	public void selectArrayElements() {
+		JsonValidator validator = new BasicJsonValidator(createSchema())
+				.projection(pointer("items", 1, "sku"), pointer("tags", "0"));
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertThat(result.getValue(), equalTo(parse("{\"tags\": [\"a\"], \"items\": [{\"sku\": \"y\"}]}")));
+	}
+
+	@Test
+	public void selectRoot() {
+		JsonValidator validator = new BasicJsonValidator(createSchema())
+				.projection(pointer("name"), JsonPointer.getPointerToDocumentRoot());
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertThat(result.getValue(), equalTo(parse(JSON)));
+	}
+
+	@Test
+	public void selectNothing() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).projection();
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getValue(), equalTo(parse("{}")));
+	}
+
+	@Test
+	public void selectInsideContainerWithFacets() {
+		JsonValidator validator = new BasicJsonValidator(createSchema())
+				.projection(pointer("fixed", 0), pointer("id", "x"));
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertThat(result.getValue(), equalTo(parse("{\"fixed\": [1, 2]}")));
+	}
+
+	@Test
+	public void selectPartOfArrayWithLengthFacet() {
+		Schema schema = schema(object(required("items", array(integer()).minLength(3))));
+		JsonValidator validator = new BasicJsonValidator(schema).projection(pointer("items", 0));
+		ValidationResult result = validator.validate(new StringReader("{\"items\": [1, 2, 3]}"));
+		assertThat(result.getProblems().isEmpty(), is(true));
+		assertThat(result.getValue(), equalTo(parse("{\"items\": [1]}")));
+	}
+
+	@Test
+	public void selectPartOfTooShortArray() {
+		Schema schema = schema(object(required("items", array(integer()).minLength(3))));
+		JsonValidator validator = new BasicJsonValidator(schema).projection(pointer("items", 0));
+		ValidationResult result = validator.validate(new StringReader("{\"items\": [1, 2]}"));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), is(instanceOf(ArrayTooShortProblem.class)));
+	}
+
+	@Test
+	public void causeValueInPartialArray() {
+		Schema schema = schema(object(optional("items", array(integer().maxInclusive(10)))));
+		JsonValidator validator = new BasicJsonValidator(schema).projection(pointer("items", 2));
+		ValidationResult result = validator.validate(new StringReader("{\"items\": [99, 1, 5]}"));
+		assertThat(result.getValue(), equalTo(parse("{\"items\": [5]}")));
+		assertThat(result.getProblems().size(), equalTo(1));
+		Problem problem = result.getProblems().get(0);
+		assertThat(problem.getPointer().toString(), equalTo("/items/0"));
+		assertThat(problem.getCauseValue().toString(), equalTo("99"));
+		assertThat(problem.getDescription(Locale.ENGLISH), containsString("99"));
+	}
+
+	@Test
+	public void unresolvedPointerInPartialArray() {
+		Schema schema = schema(array(object(required("id", integer()))));
+		JsonValidator validator = new BasicJsonValidator(schema).projection(pointer(0));
+		ValidationResult result = validator.validate(new StringReader("[{\"id\": 1}, {}]"));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0).getPointer().toString(), equalTo("/1"));
+		assertThat(result.getProblems().get(0).getCauseValue(), is(nullValue()));
+	}
+
+	@Test
+	public void selectOnBuffer() {
+		JsonValidator validator = new BasicJsonValidator(createSchema())
+				.projection(pointer("name", "last"), pointer("items", 0, "qty"));
+		ValidationResult result = validator.validate(ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8)));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getValue(), equalTo(parse("{\"name\": {\"last\": \"Smith\"}, \"items\": [{\"qty\": 1}]}")));
+	}
+
+	@Test
+	public void validationOnlyTakesPrecedence() {
+		JsonValidator validator = new BasicJsonValidator(createSchema())
+				.projection(pointer("name"))
+				.validationOnly();
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getValue(), is(nullValue()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nullPointer() {
+		new BasicJsonValidator(createSchema()).projection(pointer("name"), null);
+	}
+}
@@ -0,0 +1,188 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class PushValidatorTest {
+
+	private static final String JSON =
+			"{\n" +
+			"  \"name\": \"日本語 \\\"\\u0041\\\" 😀\",\n" +
+			"  \"count\": 12345678901234567890,\n" +
+			"  \"ratio\": -1.5e-3,\n" +
+			"  \"flags\": [true, false, null],\n" +
+			"  \"extra\": {\"a\": [1, {\"b\": \"]\"}]},\n" +
+			"  \"id\": \"1\"\n" +
+			"}";
+
+	private static Schema createSchema() {
+		return schema(object(
+				required("name", string()),
+				optional("count", integer()),
+				optional("ratio", number()),
+				optional("flags", array(bool(), nil())),
+				required("id", integer())
+				).moreProperties());
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void assertSameResult(ValidationResult expected, ValidationResult actual) {
+		assertThat(actual.getValue(), equalTo(expected.getValue()));
+		List<Problem> expectedProblems = expected.getProblems();
+		List<Problem> actualProblems = actual.getProblems();
+		assertThat(actualProblems.size(), equalTo(expectedProblems.size()));
+		for (int i = 0; i < expectedProblems.size(); i++) {
+			Problem e = expectedProblems.get(i);
+			Problem a = actualProblems.get(i);
+			assertThat(a.getClass(), equalTo(e.getClass()));
+			assertThat(a.getPointer().toString(), equalTo(e.getPointer().toString()));
+			assertThat(a.getLocation().getLineNumber(), equalTo(e.getLocation().getLineNumber()));
+			assertThat(a.getLocation().getColumnNumber(), equalTo(e.getLocation().getColumnNumber()));
+			assertThat(a.getLocation().getStreamOffset(), equalTo(e.getLocation().getStreamOffset()));
+		}
+	}
+
+	@Test
+	public void feedByteByByte() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		byte[] bytes = bytes(JSON);
+		ValidationResult expected = validator.validate(ByteBuffer.wrap(bytes));
+		PushValidator pushValidator = validator.createPushValidator();
+		for (int i = 0; i < bytes.length - 1; i++) {
+			assertThat(pushValidator.feed(ByteBuffer.wrap(bytes, i, 1)), is(PushValidator.Status.NEEDS_INPUT));
+			assertThat(pushValidator.getResult(), is(nullValue()));
+		}
+		assertThat(pushValidator.feed(ByteBuffer.wrap(bytes, bytes.length - 1, 1)), is(PushValidator.Status.COMPLETED));
+		assertThat(expected.getProblems().size(), equalTo(1));
+		assertSameResult(expected, pushValidator.getResult());
+	}
+
+	@Test
+	public void feedAtEverySplit() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		byte[] bytes = bytes(JSON);
+		ValidationResult expected = validator.validate(ByteBuffer.wrap(bytes));
+		for (int split = 0; split <= bytes.length; split++) {
+			PushValidator pushValidator = validator.createPushValidator();
+			pushValidator.feed(ByteBuffer.wrap(bytes, 0, split));
+			pushValidator.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+			assertThat(pushValidator.endInput(), is(PushValidator.Status.COMPLETED));
+			assertSameResult(expected, pushValidator.getResult());
+		}
+	}
+
+	@Test
+	public void feedLargeDocument() {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < 10000; i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append("{\"name\": \"item").append(i).append("\", \"id\": ").append(i).append('}');
+		}
+		builder.append(']');
+		JsonValidator validator = new BasicJsonValidator(schema(array(object(required("id", integer())).moreProperties())));
+		byte[] bytes = bytes(builder.toString());
+		ValidationResult expected = validator.validate(ByteBuffer.wrap(bytes));
+		PushValidator pushValidator = validator.createPushValidator();
+		for (int i = 0; i < bytes.length; i += 1000) {
+			pushValidator.feed(ByteBuffer.wrap(bytes, i, Math.min(1000, bytes.length - i)));
+		}
+		assertSameResult(expected, pushValidator.getResult());
+	}
+
+	@Test
+	public void numberAcrossChunks() {
+		JsonValidator validator = new BasicJsonValidator(schema(array(integer())));
+		PushValidator pushValidator = validator.createPushValidator();
+		assertThat(pushValidator.feed(ByteBuffer.wrap(bytes("﻿[12"))), is(PushValidator.Status.NEEDS_INPUT));
+		assertThat(pushValidator.feed(ByteBuffer.wrap(bytes("34]"))), is(PushValidator.Status.COMPLETED));
+		assertThat(pushValidator.endInput(), is(PushValidator.Status.COMPLETED));
+		ValidationResult result = pushValidator.getResult();
+		assertFalse(result.hasProblems());
+		assertThat(result.getValue().toString(), equalTo("[1234]"));
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void atomicRoot() {
+		JsonValidator validator = new BasicJsonValidator(schema(integer()));
+		PushValidator pushValidator = validator.createPushValidator();
+		pushValidator.feed(ByteBuffer.wrap(bytes("1234")));
+	}
+
+	@Test
+	public void stopAtMaxProblems() {
+		JsonValidator validator = new BasicJsonValidator(schema(array(integer()))).failFast();
+		PushValidator pushValidator = validator.createPushValidator();
+		assertThat(pushValidator.feed(ByteBuffer.wrap(bytes("[1, \"a\", "))), is(PushValidator.Status.COMPLETED));
+		ValidationResult result = pushValidator.getResult();
+		assertTrue(result.isTruncated());
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(pushValidator.feed(ByteBuffer.wrap(bytes("\"b\"]"))), is(PushValidator.Status.COMPLETED));
+		assertThat(pushValidator.getResult(), is(sameInstance(result)));
+	}
+
+	@Test
+	public void skipContainerAtEverySplit() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		byte[] bytes = bytes(JSON);
+		ValidationResult expected = validator.validate(ByteBuffer.wrap(bytes));
+		assertThat(expected.getProblems().get(0).getLocation().getLineNumber(), equalTo(7L));
+		for (int split = 0; split <= bytes.length; split++) {
+			PushValidator pushValidator = validator.createPushValidator();
+			pushValidator.feed(ByteBuffer.wrap(bytes, 0, split));
+			pushValidator.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+			assertThat(pushValidator.endInput(), is(PushValidator.Status.COMPLETED));
+			assertSameResult(expected, pushValidator.getResult());
+		}
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void unclosedSkippedContainer() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		PushValidator pushValidator = validator.createPushValidator();
+		assertThat(pushValidator.feed(ByteBuffer.wrap(bytes("{\"extra\": [1, {\"b\": \"]"))), is(PushValidator.Status.NEEDS_INPUT));
+		assertThat(pushValidator.feed(ByteBuffer.wrap(bytes("\"}"))), is(PushValidator.Status.NEEDS_INPUT));
+		pushValidator.endInput();
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void incompleteDocument() {
+		JsonValidator validator = new BasicJsonValidator(schema(array(integer())));
+		PushValidator pushValidator = validator.createPushValidator();
+		assertThat(pushValidator.feed(ByteBuffer.wrap(bytes("[1, 2"))), is(PushValidator.Status.NEEDS_INPUT));
+		pushValidator.endInput();
+	}
+
+	@Test
+	public void invalidDocument() {
+		JsonValidator validator = new BasicJsonValidator(schema(array(integer())));
+		PushValidator pushValidator = validator.createPushValidator();
+		try {
+			pushValidator.feed(ByteBuffer.wrap(bytes("[1, x")));
+			fail();
+		} catch (JsonParsingException e) {
+			assertThat(e.getLocation().getColumnNumber(), equalTo(5L));
+		}
+		try {
+			pushValidator.feed(ByteBuffer.wrap(bytes("]")));
+			fail();
+		} catch (IllegalStateException e) {
+		}
+	}
+}
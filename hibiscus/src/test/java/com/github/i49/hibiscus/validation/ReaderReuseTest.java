@@ -0,0 +1,89 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+
+import javax.json.JsonObject;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.MissingPropertyProblem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ReaderReuseTest {
+
+	private static Schema createSchema() {
+		return schema(object(
+				required("a", integer()),
+				optional("b", array(object(required("c", string()))))
+			));
+	}
+
+	@Test
+	public void sequentialDocuments() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+
+		ValidationResult first = validator.validate(new StringReader("{\"a\": \"x\", \"b\": [{}]}"));
+		ValidationResult second = validator.validate(new StringReader("{\"a\": 1, \"b\": [{\"c\": \"y\"}]}"));
+		ValidationResult third = validator.validate(new StringReader("{\"b\": []}"));
+
+		assertThat(first.getProblems().size(), equalTo(2));
+		assertThat(first.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+		assertThat(first.getProblems().get(0).getCauseValue().toString(), equalTo("\"x\""));
+		assertThat(first.getProblems().get(1).getPointer().toString(), equalTo("/b/0"));
+
+		assertFalse(second.hasProblems());
+		assertThat(((JsonObject)second.getValue()).getInt("a"), equalTo(1));
+
+		assertThat(third.getProblems().size(), equalTo(1));
+		assertThat(third.getProblems().get(0), instanceOf(MissingPropertyProblem.class));
+		assertThat(third.getProblems().get(0).getPointer().toString(), equalTo(""));
+	}
+
+	@Test
+	public void afterTruncation() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).failFast();
+
+		ValidationResult first = validator.validate(new StringReader("{\"b\": [{\"c\": 1}], \"a\": \"x\"}"));
+		ValidationResult second = validator.validate(new StringReader("{\"a\": 1}"));
+
+		assertTrue(first.isTruncated());
+		assertThat(first.getProblems().get(0).getPointer().toString(), equalTo("/b/0/c"));
+		assertFalse(second.isTruncated());
+		assertFalse(second.hasProblems());
+		assertNotNull(second.getValue());
+	}
+
+	@Test
+	public void afterParsingError() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+
+		try {
+			validator.validate(new StringReader("{\"b\": [{\"c\": 1}, "));
+			fail();
+		} catch (JsonParsingException e) {
+		}
+		ValidationResult result = validator.validate(new StringReader("{\"a\": 1, \"b\": [{\"c\": 2}]}"));
+
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0).getPointer().toString(), equalTo("/b/0/c"));
+	}
+
+	@Test
+	public void recursiveValidation() {
+		JsonValidator[] self = new JsonValidator[1];
+		Schema schema = schema(array(string().assertion(
+				s -> s.getString().isEmpty() || !self[0].validate(new StringReader(s.getString())).hasProblems(),
+				(s, locale) -> "invalid")));
+		self[0] = new BasicJsonValidator(schema);
+
+		ValidationResult result = self[0].validate(new StringReader("[\"[\\\"\\\"]\", \"[1]\", \"\"]"));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0).getPointer().toString(), equalTo("/1"));
+	}
+}
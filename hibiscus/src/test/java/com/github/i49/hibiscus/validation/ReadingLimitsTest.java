@@ -0,0 +1,210 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.json.JsonException;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.DocumentTooLargeProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TokenTooLongProblem;
+import com.github.i49.hibiscus.problems.TooManyItemsProblem;
+import com.github.i49.hibiscus.problems.TooManyPropertiesProblem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ReadingLimitsTest {
+
+	private static Schema createSchema() {
+		return schema(object(
+				optional("name", string()),
+				optional("values", array(integer()))
+				).moreProperties());
+	}
+
+	private static byte[] bytes(String json) {
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public static class TokenLengthTest {
+
+		@Test
+		public void stringWithinLimit() {
+			String json = "{\"name\": \"日本語\\u0041😀\"}";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxTokenLength(6);
+			ValidationResult result = validator.validate(new StringReader(json));
+			assertThat(result.hasProblems(), is(false));
+			result = validator.validate(ByteBuffer.wrap(bytes(json)));
+			assertThat(result.hasProblems(), is(false));
+		}
+
+		@Test
+		public void stringTooLong() {
+			String json = "{\"name\": \"日本語\\u0041😀\"}";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxTokenLength(5);
+			for (ValidationResult result: new ValidationResult[] {
+					validator.validate(new StringReader(json)), validator.validate(ByteBuffer.wrap(bytes(json)))}) {
+				assertThat(result.isTruncated(), is(true));
+				assertThat(result.getProblems().size(), equalTo(1));
+				Problem problem = result.getProblems().get(0);
+				assertThat(problem, instanceOf(TokenTooLongProblem.class));
+				assertThat(((TokenTooLongProblem)problem).getActualLength(), equalTo(6));
+				assertThat(((TokenTooLongProblem)problem).getLimitLength(), equalTo(5));
+				assertThat(problem.getPointer().toString(), equalTo("/name"));
+			}
+		}
+
+		@Test
+		public void numberTooLong() {
+			String json = "{\"values\": [1, 12345678901234567890]}";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxTokenLength(8);
+			ValidationResult result = validator.validate(ByteBuffer.wrap(bytes(json)));
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().get(0), instanceOf(TokenTooLongProblem.class));
+			assertThat(result.getProblems().get(0).getPointer().toString(), equalTo("/values/1"));
+		}
+
+		@Test
+		public void propertyNameTooLong() {
+			String json = "{\"values\": [], \"averyveryverylongname\": 1}";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxTokenLength(8);
+			ValidationResult result = validator.validate(new StringReader(json));
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().get(0), instanceOf(TokenTooLongProblem.class));
+			assertThat(result.getProblems().get(0).getPointer().toString(), equalTo(""));
+		}
+	}
+
+	public static class CountTest {
+
+		@Test
+		public void tooManyProperties() {
+			String json = "{\"a\": 1, \"b\": 2, \"c\": {\"d\": 3, \"e\": 4, \"f\": 5}}";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxProperties(3);
+			assertThat(validator.validate(new StringReader(json)).hasProblems(), is(false));
+			validator = new BasicJsonValidator(createSchema()).maxProperties(2);
+			ValidationResult result = validator.validate(new StringReader(json));
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().size(), equalTo(1));
+			Problem problem = result.getProblems().get(0);
+			assertThat(problem, instanceOf(TooManyPropertiesProblem.class));
+			assertThat(((TooManyPropertiesProblem)problem).getLimitCount(), equalTo(2));
+			assertThat(problem.getPointer().toString(), equalTo(""));
+		}
+
+		@Test
+		public void tooManyItems() {
+			String json = "{\"values\": [1, \"2\", 3, 4]}";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxItems(3);
+			ValidationResult result = validator.validate(ByteBuffer.wrap(bytes(json)));
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().size(), equalTo(2));
+			assertThat(result.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+			Problem problem = result.getProblems().get(1);
+			assertThat(problem, instanceOf(TooManyItemsProblem.class));
+			assertThat(((TooManyItemsProblem)problem).getLimitCount(), equalTo(3));
+			assertThat(problem.getPointer().toString(), equalTo("/values"));
+		}
+
+		@Test
+		public void skippedContainersAreNotCounted() {
+			String json = "{\"other\": [1, 2, 3, 4, {\"a\": 1, \"b\": 2}]}";
+			JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly().maxItems(3).maxProperties(1);
+			ValidationResult result = validator.validate(new StringReader(json));
+			assertThat(result.hasProblems(), is(false));
+		}
+
+		@Test(expected = IllegalArgumentException.class)
+		public void negativeItems() {
+			new BasicJsonValidator(createSchema()).maxItems(-1);
+		}
+	}
+
+	public static class InputSizeTest {
+
+		private static final String JSON = "{\"name\": \"foo\", \"values\": [1, \"2\", 3]}";
+
+		@Test
+		public void withinLimit() {
+			BasicJsonValidator validator = new BasicJsonValidator(createSchema()).maxInputSize(JSON.length());
+			assertThat(validator.getMaxInputSize(), equalTo((long)JSON.length()));
+			assertThat(validator.validate(new StringReader(JSON)).isTruncated(), is(false));
+			assertThat(validator.validate(new ByteArrayInputStream(bytes(JSON))).isTruncated(), is(false));
+			assertThat(validator.validate(ByteBuffer.wrap(bytes(JSON))).isTruncated(), is(false));
+		}
+
+		@Test
+		public void readerTooLarge() {
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxInputSize(JSON.length() - 1);
+			ValidationResult result = validator.validate(new StringReader(JSON));
+			assertThat(result.isTruncated(), is(true));
+			assertNull(result.getValue());
+			Problem problem = result.getProblems().get(result.getProblems().size() - 1);
+			assertThat(problem, instanceOf(DocumentTooLargeProblem.class));
+			assertThat(((DocumentTooLargeProblem)problem).getLimitSize(), equalTo((long)JSON.length() - 1));
+			assertThat(problem.getPointer().toString(), equalTo(""));
+		}
+
+		@Test
+		public void streamTooLarge() {
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxInputSize(10);
+			ValidationResult result = validator.validate(new ByteArrayInputStream(bytes(JSON)));
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().get(0), instanceOf(DocumentTooLargeProblem.class));
+		}
+
+		@Test
+		public void bytesTooLarge() {
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxInputSize(10);
+			byte[] bytes = bytes(JSON);
+			ValidationResult result = validator.validate(bytes, 0, bytes.length);
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().size(), equalTo(1));
+			assertThat(result.getProblems().get(0), instanceOf(DocumentTooLargeProblem.class));
+			assertThat(result.getProblems().get(0).getLocation().getStreamOffset(), equalTo(0L));
+		}
+
+		@Test
+		public void elementsTooLarge() {
+			JsonValidator validator = new BasicJsonValidator(schema(array(integer()))).maxInputSize(10);
+			int[] count = new int[1];
+			ValidationResult result = validator.validateElements(new StringReader("[1, 2, 3, 4, 5, 6, 7]"), r -> count[0]++);
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().get(0), instanceOf(DocumentTooLargeProblem.class));
+		}
+
+		@Test
+		public void pushTooLarge() {
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxInputSize(JSON.length() - 1);
+			PushValidator pushValidator = validator.createPushValidator();
+			assertThat(pushValidator.feed(ByteBuffer.wrap(bytes(JSON))), is(PushValidator.Status.COMPLETED));
+			ValidationResult result = pushValidator.getResult();
+			assertThat(result.isTruncated(), is(true));
+			assertThat(result.getProblems().size(), equalTo(2));
+			assertThat(result.getProblems().get(1), instanceOf(DocumentTooLargeProblem.class));
+
+			validator = new BasicJsonValidator(createSchema()).maxInputSize(JSON.length());
+			pushValidator = validator.createPushValidator();
+			assertThat(pushValidator.feed(ByteBuffer.wrap(bytes(JSON + "    "))), is(PushValidator.Status.COMPLETED));
+			assertThat(pushValidator.getResult().isTruncated(), is(false));
+		}
+
+		@Test(expected = JsonException.class)
+		public void parserTooLarge() {
+			JsonValidator validator = new BasicJsonValidator(createSchema()).maxInputSize(10);
+			try (ValidatingJsonParser parser = validator.createParser(new StringReader(JSON))) {
+				while (parser.hasNext()) {
+					parser.next();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.NestingTooDeepProblem;
+import com.github.i49.hibiscus.problems.StringTooShortProblem;
+import com.github.i49.hibiscus.problems.TooManyItemsProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ReconfigurationTest {
+
+	private static final String JSON = "[[[1]], [[2]]]";
+
+	private static Schema createSchema() {
+		return schema(array(array(array(integer()))));
+	}
+
+	@Test
+	public void limitsAfterValidation() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		assertThat(validator.validate(new StringReader(JSON)).hasProblems(), is(false));
+
+		validator.maxDepth(2);
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertThat(result.isTruncated(), is(true));
+		assertThat(result.getProblems().get(0), instanceOf(NestingTooDeepProblem.class));
+
+		validator.maxDepth(3).maxItems(1);
+		result = validator.validate(new StringReader(JSON));
+		assertThat(result.isTruncated(), is(true));
+		assertThat(result.getProblems().get(0), instanceOf(TooManyItemsProblem.class));
+	}
+
+	@Test
+	public void listenerAndProfilerAfterValidation() {
+		BasicJsonValidator validator = new BasicJsonValidator(schema(array(string().minLength(2).pattern("[0-9]+"))));
+		validator.validate(new StringReader("[\"a\"]"));
+
+		AtomicInteger documents = new AtomicInteger();
+		validator.profileFacets().shortCircuitFacets().listener(new ValidationListener() {
+			@Override
+			public void documentStarted() {
+				documents.incrementAndGet();
+			}
+		});
+		ValidationResult result = validator.validate(new StringReader("[\"a\"]"));
+
+		assertThat(documents.get(), equalTo(1));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(StringTooShortProblem.class));
+		assertThat(validator.getFacetProfile().getEntries().isEmpty(), is(false));
+	}
+}
@@ -0,0 +1,81 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.problems.MissingPropertyProblem;
+import com.github.i49.hibiscus.schema.ObjectType;
+import com.github.i49.hibiscus.schema.Schema;
+import com.github.i49.hibiscus.schema.StringType;
+
+public class SchemaCompilerTest {
+
+	@Test
+	public void sharedTypeIsCompiledOnce() {
+		StringType name = string().maxLength(10);
+		Schema schema = schema(object(required("first", name), optional("middle", array(name)), required("last", name)));
+		CompiledSchema compiled = SchemaCompiler.compile(schema);
+
+		assertThat(compiled.getNumberOfNodes(), equalTo(3));
+		CompiledObjectType root = (CompiledObjectType)compiled.getRootTypes().getType(TypeId.OBJECT);
+		CompiledType first = root.getProperty("first").getTypeSet().getType(TypeId.STRING);
+		CompiledType last = root.getProperty("last").getTypeSet().getType(TypeId.STRING);
+		assertThat(first, sameInstance(last));
+		assertTrue(first.hasFacets());
+		assertThat(compiled.getNode(first.getIndex()), sameInstance(first));
+	}
+
+	@Test
+	public void integerFallsBackToNumber() {
+		Schema schema = schema(array(number(), string()));
+		CompiledSchema compiled = SchemaCompiler.compile(schema);
+
+		CompiledArrayType root = (CompiledArrayType)compiled.getRootTypes().getType(TypeId.ARRAY);
+		CompiledTypeSet items = root.getItemTypes();
+		assertThat(items.getType(TypeId.INTEGER), sameInstance(items.getType(TypeId.NUMBER)));
+		assertNull(items.getType(TypeId.BOOLEAN));
+		assertThat(items.getTypeIds().size(), equalTo(2));
+	}
+
+	@Test
+	public void recursiveType() {
+		ObjectType node = object();
+		node.properties(required("name", string()), optional("children", array(node)));
+		CompiledSchema compiled = SchemaCompiler.compile(schema(node));
+
+		assertThat(compiled.getNumberOfNodes(), equalTo(3));
+		CompiledObjectType root = (CompiledObjectType)compiled.getRootTypes().getType(TypeId.OBJECT);
+		CompiledArrayType children = (CompiledArrayType)root.getProperty("children").getTypeSet().getType(TypeId.ARRAY);
+		assertThat(children.getItemTypes().getType(TypeId.OBJECT), sameInstance(root));
+	}
+
+	@Test
+	public void validateRecursiveType() {
+		ObjectType node = object();
+		node.properties(required("name", string()), optional("children", array(node)));
+		String json = "{\"name\": \"a\", \"children\": [{\"name\": \"b\"}, {\"children\": []}]}";
+		JsonValidator validator = new BasicJsonValidator(schema(node));
+		ValidationResult result = validator.validate(new StringReader(json));
+
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(MissingPropertyProblem.class));
+		assertThat(result.getProblems().get(0).getPointer().toString(), equalTo("/children/1"));
+	}
+
+	@Test
+	public void patternProperty() {
+		Schema schema = schema(object(optional("1st", integer()), pattern("[0-9]th", string())));
+		CompiledSchema compiled = SchemaCompiler.compile(schema);
+
+		CompiledObjectType root = (CompiledObjectType)compiled.getRootTypes().getType(TypeId.OBJECT);
+		assertNotNull(root.getProperty("1st").getTypeSet().getType(TypeId.INTEGER));
+		assertNotNull(root.getProperty("4th").getTypeSet().getType(TypeId.STRING));
+		assertNull(root.getProperty("2nd"));
+	}
+}
@@ -0,0 +1,95 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.formats.Formats;
+import com.github.i49.hibiscus.problems.ArrayDuplicateItemProblem;
+import com.github.i49.hibiscus.problems.ArrayTooShortProblem;
+import com.github.i49.hibiscus.problems.InvalidFormatProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.StringPatternProblem;
+import com.github.i49.hibiscus.problems.StringTooLongProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ShortCircuitFacetsTest {
+
+	private static Schema createSchema(AtomicInteger assertions) {
+		return schema(array(string()
+				.assertion(s -> assertions.incrementAndGet() > 0, (s, locale) -> "never")
+				.format(Formats.email())
+				.pattern("[a-z]+@[a-z.]+")
+				.maxLength(16)
+				));
+	}
+	
+	@Test
+	public void allFacetsByDefault() {
+		AtomicInteger assertions = new AtomicInteger();
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema(assertions));
+		assertFalse(validator.isShortCircuitingFacets());
+		ValidationResult result = validator.validate(new StringReader("[\"this-is-not-an-email-address\"]"));
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(3));
+		assertThat(problems.get(0), instanceOf(InvalidFormatProblem.class));
+		assertThat(problems.get(1), instanceOf(StringPatternProblem.class));
+		assertThat(problems.get(2), instanceOf(StringTooLongProblem.class));
+		assertThat(assertions.get(), equalTo(1));
+	}
+	
+	@Test
+	public void cheapFacetFirst() {
+		AtomicInteger assertions = new AtomicInteger();
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema(assertions)).shortCircuitFacets();
+		assertTrue(validator.isShortCircuitingFacets());
+		ValidationResult result = validator.validate(new StringReader("[\"this-is-not-an-email-address\", \"invalid\"]"));
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(2));
+		assertThat(problems.get(0), instanceOf(StringTooLongProblem.class));
+		assertThat(problems.get(0).getPointer().toString(), equalTo("/0"));
+		assertThat(problems.get(1), instanceOf(InvalidFormatProblem.class));
+		assertThat(problems.get(1).getPointer().toString(), equalTo("/1"));
+		assertThat(assertions.get(), equalTo(0));
+	}
+	
+	@Test
+	public void validValue() {
+		AtomicInteger assertions = new AtomicInteger();
+		JsonValidator validator = new BasicJsonValidator(createSchema(assertions)).shortCircuitFacets();
+		ValidationResult result = validator.validate(new StringReader("[\"john@example.com\"]"));
+		assertFalse(result.hasProblems());
+		assertThat(assertions.get(), equalTo(1));
+	}
+	
+	@Test
+	public void arrayFacets() {
+		Schema schema = schema(array(integer()).unique().minLength(4));
+		JsonValidator validator = new BasicJsonValidator(schema).shortCircuitFacets();
+		ValidationResult result = validator.validate(new StringReader("[1, 2, 1]"));
+		assertThat(result.getProblems().size(), equalTo(1));
+		assertThat(result.getProblems().get(0), instanceOf(ArrayTooShortProblem.class));
+		
+		result = new BasicJsonValidator(schema).validate(new StringReader("[1, 2, 1]"));
+		assertThat(result.getProblems().size(), equalTo(2));
+		assertThat(result.getProblems().get(0), instanceOf(ArrayDuplicateItemProblem.class));
+	}
+	
+	@Test
+	public void withProfile() {
+		AtomicInteger assertions = new AtomicInteger();
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema(assertions)).shortCircuitFacets().profileFacets();
+		ValidationResult result = validator.validate(new StringReader("[\"this-is-not-an-email-address\"]"));
+		assertThat(result.getProblems().size(), equalTo(1));
+		List<FacetProfile.Entry> entries = validator.getFacetProfile().getEntries();
+		assertThat(entries.size(), equalTo(1));
+		assertThat(entries.get(0).getFacet(), equalTo("maxLength(16)"));
+		assertThat(entries.get(0).getFailures(), equalTo(1L));
+	}
+}
@@ -0,0 +1,122 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class SkipValidationTest {
+
+	private static final String JSON = 
+			"{\n" +
+			"  \"metadata\": {\"a\": [1, {\"b\": \"]}\\\"[{\"}], \"c\": \"日本\\u8a9e\", \"d\": {}},\n" +
+			"  \"blob\": [[\"x\", [\"y\"]], {\"z\": null}],\n" +
+			"  \"list\": [{\"any\": [1, 2]}, \"s\"],\n" +
+			"  \"id\": \"1\"\n" +
+			"}";
+
+	private static Schema createSchema() {
+		return schema(object(
+				required("id", integer()),
+				optional("list", array(object().moreProperties(), string()))
+				).moreProperties());
+	}
+	
+	private static void assertProblems(List<Problem> problems) {
+		assertThat(problems.size(), equalTo(1));
+		Problem problem = problems.get(0);
+		assertThat(problem, instanceOf(TypeMismatchProblem.class));
+		assertThat(problem.getPointer().toString(), equalTo("/id"));
+	}
+
+	@Test
+	public void skipOnReader() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		assertProblems(result.getProblems());
+		assertThat(result.getProblems().get(0).getLocation().getLineNumber(), equalTo(5L));
+	}
+
+	@Test
+	public void skipOnBuffer() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		ValidationResult expected = validator.validate(new StringReader(JSON));
+		ValidationResult result = validator.validate(ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8)));
+		assertProblems(result.getProblems());
+		Problem actualProblem = result.getProblems().get(0);
+		Problem expectedProblem = expected.getProblems().get(0);
+		assertThat(actualProblem.getLocation().getLineNumber(), equalTo(expectedProblem.getLocation().getLineNumber()));
+		assertThat(actualProblem.getLocation().getColumnNumber(), equalTo(expectedProblem.getLocation().getColumnNumber()));
+	}
+
+	@Test
+	public void skipOnValue() {
+		JsonValue value;
+		try (JsonReader reader = Json.createReader(new StringReader(JSON))) {
+			value = reader.read();
+		}
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult result = validator.validate(value);
+		assertProblems(result.getProblems());
+	}
+
+	@Test
+	public void skipOnValidatingParser() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		try (ValidatingJsonParser parser = validator.createParser(new StringReader(JSON))) {
+			int events = 0;
+			while (parser.hasNext()) {
+				parser.next();
+				events++;
+			}
+			int expected = 0;
+			try (JsonParser original = Json.createParser(new StringReader(JSON))) {
+				while (original.hasNext()) {
+					original.next();
+					expected++;
+				}
+			}
+			assertThat(events, equalTo(expected));
+			assertProblems(parser.getProblems());
+		}
+	}
+
+	@Test
+	public void buildingIsNotSkipped() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult result = validator.validate(ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8)));
+		assertProblems(result.getProblems());
+		JsonObject metadata = ((JsonObject)result.getValue()).getJsonObject("metadata");
+		assertThat(metadata.getJsonArray("a").getJsonObject(1).getString("b"), equalTo("]}\"[{"));
+		assertThat(metadata.getString("c"), equalTo("日本語"));
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void unclosedContainer() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		validator.validate(ByteBuffer.wrap("{\"metadata\": [1, {\"a\": \"]\"}".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test(expected = JsonParsingException.class)
+	public void mismatchedBracket() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly();
+		validator.validate(ByteBuffer.wrap("{\"metadata\": [1, 2}, \"id\": 1}".getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,195 @@
+package com.github.i49.hibiscus.validation;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParsingException;
+
+import org.junit.Test;
+
+public class Utf8JsonParserTest {
+
+	private static final String[] DOCUMENTS = {
+		"[]",
+		"{}",
+		"[1, -2, 0, 3.14, -0.5e10, 1E0, 12345678901234567890, 9223372036854775807]",
+		"[1.0e1, 1.5e1, 1e1, 1.0e2, 10e-1, 1.00e1, 1.0E+1, -0.0e1, 5e-0, 1.0e0, 1.25e1]",
+		"{\"a\": true, \"b\": false, \"c\": null, \"d\": [[], {}]}",
+		"{\n  \"name\": \"foo\",\n  \"list\": [\"x\", \"y\"]\r\n}",
+		"[\"esc\\\"aped\\\\ \\/ \\b\\f\\n\\r\\t \\u0041\\u00e9\\ud83d\\ude00\"]",
+		"{\"été\": \"日本語\", \"emoji\": \"😀\", \"k\": 1}",
+		"[{\"id\": 1}, {\"id\": 2}, {\"id\": 3}]",
+	};
+	
+	private static ByteBuffer encode(String json) {
+		return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	private static List<Object> collect(JsonParser parser, boolean withLocations) {
+		List<Object> items = new ArrayList<>();
+		while (parser.hasNext()) {
+			Event event = parser.next();
+			items.add(event);
+			if (event == Event.KEY_NAME || event == Event.VALUE_STRING) {
+				items.add(parser.getString());
+			} else if (event == Event.VALUE_NUMBER) {
+				items.add(parser.isIntegralNumber());
+				items.add(parser.getLong());
+				items.add(parser.getInt());
+				items.add(parser.getBigDecimal());
+				items.add(parser.getString());
+			}
+			if (withLocations) {
+				JsonLocation location = parser.getLocation();
+				items.add(location.getLineNumber() + ":" + location.getColumnNumber());
+			}
+		}
+		return items;
+	}
+	
+	@Test
+	public void sameAsProvider() {
+		for (String json: DOCUMENTS) {
+			List<Object> expected = collect(Json.createParser(new StringReader(json)), true);
+			List<Object> actual = collect(new Utf8JsonParser(encode(json)), true);
+			assertThat(json, actual, equalTo(expected));
+		}
+	}
+	
+	@Test
+	public void directBuffer() {
+		for (String json: DOCUMENTS) {
+			byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+			ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+			buffer.put(bytes).flip();
+			List<Object> expected = collect(Json.createParser(new StringReader(json)), false);
+			List<Object> actual = collect(new Utf8JsonParser(buffer), false);
+			assertThat(json, actual, equalTo(expected));
+		}
+	}
+	
+	@Test
+	public void integralWithExponent() {
+		JsonParser parser = new Utf8JsonParser(encode("[1.0e1, 1.5e1, 1e1, 10e-1]"));
+		parser.next();
+		parser.next();
+		assertTrue(parser.isIntegralNumber());
+		assertThat(parser.getLong(), equalTo(10L));
+		parser.next();
+		assertTrue(parser.isIntegralNumber());
+		assertThat(parser.getLong(), equalTo(15L));
+		parser.next();
+		assertFalse(parser.isIntegralNumber());
+		parser.next();
+		assertFalse(parser.isIntegralNumber());
+	}
+	
+	@Test
+	public void byteOffsets() {
+		JsonParser parser = new Utf8JsonParser(encode("[\"é\", 1]"));
+		parser.next();
+		parser.next();
+		assertThat(parser.getLocation().getColumnNumber(), equalTo(5L));
+		assertThat(parser.getLocation().getStreamOffset(), equalTo(5L));
+	}
+	
+	@Test
+	public void byteOrderMark() {
+		byte[] bytes = {(byte)0xEF, (byte)0xBB, (byte)0xBF, '[', '1', ']'};
+		List<Object> actual = collect(new Utf8JsonParser(ByteBuffer.wrap(bytes)), false);
+		assertThat(actual.get(0), equalTo(Event.START_ARRAY));
+		assertThat(actual.get(3), equalTo(1L));
+	}
+	
+	@Test
+	public void atomicRoot() {
+		JsonParser parser = new Utf8JsonParser(encode(" 42 "));
+		try {
+			parser.next();
+			fail();
+		} catch (JsonParsingException e) {
+			assertThat(e.getLocation().getLineNumber(), equalTo(1L));
+			assertThat(e.getLocation().getColumnNumber(), equalTo(2L));
+		}
+	}
+
+	@Test
+	public void stringRoot() {
+		JsonParser parser = new Utf8JsonParser(encode("\"x\""));
+		try {
+			parser.next();
+			fail();
+		} catch (JsonParsingException e) {
+			assertThat(e.getLocation().getStreamOffset(), equalTo(0L));
+		}
+	}
+	
+	@Test
+	public void cachedKeys() {
+		JsonParser parser = new Utf8JsonParser(encode("[{\"name\": 1}, {\"name\": 2}]"));
+		parser.next();
+		parser.next();
+		parser.next();
+		String first = parser.getString();
+		parser.next();
+		parser.next();
+		parser.next();
+		parser.next();
+		assertThat(parser.getString(), sameInstance(first));
+	}
+	
+	@Test
+	public void malformed() {
+		String[] documents = {
+			"",
+			"[1,]",
+			"[1 2]",
+			"{\"a\" 1}",
+			"{\"a\": 1,}",
+			"{1: 2}",
+			"[1}",
+			"[\"abc",
+			"[\"a\\x\"]",
+			"[\"a\\u12G4\"]",
+			"[\"a\tb\"]",
+			"[01]",
+			"[1.]",
+			"[-]",
+			"[1e]",
+			"[tru]",
+			"[nul",
+			"{\"a\": [1, 2}",
+		};
+		for (String json: documents) {
+			try {
+				collect(new Utf8JsonParser(encode(json)), false);
+				fail(json);
+			} catch (JsonParsingException e) {
+				assertThat(e.getLocation(), is(notNullValue()));
+			}
+		}
+	}
+	
+	@Test
+	public void errorLocation() {
+		try {
+			collect(new Utf8JsonParser(encode("[1,\n  }")), false);
+			fail();
+		} catch (JsonParsingException e) {
+			assertThat(e.getLocation().getLineNumber(), equalTo(2L));
+			assertThat(e.getLocation().getColumnNumber(), equalTo(3L));
+			assertThat(e.getLocation().getStreamOffset(), equalTo(6L));
+		}
+	}
+}
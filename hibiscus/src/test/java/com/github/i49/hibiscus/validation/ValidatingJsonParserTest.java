@@ -0,0 +1,147 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.Json;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.MissingPropertyProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.StringTooLongProblem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.problems.UnknownPropertyProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ValidatingJsonParserTest {
+
+	private static final String JSON = 
+			"{\"id\": \"1\", \"tags\": [\"a\", \"toolong\"], \"extra\": {\"x\": [1, 2]}}";
+	
+	private static Schema createSchema() {
+		return schema(object(
+				required("id", integer()), 
+				required("name", string()),
+				optional("tags", array(string().maxLength(3)))
+				));
+	}
+	
+	private static List<Object> collectEvents(JsonParser parser) {
+		List<Object> events = new ArrayList<>();
+		while (parser.hasNext()) {
+			Event event = parser.next();
+			events.add(event);
+			if (event == Event.KEY_NAME || event == Event.VALUE_STRING) {
+				events.add(parser.getString());
+			} else if (event == Event.VALUE_NUMBER) {
+				events.add(parser.getLong());
+			}
+		}
+		return events;
+	}
+
+	@Test
+	public void passesThroughEvents() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<Object> expected = collectEvents(Json.createParser(new StringReader(JSON)));
+		try (ValidatingJsonParser parser = validator.createParser(new StringReader(JSON))) {
+			List<Object> actual = collectEvents(parser);
+			assertThat(actual, equalTo(expected));
+		}
+	}
+	
+	@Test
+	public void sameProblemsAsValidate() {
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult result = validator.validate(new StringReader(JSON));
+		List<Problem> expected = result.getProblems();
+
+		List<Problem> actual = null;
+		try (ValidatingJsonParser parser = validator.createParser(new StringReader(JSON))) {
+			collectEvents(parser);
+			actual = parser.getProblems();
+		}
+		
+		assertThat(actual.size(), equalTo(expected.size()));
+		assertThat(actual.size(), equalTo(4));
+		for (int i = 0; i < expected.size(); i++) {
+			assertThat(actual.get(i).getClass(), equalTo(expected.get(i).getClass()));
+			assertThat(actual.get(i).getPointer().toString(), equalTo(expected.get(i).getPointer().toString()));
+			assertThat(actual.get(i).getLocation().getStreamOffset(), 
+					equalTo(expected.get(i).getLocation().getStreamOffset()));
+		}
+	}
+	
+	@Test
+	public void problemsFoundSoFar() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		try (ValidatingJsonParser parser = validator.createParser(new StringReader(JSON))) {
+			assertFalse(parser.hasProblems());
+			assertThat(parser.next(), equalTo(Event.START_OBJECT));
+			assertThat(parser.next(), equalTo(Event.KEY_NAME));
+			assertFalse(parser.hasProblems());
+			assertThat(parser.next(), equalTo(Event.VALUE_STRING));
+			assertThat(parser.getProblems().size(), equalTo(1));
+			assertThat(parser.getProblems().get(0), instanceOf(TypeMismatchProblem.class));
+			assertThat(parser.getProblems().get(0).getPointer().toString(), equalTo("/id"));
+			
+			while (parser.next() != Event.END_ARRAY) {
+			}
+			assertThat(parser.getProblems().size(), equalTo(2));
+			assertThat(parser.getProblems().get(1), instanceOf(StringTooLongProblem.class));
+			assertThat(parser.getProblems().get(1).getPointer().toString(), equalTo("/tags/1"));
+
+			assertThat(parser.next(), equalTo(Event.KEY_NAME));
+			assertThat(parser.getProblems().size(), equalTo(3));
+			assertThat(parser.getProblems().get(2), instanceOf(UnknownPropertyProblem.class));
+
+			while (parser.hasNext()) {
+				parser.next();
+			}
+			assertThat(parser.getProblems().size(), equalTo(4));
+			assertThat(parser.getProblems().get(3), instanceOf(MissingPropertyProblem.class));
+			assertThat(parser.getProblems().get(3).getPointer().toString(), equalTo(""));
+		}
+	}
+	
+	@Test
+	public void wrapsExistingParser() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		JsonParser original = Json.createParser(new StringReader("{\"id\": 1, \"name\": \"foo\"}"));
+		try (ValidatingJsonParser parser = validator.createParser(original)) {
+			collectEvents(parser);
+			assertFalse(parser.hasProblems());
+			assertFalse(parser.isTruncated());
+		}
+	}
+	
+	@Test
+	public void stopsValidatingAfterLimit() {
+		JsonValidator validator = new BasicJsonValidator(createSchema()).failFast();
+		try (ValidatingJsonParser parser = validator.createParser(new StringReader(JSON))) {
+			List<Object> events = collectEvents(parser);
+			assertThat(events.get(events.size() - 1), equalTo(Event.END_OBJECT));
+			assertThat(parser.getProblems().size(), equalTo(1));
+			assertTrue(parser.isTruncated());
+		}
+	}
+	
+	@Test
+	public void problemsAfterClose() {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidatingJsonParser parser = validator.createParser(new StringReader(JSON));
+		parser.next();
+		parser.next();
+		parser.next();
+		parser.close();
+		assertThat(parser.getProblems().size(), equalTo(1));
+	}
+}
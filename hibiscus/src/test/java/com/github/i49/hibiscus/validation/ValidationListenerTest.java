@@ -0,0 +1,124 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.common.TypeId;
+import com.github.i49.hibiscus.facets.Facet;
+import com.github.i49.hibiscus.facets.MaxLengthFacet;
+import com.github.i49.hibiscus.facets.MinLengthFacet;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.schema.JsonType;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ValidationListenerTest {
+
+	private static Schema createSchema() {
+		return schema(object(
+				required("name", string().minLength(2)),
+				optional("tags", array(string()).maxLength(2))
+				));
+	}
+
+	private static class RecordingListener implements ValidationListener {
+
+		final List<String> events = new ArrayList<>();
+		final List<JsonType> types = new ArrayList<>();
+		final List<Facet<?>> facets = new ArrayList<>();
+		final List<Boolean> passed = new ArrayList<>();
+		final List<Problem> problems = new ArrayList<>();
+
+		@Override
+		public void documentStarted() {
+			events.add("start");
+		}
+
+		@Override
+		public void documentEnded() {
+			events.add("end");
+		}
+
+		@Override
+		public void typeMatched(JsonType type) {
+			types.add(type);
+		}
+
+		@Override
+		public void facetEvaluated(Facet<?> facet, boolean passed, long nanos) {
+			assertTrue(nanos >= 0);
+			this.facets.add(facet);
+			this.passed.add(passed);
+		}
+
+		@Override
+		public void problemReported(Problem problem) {
+			assertNotNull(problem.getPointer());
+			problems.add(problem);
+		}
+	}
+
+	@Test
+	public void receivesNotifications() {
+		RecordingListener listener = new RecordingListener();
+		BasicJsonValidator validator = new BasicJsonValidator(createSchema()).listener(listener);
+		assertThat(validator.getListener(), is(sameInstance((ValidationListener)listener)));
+		ValidationResult result = validator.validate(new StringReader("{\"name\": \"a\", \"tags\": [\"x\", \"y\", \"z\"]}"));
+
+		assertThat(listener.events, equalTo(Arrays.asList("start", "end")));
+		assertThat(listener.types.size(), equalTo(6));
+		assertThat(listener.types.get(0).getTypeId(), is(TypeId.OBJECT));
+		assertThat(listener.types.get(1).getTypeId(), is(TypeId.STRING));
+		assertThat(listener.types.get(2).getTypeId(), is(TypeId.ARRAY));
+
+		assertThat(listener.facets.size(), equalTo(2));
+		assertThat(listener.facets.get(0), instanceOf(MinLengthFacet.class));
+		assertThat(listener.facets.get(1), instanceOf(MaxLengthFacet.class));
+		assertThat(listener.passed, equalTo(Arrays.asList(false, false)));
+
+		assertThat(listener.problems, equalTo(result.getProblems()));
+	}
+
+	@Test
+	public void passedFacets() {
+		RecordingListener listener = new RecordingListener();
+		JsonValidator validator = new BasicJsonValidator(createSchema()).validationOnly().listener(listener);
+		ValidationResult result = validator.validate(new StringReader("{\"name\": \"ab\", \"tags\": [\"x\"]}"));
+		assertFalse(result.hasProblems());
+		assertThat(listener.passed, equalTo(Arrays.asList(true, true)));
+		assertTrue(listener.problems.isEmpty());
+	}
+
+	@Test
+	public void inactiveListener() {
+		RecordingListener listener = new RecordingListener() {
+			@Override
+			public boolean isActive() {
+				return false;
+			}
+		};
+		JsonValidator validator = new BasicJsonValidator(createSchema()).listener(listener);
+		ValidationResult result = validator.validate(new StringReader("{\"name\": \"a\"}"));
+		assertTrue(result.hasProblems());
+		assertTrue(listener.events.isEmpty());
+		assertTrue(listener.types.isEmpty());
+		assertTrue(listener.facets.isEmpty());
+		assertTrue(listener.problems.isEmpty());
+	}
+
+	@Test
+	public void documentPerElement() {
+		RecordingListener listener = new RecordingListener();
+		JsonValidator validator = new BasicJsonValidator(schema(array(integer()))).failFast().listener(listener);
+		validator.validateElements(new StringReader("[1, \"a\", 3]"), r -> {});
+		assertThat(listener.events, equalTo(Arrays.asList("start", "end", "start", "end", "start", "end")));
+		assertThat(listener.problems.size(), equalTo(1));
+	}
+}
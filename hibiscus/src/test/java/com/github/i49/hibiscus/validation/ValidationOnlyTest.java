@@ -0,0 +1,191 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static com.github.i49.hibiscus.validation.Resources.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import javax.json.Json;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.problems.ArrayDuplicateItemProblem;
+import com.github.i49.hibiscus.problems.ArrayTooLongProblem;
+import com.github.i49.hibiscus.problems.ArrayTooShortProblem;
+import com.github.i49.hibiscus.problems.AssertionFailureProblem;
+import com.github.i49.hibiscus.problems.MissingPropertyProblem;
+import com.github.i49.hibiscus.problems.Problem;
+import com.github.i49.hibiscus.problems.StringTooLongProblem;
+import com.github.i49.hibiscus.problems.TypeMismatchProblem;
+import com.github.i49.hibiscus.problems.UnknownPropertyProblem;
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ValidationOnlyTest {
+
+	private static Schema personSchema() {
+		return schema(
+			object(
+				required("firstName", string()),
+				required("lastName", string()),
+				optional("age", integer()),
+				optional("hobbies", array(string()))
+			)
+		);
+	}
+
+	private static BasicJsonValidator newValidator(Schema schema) {
+		return new BasicJsonValidator(schema).validationOnly();
+	}
+
+	@Test
+	public void noProblem() throws IOException {
+		JsonValidator validator = newValidator(personSchema());
+		ValidationResult result = null;
+		try (Reader reader = newReader("person.json")) {
+			result = validator.validate(reader);
+		}
+		assertFalse(result.hasProblems());
+		assertNull(result.getValue());
+	}
+
+	@Test
+	public void missingProperty() throws IOException {
+		JsonValidator validator = newValidator(personSchema());
+		ValidationResult result = null;
+		try (Reader reader = newReader("person-missing-property.json")) {
+			result = validator.validate(reader);
+		}
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(1));
+		assertThat(problems.get(0), instanceOf(MissingPropertyProblem.class));
+		assertThat(((MissingPropertyProblem)problems.get(0)).getPropertyName(), equalTo("lastName"));
+		assertThat(problems.get(0).getPointer().toString(), equalTo(""));
+		assertNotNull(problems.get(0).getLocation());
+	}
+
+	@Test
+	public void typeMismatch() throws IOException {
+		JsonValidator validator = newValidator(personSchema());
+		ValidationResult result = null;
+		try (Reader reader = newReader("person-type-mismatch.json")) {
+			result = validator.validate(reader);
+		}
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(3));
+		assertThat(problems.get(0), instanceOf(TypeMismatchProblem.class));
+		assertThat(problems.get(0).getPointer().toString(), equalTo("/lastName"));
+		assertThat(problems.get(1), instanceOf(TypeMismatchProblem.class));
+		assertThat(problems.get(1).getPointer().toString(), equalTo("/age"));
+		assertThat(problems.get(2), instanceOf(TypeMismatchProblem.class));
+		assertThat(problems.get(2).getPointer().toString(), equalTo("/hobbies"));
+	}
+
+	@Test
+	public void unknownProperty() throws IOException {
+		JsonValidator validator = newValidator(personSchema());
+		ValidationResult result = null;
+		try (Reader reader = newReader("person-unknown-property.json")) {
+			result = validator.validate(reader);
+		}
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(1));
+		assertThat(problems.get(0), instanceOf(UnknownPropertyProblem.class));
+	}
+
+	@Test
+	public void atomicFacet() {
+		Schema schema = schema(object(required("a", array(string().maxLength(3)))));
+		String json = "{\"a\": [\"abc\", \"abcd\"]}";
+		JsonValidator validator = newValidator(schema);
+		ValidationResult result = validator.validate(new StringReader(json));
+
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(1));
+		assertThat(problems.get(0), instanceOf(StringTooLongProblem.class));
+		assertThat(problems.get(0).getPointer().toString(), equalTo("/a/1"));
+		assertThat(problems.get(0).getCauseValue(), equalTo(Json.createArrayBuilder().add("abcd").build().get(0)));
+	}
+
+	@Test
+	public void messageOfAtomicFacet() {
+		Schema schema = schema(array(integer().maxInclusive(10)));
+		String json = "[1, 99, 5]";
+		ValidationResult expected = new BasicJsonValidator(schema).validate(new StringReader(json));
+		ValidationResult actual = newValidator(schema).validate(new StringReader(json));
+
+		assertThat(actual.getProblems().size(), equalTo(1));
+		assertThat(actual.getProblems().get(0).getCauseValue().toString(), equalTo("99"));
+		assertThat(actual.getProblems().get(0).getMessage(), equalTo(expected.getProblems().get(0).getMessage()));
+	}
+
+	@Test
+	public void describerOfContainerFacet() {
+		Schema schema = schema(object(optional("a", integer()))
+				.assertion(o -> o.size() > 1, (o, l) -> "has " + o.size()));
+		ValidationResult result = newValidator(schema).validate(new StringReader("{\"a\": 1}"));
+
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(1));
+		assertThat(problems.get(0), instanceOf(AssertionFailureProblem.class));
+		assertThat(problems.get(0).getDescription(), equalTo("has 1"));
+	}
+
+	@Test
+	public void containerFacet() {
+		Schema schema = schema(object(required("a", array(integer()).minLength(3).unique())));
+		String json = "{\"a\": [1, 1]}";
+		JsonValidator validator = newValidator(schema);
+		ValidationResult result = validator.validate(new StringReader(json));
+
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(2));
+		assertThat(problems.get(0), instanceOf(ArrayTooShortProblem.class));
+		assertThat(problems.get(0).getPointer().toString(), equalTo("/a"));
+		assertThat(problems.get(1), instanceOf(ArrayDuplicateItemProblem.class));
+		assertThat(problems.get(1).getPointer().toString(), equalTo("/a"));
+	}
+
+	@Test
+	public void arrayLengthFacet() {
+		Schema schema = schema(object(required("a", array(integer()).minLength(1).maxLength(2))));
+		String json = "{\"a\": [1, 2, 3]}";
+		JsonValidator validator = newValidator(schema);
+		ValidationResult result = validator.validate(new StringReader(json));
+
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(1));
+		assertThat(problems.get(0), instanceOf(ArrayTooLongProblem.class));
+		assertThat(((ArrayTooLongProblem)problems.get(0)).getActualLength(), equalTo(3));
+		assertThat(problems.get(0).getPointer().toString(), equalTo("/a"));
+		// The array is validated without being built.
+		assertNull(problems.get(0).getCauseValue());
+	}
+
+	@Test
+	public void nestedMissingProperty() {
+		Schema schema = schema(array(object(required("a", integer()), required("b", integer()))));
+		String json = "[{\"a\": 1, \"b\": 2}, {\"b\": 3}, {\"a\": 4}]";
+		JsonValidator validator = newValidator(schema);
+		ValidationResult result = validator.validate(new StringReader(json));
+
+		assertNull(result.getValue());
+		List<Problem> problems = result.getProblems();
+		assertThat(problems.size(), equalTo(2));
+		assertThat(((MissingPropertyProblem)problems.get(0)).getPropertyName(), equalTo("a"));
+		assertThat(problems.get(0).getPointer().toString(), equalTo("/1"));
+		assertThat(((MissingPropertyProblem)problems.get(1)).getPropertyName(), equalTo("b"));
+		assertThat(problems.get(1).getPointer().toString(), equalTo("/2"));
+	}
+}
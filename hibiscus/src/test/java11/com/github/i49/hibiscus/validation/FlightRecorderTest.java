@@ -0,0 +1,136 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.github.i49.hibiscus.facets.AssertionFacet;
+import com.github.i49.hibiscus.schema.JsonType;
+import com.github.i49.hibiscus.schema.Schema;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class FlightRecorderTest {
+
+	private static final String JSON = "{\"name\": \"foo\", \"values\": [1, \"2\", 3]}";
+	
+	@BeforeClass
+	public static void setUpClass() {
+		Assume.assumeTrue(FlightRecording.attach(null, "") != null);
+	}
+	
+	private static Schema createSchema() {
+		return schema(object(
+				required("name", string().assertion(s -> sleep(), (s, locale) -> "slow")),
+				optional("values", array(integer()))
+				));
+	}
+	
+	private static class PersonValidator extends BasicJsonValidator {
+		
+		PersonValidator() {
+			super(createSchema());
+		}
+	}
+	
+	private static boolean sleep() {
+		try {
+			Thread.sleep(2);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return true;
+	}
+	
+	private static List<RecordedEvent> record(JsonValidator validator, String... eventNames) throws IOException {
+		Path path = Files.createTempFile("hibiscus", ".jfr");
+		path.toFile().deleteOnExit();
+		try (Recording recording = new Recording()) {
+			for (String name: eventNames) {
+				recording.enable(name);
+			}
+			recording.start();
+			validator.validate(new StringReader(JSON));
+			validator.validate(JSON.getBytes(StandardCharsets.UTF_8), 0, JSON.length());
+			recording.stop();
+			recording.dump(path);
+		}
+		return RecordingFile.readAllEvents(path).stream()
+				.filter(e -> e.getEventType().getName().startsWith("com.github.i49.hibiscus."))
+				.collect(Collectors.toList());
+	}
+	
+	@Test
+	public void documentEvents() throws IOException {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordedEvent> events = record(validator, ValidationDocumentEvent.NAME);
+		assertThat(events.size(), equalTo(2));
+		for (RecordedEvent event: events) {
+			assertThat(event.getEventType().getName(), equalTo(ValidationDocumentEvent.NAME));
+			assertThat(event.getString("schema"), equalTo(BasicJsonValidator.class.getName()));
+			assertThat(event.getLong("inputSize"), equalTo((long)JSON.length()));
+			assertThat(event.getLong("valueCount"), equalTo(5L));
+			assertThat(event.getInt("problemCount"), equalTo(1));
+			assertTrue(event.getDuration().toNanos() >= event.getLong("facetTime"));
+			assertTrue(event.getLong("facetTime") >= 2000000L);
+		}
+	}
+	
+	@Test
+	public void facetEvents() throws IOException {
+		JsonValidator validator = new PersonValidator();
+		List<RecordedEvent> events = record(validator, ValidationFacetEvent.NAME);
+		assertThat(events.size(), equalTo(2));
+		for (RecordedEvent event: events) {
+			assertThat(event.getString("schema"), equalTo(PersonValidator.class.getName()));
+			assertThat(event.getClass("facet").getName(), equalTo(AssertionFacet.class.getName()));
+			assertThat(event.getBoolean("passed"), is(true));
+			assertTrue(event.getLong("evaluationTime") >= 2000000L);
+		}
+	}
+	
+	@Test
+	public void inactiveListenerIsNotNotified() throws IOException {
+		AtomicInteger notifications = new AtomicInteger();
+		JsonValidator validator = new BasicJsonValidator(createSchema())
+				.listener(new ValidationListener() {
+					@Override
+					public boolean isActive() {
+						return false;
+					}
+					@Override
+					public void documentStarted() {
+						notifications.incrementAndGet();
+					}
+					@Override
+					public void typeMatched(JsonType type) {
+						notifications.incrementAndGet();
+					}
+				});
+		List<RecordedEvent> events = record(validator, ValidationDocumentEvent.NAME);
+		assertThat(events.size(), equalTo(2));
+		assertThat(notifications.get(), equalTo(0));
+	}
+	
+	@Test
+	public void disabledByDefault() throws IOException {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		List<RecordedEvent> events = record(validator);
+		assertTrue(events.isEmpty());
+	}
+}
@@ -0,0 +1,99 @@
+package com.github.i49.hibiscus.validation;
+
+import static com.github.i49.hibiscus.schema.SchemaComponents.*;
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.JsonException;
+
+import org.junit.Test;
+
+import com.github.i49.hibiscus.schema.Schema;
+
+public class ValidatingSubscriberTest {
+
+	private static final String JSON = "{\"name\": \"日本語\", \"values\": [1, \"2\", 3]}";
+
+	private static Schema createSchema() {
+		return schema(object(required("name", string()), optional("values", array(integer()))));
+	}
+
+	private static ValidationResult publish(ValidatingSubscriber subscriber, String json, int chunkSize) throws Exception {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		try (SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+			publisher.subscribe(subscriber);
+			for (int i = 0; i < bytes.length; i += chunkSize) {
+				publisher.submit(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+			}
+		}
+		return subscriber.getResult().get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void validateChunks() throws Exception {
+		JsonValidator validator = new BasicJsonValidator(createSchema());
+		ValidationResult expected = validator.validate(new StringReader(JSON));
+		for (int chunkSize: new int[] {1, 3, 1024}) {
+			ValidationResult actual = publish(new ValidatingSubscriber(validator), JSON, chunkSize);
+			assertThat(actual.getValue(), equalTo(expected.getValue()));
+			assertThat(actual.getProblems().size(), equalTo(1));
+			assertThat(actual.getProblems().get(0).getPointer().toString(), equalTo("/values/1"));
+		}
+	}
+
+	@Test
+	public void requestsOneChunkAtOnce() {
+		ValidatingSubscriber subscriber = new ValidatingSubscriber(new BasicJsonValidator(createSchema()));
+		long[] requested = new long[1];
+		boolean[] cancelled = new boolean[1];
+		subscriber.onSubscribe(new Flow.Subscription() {
+			@Override
+			public void request(long n) {
+				requested[0] += n;
+			}
+			@Override
+			public void cancel() {
+				cancelled[0] = true;
+			}
+		});
+		assertThat(requested[0], equalTo(1L));
+		subscriber.onNext(ByteBuffer.wrap("[1, ".getBytes(StandardCharsets.UTF_8)));
+		assertThat(requested[0], equalTo(2L));
+		assertFalse(subscriber.getResult().isDone());
+		subscriber.onNext(ByteBuffer.wrap("2] ".getBytes(StandardCharsets.UTF_8)));
+		assertThat(requested[0], equalTo(2L));
+		assertTrue(cancelled[0]);
+		assertTrue(subscriber.getResult().isDone());
+	}
+
+	@Test
+	public void incompleteDocument() throws Exception {
+		ValidatingSubscriber subscriber = new ValidatingSubscriber(new BasicJsonValidator(createSchema()));
+		try {
+			publish(subscriber, "{\"name\": ", 4);
+			fail();
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), instanceOf(JsonException.class));
+		}
+	}
+
+	@Test
+	public void publisherError() {
+		ValidatingSubscriber subscriber = new ValidatingSubscriber(new BasicJsonValidator(createSchema()));
+		subscriber.onError(new IllegalStateException());
+		assertTrue(subscriber.getResult().isCompletedExceptionally());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nullValidator() {
+		new ValidatingSubscriber(null);
+	}
+}